@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.bridge;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Description: [以 List 接口访问 {@link JsonArray}，元素按需转换，写操作直接作用于原数组]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 22:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonArrayView extends AbstractList<Object> {
+
+    private final JsonArray array;
+
+    JsonArrayView(JsonArray array) {
+        this.array = array;
+    }
+
+    @Override
+    public Object get(int index) {
+        return JsonBridge.viewOf(array.get(index));
+    }
+
+    @Override
+    public int size() {
+        return array.size();
+    }
+
+    @Override
+    public Object set(int index, Object element) {
+        return JsonBridge.viewOf(array.set(index, JsonBridge.toJsonElement(element)));
+    }
+
+    @Override
+    public void add(int index, Object element) {
+        if (index < 0 || index > array.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + array.size());
+        }
+        // JsonArray 只支持在末尾追加，插入时先移出后半部分
+        List<JsonElement> tail = new ArrayList<>(array.size() - index);
+        while (array.size() > index) {
+            tail.add(array.remove(array.size() - 1));
+        }
+        array.add(JsonBridge.toJsonElement(element));
+        for (int i = tail.size() - 1; i >= 0; i--) {
+            array.add(tail.get(i));
+        }
+        modCount++;
+    }
+
+    @Override
+    public Object remove(int index) {
+        modCount++;
+        return JsonBridge.viewOf(array.remove(index));
+    }
+}
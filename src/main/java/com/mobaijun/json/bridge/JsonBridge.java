@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.bridge;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.mobaijun.json.gson.GsonUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Description: [Gson 与 fastjson 树之间的直接转换，不经过 JSON 字符串]
+ * <p>
+ * 复制模式逐节点转换，数字保持精度：fastjson 的 Integer/Long/BigDecimal 原样放入 {@link JsonPrimitive}，
+ * Gson 解析得到的数字按文本转换为 Integer、Long、BigInteger 或 BigDecimal，与 fastjson 解析结果一致。
+ * 视图模式 {@link #view(JsonObject)} 把 {@link JsonObject} 适配为 {@link JSONObject}，不复制数据，读写都直接作用于原树；
+ * Gson 的 {@link JsonObject} 是 final 类，反方向无法提供视图，只能复制。
+ * Bean 转树时各自使用对应库的序列化规则，即 Gson 侧遵循 {@link GsonUtil} 的命名策略。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 22:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonBridge {
+
+    /**
+     * 将 Gson 树复制为 fastjson 树
+     *
+     * @param object Gson 对象
+     * @return fastjson 对象
+     */
+    public static JSONObject toJSONObject(JsonObject object) {
+        JSONObject result = new JSONObject(true);
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            result.put(entry.getKey(), toFastJson(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * 将 Gson 数组复制为 fastjson 数组
+     *
+     * @param array Gson 数组
+     * @return fastjson 数组
+     */
+    public static JSONArray toJSONArray(JsonArray array) {
+        JSONArray result = new JSONArray(array.size());
+        for (JsonElement element : array) {
+            result.add(toFastJson(element));
+        }
+        return result;
+    }
+
+    /**
+     * 将任意 Gson 节点复制为 fastjson 值
+     *
+     * @param element Gson 节点
+     * @return JSONObject、JSONArray、String、Boolean、Number 或 null
+     */
+    public static Object toFastJson(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+        if (element.isJsonObject()) {
+            return toJSONObject(element.getAsJsonObject());
+        }
+        if (element.isJsonArray()) {
+            return toJSONArray(element.getAsJsonArray());
+        }
+        return toJavaValue(element.getAsJsonPrimitive());
+    }
+
+    /**
+     * 将 fastjson 对象复制为 Gson 对象
+     *
+     * @param object fastjson 对象或任意 Map
+     * @return Gson 对象
+     */
+    public static JsonObject toJsonObject(Map<?, ?> object) {
+        JsonObject result = new JsonObject();
+        for (Map.Entry<?, ?> entry : object.entrySet()) {
+            result.add(String.valueOf(entry.getKey()), toJsonElement(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * 将 fastjson 数组复制为 Gson 数组
+     *
+     * @param array fastjson 数组或任意集合
+     * @return Gson 数组
+     */
+    public static JsonArray toJsonArray(Collection<?> array) {
+        JsonArray result = new JsonArray(array.size());
+        for (Object element : array) {
+            result.add(toJsonElement(element));
+        }
+        return result;
+    }
+
+    /**
+     * 将 fastjson 值转换为 Gson 节点；不是 JSON 树的对象按 Bean 处理
+     *
+     * @param value JSONObject、JSONArray、Map、集合、基本值、null 或 Bean
+     * @return Gson 节点
+     */
+    public static JsonElement toJsonElement(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        }
+        if (value instanceof JsonElement) {
+            return (JsonElement) value;
+        }
+        if (value instanceof Map) {
+            return toJsonObject((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            return toJsonArray((Collection<?>) value);
+        }
+        if (value instanceof Number) {
+            return new JsonPrimitive((Number) value);
+        }
+        if (value instanceof String) {
+            return new JsonPrimitive((String) value);
+        }
+        if (value instanceof Boolean) {
+            return new JsonPrimitive((Boolean) value);
+        }
+        if (value instanceof Character) {
+            return new JsonPrimitive((Character) value);
+        }
+        return beanToJsonElement(value);
+    }
+
+    /**
+     * 将 Bean 直接转换为 Gson 树
+     *
+     * @param bean Bean
+     * @return Gson 树
+     */
+    public static JsonElement beanToJsonElement(Object bean) {
+        return GsonUtil.getGsonInstance().toJsonTree(bean);
+    }
+
+    /**
+     * 将 Bean 直接转换为 fastjson 对象
+     *
+     * @param bean Bean
+     * @return fastjson 对象
+     * @throws IllegalArgumentException Bean 不会序列化为 JSON 对象
+     */
+    public static JSONObject beanToJSONObject(Object bean) {
+        Object tree = JSON.toJSON(bean);
+        if (!(tree instanceof JSONObject)) {
+            throw new IllegalArgumentException("不是 JSON 对象: " + bean.getClass().getName());
+        }
+        return (JSONObject) tree;
+    }
+
+    /**
+     * 以 fastjson 接口访问 Gson 对象，不复制数据；修改会直接写入原 Gson 树
+     *
+     * @param object Gson 对象
+     * @return fastjson 视图
+     */
+    public static JSONObject view(JsonObject object) {
+        return new JSONObject(new JsonObjectView(object));
+    }
+
+    /**
+     * 以 fastjson 接口访问 Gson 数组，不复制数据；修改会直接写入原 Gson 树
+     *
+     * @param array Gson 数组
+     * @return fastjson 视图
+     */
+    public static JSONArray view(JsonArray array) {
+        return new JSONArray(new JsonArrayView(array));
+    }
+
+    /**
+     * 视图中的节点按需转换：容器返回新的视图，基本值返回 Java 值
+     */
+    static Object viewOf(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+        if (element.isJsonObject()) {
+            return view(element.getAsJsonObject());
+        }
+        if (element.isJsonArray()) {
+            return view(element.getAsJsonArray());
+        }
+        return toJavaValue(element.getAsJsonPrimitive());
+    }
+
+    /**
+     * 基本值转换为 Java 值，Gson 解析得到的数字按文本选择与 fastjson 一致的类型
+     */
+    static Object toJavaValue(JsonPrimitive primitive) {
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (!primitive.isNumber()) {
+            return primitive.getAsString();
+        }
+        Number number = primitive.getAsNumber();
+        if (number instanceof Integer || number instanceof Long || number instanceof BigDecimal
+                || number instanceof BigInteger || number instanceof Double || number instanceof Float
+                || number instanceof Short || number instanceof Byte) {
+            return number;
+        }
+        String text = number.toString();
+        if (text.indexOf('.') >= 0 || text.indexOf('e') >= 0 || text.indexOf('E') >= 0) {
+            return new BigDecimal(text);
+        }
+        BigInteger integer = new BigInteger(text);
+        if (integer.bitLength() < Integer.SIZE) {
+            return integer.intValue();
+        }
+        return integer.bitLength() < Long.SIZE ? (Object) integer.longValue() : integer;
+    }
+}
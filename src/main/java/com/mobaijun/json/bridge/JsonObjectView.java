@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.bridge;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: [以 Map 接口访问 {@link JsonObject}，值按需转换，写操作直接作用于原对象]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 22:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonObjectView extends AbstractMap<String, Object> {
+
+    private final JsonObject object;
+
+    JsonObjectView(JsonObject object) {
+        this.object = object;
+    }
+
+    @Override
+    public int size() {
+        return object.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && object.has((String) key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return key instanceof String ? JsonBridge.viewOf(object.get((String) key)) : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        JsonElement previous = object.get(key);
+        object.add(key, JsonBridge.toJsonElement(value));
+        return JsonBridge.viewOf(previous);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return key instanceof String ? JsonBridge.viewOf(object.remove((String) key)) : null;
+    }
+
+    @Override
+    public void clear() {
+        for (String key : new ArrayList<>(object.keySet())) {
+            object.remove(key);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                Iterator<Map.Entry<String, JsonElement>> iterator = object.entrySet().iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        Map.Entry<String, JsonElement> entry = iterator.next();
+                        return new SimpleEntry<String, Object>(entry.getKey(), JsonBridge.viewOf(entry.getValue())) {
+                            @Override
+                            public Object setValue(Object value) {
+                                super.setValue(value);
+                                return JsonBridge.viewOf(entry.setValue(JsonBridge.toJsonElement(value)));
+                            }
+                        };
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return object.size();
+            }
+        };
+    }
+}
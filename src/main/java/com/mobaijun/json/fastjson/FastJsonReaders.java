@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson;
+
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONFactory;
+import com.alibaba.fastjson2.JSONReader;
+import com.alibaba.fastjson2.reader.FieldReader;
+import com.alibaba.fastjson2.reader.ObjectReader;
+import com.alibaba.fastjson2.reader.ObjectReaderCreator;
+import com.mobaijun.json.fastjson.adapter.GeneratedObjectReaderModule;
+import com.mobaijun.json.fastjson.exception.FastJsonException;
+import com.mobaijun.json.util.CompactMap;
+import com.mobaijun.json.util.KeyInterner;
+import com.mobaijun.json.util.PathTree;
+import com.mobaijun.json.util.SubtypeMapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description: [基于 JSONReader 的单次扫描读取，供 FastJsonUtil 跳过未选中的值而不构建中间 JSONObject]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 16:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class FastJsonReaders {
+
+    /**
+     * 编译期生成的读取器没有 FieldReader，投影时改用 FastJson 反射创建的 Bean 读取器
+     */
+    private static final Map<Class<?>, ObjectReader<?>> BEAN_READERS = new ConcurrentHashMap<>();
+
+    private FastJsonReaders() {
+    }
+
+    /**
+     * 单次扫描绑定选中的字段路径，未选中的成员由 {@link JSONReader#skipValue()} 在词法层跳过，
+     * 选中的叶子值通过 FieldReader 直接写入对象
+     *
+     * @param json  JSON字符串
+     * @param type  目标类型的Class
+     * @param paths 字段路径（JSON 中的名称）
+     * @param <V>   泛型类型
+     * @return 反序列化得到的对象
+     */
+    @SuppressWarnings("unchecked")
+    static <V> V readProjected(String json, Class<V> type, Collection<String> paths) {
+        PathTree tree = PathTree.of(paths);
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (reader.nextIfNull()) {
+                return null;
+            }
+            V bean = (V) readObject(reader, beanReader(reader.getObjectReader(type), type), tree);
+            if (!reader.isEnd()) {
+                throw new JSONException(reader.info("trailing content"));
+            }
+            return bean;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readObject(JSONReader reader, ObjectReader objectReader, PathTree tree) {
+        if (!reader.nextIfObjectStart()) {
+            throw new JSONException(reader.info("expect '{'"));
+        }
+        Object bean = objectReader.createInstance(0L);
+        while (!reader.nextIfObjectEnd()) {
+            String name = reader.readFieldName();
+            PathTree child = tree.child(name);
+            FieldReader fieldReader = child == null ? null : objectReader.getFieldReader(name);
+            if (fieldReader == null) {
+                reader.skipValue();
+                continue;
+            }
+            if (child.selectsAll()) {
+                fieldReader.readFieldValue(reader, bean);
+                continue;
+            }
+            if (reader.nextIfNull()) {
+                continue;
+            }
+            if (reader.current() != '{') {
+                // 路径要求对象但实际不是对象，视为不匹配
+                reader.skipValue();
+                continue;
+            }
+            Object value = readObject(reader, beanReader(fieldReader.getObjectReader(reader), fieldReader.fieldClass), child);
+            fieldReader.accept(bean, value);
+        }
+        return bean;
+    }
+
+    private static ObjectReader<?> beanReader(ObjectReader<?> objectReader, Class<?> type) {
+        if (!objectReader.getClass().getName().endsWith(GeneratedObjectReaderModule.SUFFIX)) {
+            return objectReader;
+        }
+        return BEAN_READERS.computeIfAbsent(type, ObjectReaderCreator.INSTANCE::createObjectReader);
+    }
+
+    /**
+     * 按判别字段读取单个多态对象
+     *
+     * @param json    JSON字符串
+     * @param readers 注册时解析好的子类型读取器
+     * @param <T>     基类型
+     * @return 子类型对象，JSON 为 null 时返回 null
+     */
+    static <T> T readPolymorphic(String json, SubtypeReaders<T> readers) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            T value = readers.read(reader);
+            if (!reader.isEnd()) {
+                throw new JSONException(reader.info("trailing content"));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * 按判别字段读取多态对象数组，所有元素在同一个 JSONReader 中读取
+     *
+     * @param json    JSON字符串
+     * @param readers 注册时解析好的子类型读取器
+     * @param <T>     基类型
+     * @return 子类型对象列表，JSON 为 null 时返回 null
+     */
+    static <T> List<T> readPolymorphicList(String json, SubtypeReaders<T> readers) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (reader.nextIfNull()) {
+                return null;
+            }
+            if (!reader.nextIfArrayStart()) {
+                throw new JSONException(reader.info("expect '['"));
+            }
+            List<T> list = new ArrayList<>();
+            while (!reader.nextIfArrayEnd()) {
+                list.add(readers.read(reader));
+            }
+            if (!reader.isEnd()) {
+                throw new JSONException(reader.info("trailing content"));
+            }
+            return list;
+        }
+    }
+
+    /**
+     * 读取 JSON 对象为紧凑 Map，边读取 token 边构建，不经过 JSONObject
+     *
+     * @param json     JSON字符串
+     * @param interner 键驻留表
+     * @return 紧凑 Map，JSON 为 null 时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> readCompactMap(String json, KeyInterner interner) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (reader.nextIfNull()) {
+                return null;
+            }
+            if (reader.current() != '{') {
+                throw new JSONException(reader.info("expect '{'"));
+            }
+            return (Map<String, Object>) readCompact(reader, interner);
+        }
+    }
+
+    /**
+     * 读取 JSON 数组为元素是紧凑 Map 的 List，边读取 token 边构建，不经过 JSONArray
+     *
+     * @param json     JSON字符串
+     * @param interner 键驻留表
+     * @return List，JSON 为 null 时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> readCompactList(String json, KeyInterner interner) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (reader.nextIfNull()) {
+                return null;
+            }
+            if (reader.current() != '[') {
+                throw new JSONException(reader.info("expect '['"));
+            }
+            return (List<Map<String, Object>>) readCompact(reader, interner);
+        }
+    }
+
+    private static Object readCompact(JSONReader reader, KeyInterner interner) {
+        if (reader.nextIfObjectStart()) {
+            CompactMap<Object> compact = new CompactMap<>();
+            Map<String, Object> map = compact;
+            while (!reader.nextIfObjectEnd()) {
+                String key = interner.intern(reader.readFieldName());
+                Object value = readCompact(reader, interner);
+                if (map == compact && compact.size() == CompactMap.MAX_COMPACT_SIZE && !compact.containsKey(key)) {
+                    // 键数量超过阈值，改用哈希表
+                    map = new LinkedHashMap<>(compact);
+                }
+                map.put(key, value);
+            }
+            if (map == compact) {
+                compact.trimToSize();
+            }
+            return map;
+        }
+        if (reader.nextIfArrayStart()) {
+            List<Object> list = new ArrayList<>();
+            while (!reader.nextIfArrayEnd()) {
+                list.add(readCompact(reader, interner));
+            }
+            return list;
+        }
+        if (reader.nextIfNull()) {
+            return null;
+        }
+        // 字符串、数字与布尔值，数字类型与 JSON.parse 一致
+        return reader.readAny();
+    }
+
+    /**
+     * 读取字段路径上的 int 数组，元素直接解析到基本类型缓冲区，不装箱
+     *
+     * @param json JSON字符串
+     * @param path 字段路径，嵌套字段使用 {@code .} 分隔
+     * @return int数组，字段不存在或为 null 时返回 null
+     */
+    static int[] readIntArray(String json, String path) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (!seekArray(reader, path)) {
+                return null;
+            }
+            int[] buffer = new int[16];
+            int size = 0;
+            while (!reader.nextIfArrayEnd()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = reader.readInt32Value();
+            }
+            return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+        }
+    }
+
+    /**
+     * 读取字段路径上的 long 数组，元素直接解析到基本类型缓冲区，不装箱
+     *
+     * @param json JSON字符串
+     * @param path 字段路径，嵌套字段使用 {@code .} 分隔
+     * @return long数组，字段不存在或为 null 时返回 null
+     */
+    static long[] readLongArray(String json, String path) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (!seekArray(reader, path)) {
+                return null;
+            }
+            long[] buffer = new long[16];
+            int size = 0;
+            while (!reader.nextIfArrayEnd()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = reader.readInt64Value();
+            }
+            return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+        }
+    }
+
+    /**
+     * 读取字段路径上的 double 数组，元素直接解析到基本类型缓冲区，不装箱
+     *
+     * @param json JSON字符串
+     * @param path 字段路径，嵌套字段使用 {@code .} 分隔
+     * @return double数组，字段不存在或为 null 时返回 null
+     */
+    static double[] readDoubleArray(String json, String path) {
+        try (JSONReader reader = JSONReader.of(json)) {
+            if (!seekArray(reader, path)) {
+                return null;
+            }
+            double[] buffer = new double[16];
+            int size = 0;
+            while (!reader.nextIfArrayEnd()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, size * 2);
+                }
+                buffer[size++] = reader.readDoubleValue();
+            }
+            return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+        }
+    }
+
+    /**
+     * 沿字段路径定位并进入数组，途经的其他成员由词法分析器跳过
+     *
+     * @return 字段不存在或为 null 时返回 false
+     * @throws FastJsonException 字段不是数组
+     */
+    private static boolean seekArray(JSONReader reader, String path) {
+        for (String name : path.split("\\.")) {
+            if (!reader.nextIfObjectStart()) {
+                return false;
+            }
+            boolean found = false;
+            while (!reader.nextIfObjectEnd()) {
+                if (name.equals(reader.readFieldName())) {
+                    found = true;
+                    break;
+                }
+                reader.skipValue();
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        if (reader.nextIfNull()) {
+            return false;
+        }
+        if (!reader.nextIfArrayStart()) {
+            throw new FastJsonException("FastJson array retrieval error, field %s is not an array", path);
+        }
+        return true;
+    }
+
+    /**
+     * 多态基类型的子类型读取器，在注册时解析，读取时不再查找
+     * <p>
+     * 读取时先记下对象起点，在词法层跳过判别字段之前的成员，找到判别字段后回到起点，
+     * 由子类型的 ObjectReader 在同一个 JSONReader 上读取整个对象；不会构建中间 JSONObject，
+     * 判别字段之前的成员只做一次词法跳过。
+     *
+     * @param <T> 基类型
+     */
+    static final class SubtypeReaders<T> {
+
+        private final SubtypeMapping<T> mapping;
+
+        private final Map<String, ObjectReader<? extends T>> readers;
+
+        @SuppressWarnings("unchecked")
+        SubtypeReaders(SubtypeMapping<T> mapping) {
+            this.mapping = mapping;
+            Map<String, ObjectReader<? extends T>> resolved = new HashMap<>();
+            for (Map.Entry<String, Class<? extends T>> entry : mapping.getSubtypes().entrySet()) {
+                resolved.put(entry.getKey(), JSONFactory.getDefaultObjectReaderProvider().getObjectReader(entry.getValue()));
+            }
+            this.readers = resolved;
+        }
+
+        private T read(JSONReader reader) {
+            if (reader.nextIfNull()) {
+                return null;
+            }
+            if (reader.current() != '{') {
+                throw new JSONException(reader.info("expect '{'"));
+            }
+            JSONReader.SavePoint start = reader.mark();
+            reader.nextIfObjectStart();
+            while (!reader.nextIfObjectEnd()) {
+                if (!mapping.getDiscriminator().equals(reader.readFieldName())) {
+                    reader.skipValue();
+                    continue;
+                }
+                char current = reader.current();
+                String label = current == '{' || current == '[' ? null : reader.readString();
+                if (label == null) {
+                    break;
+                }
+                ObjectReader<? extends T> objectReader = readers.get(label);
+                if (objectReader == null) {
+                    throw new FastJsonException("Unknown subtype label '%s' for %s", label, mapping.getBaseType().getName());
+                }
+                reader.reset(start);
+                return objectReader.readObject(reader, mapping.typeOf(label), null, 0L);
+            }
+            throw new FastJsonException("Missing discriminator '%s' for %s", mapping.getDiscriminator(), mapping.getBaseType().getName());
+        }
+    }
+}
@@ -20,14 +20,32 @@ import com.alibaba.fastjson.JSONArray;
 import com.alibaba.fastjson.JSONObject;
 import com.alibaba.fastjson.TypeReference;
 import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONFactory;
+import com.mobaijun.json.fastjson.adapter.GeneratedObjectReaderModule;
+import com.mobaijun.json.fastjson.adapter.GeneratedObjectWriterModule;
+import com.mobaijun.json.fastjson.adapter.JsonBinaryObjectReader;
+import com.mobaijun.json.fastjson.adapter.JsonBinaryObjectWriter;
 import com.mobaijun.json.fastjson.exception.FastJsonException;
+import com.mobaijun.json.fastjson.patch.FastJsonPatch;
+import com.mobaijun.json.parallel.ParallelJsonLinesReader;
+import com.mobaijun.json.util.Base64Streams;
+import com.mobaijun.json.util.JsonBinary;
+import com.mobaijun.json.util.KeyInterner;
+import com.mobaijun.json.util.SubtypeMapping;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Description: [ FastJson工具类，提供JSON序列化和反序列化的方法 ]
@@ -37,6 +55,25 @@ import java.util.List;
  */
 public class FastJsonUtil {
 
+    /**
+     * 紧凑 Map 使用的有界键驻留表
+     */
+    private static final KeyInterner KEY_INTERNER = new KeyInterner();
+
+    /**
+     * 多态基类型对应的子类型读取器，注册时解析
+     */
+    private static final Map<Class<?>, FastJsonReaders.SubtypeReaders<?>> SUBTYPE_READERS = new ConcurrentHashMap<>();
+
+    static {
+        // 标注 @GenerateAdapter 的实体类使用编译期生成的读写器
+        JSONFactory.getDefaultObjectReaderProvider().register(new GeneratedObjectReaderModule());
+        JSONFactory.getDefaultObjectWriterProvider().register(new GeneratedObjectWriterModule());
+        // JsonBinary 以 Base64 字符串读写
+        JSONFactory.getDefaultObjectReaderProvider().register(JsonBinary.class, JsonBinaryObjectReader.INSTANCE);
+        JSONFactory.getDefaultObjectWriterProvider().register(JsonBinary.class, JsonBinaryObjectWriter.INSTANCE);
+    }
+
     /**
      * 从输入流中反序列化JSON
      *
@@ -95,6 +132,32 @@ public class FastJsonUtil {
         return JSON.parseObject(json, typeReference.getType());
     }
 
+    /**
+     * 从JSON字符串中反序列化对象，只绑定选中的字段路径，其余字段保留默认值
+     * <p>
+     * 单次扫描 JSON，未选中的成员由词法分析器直接跳过，选中的值通过字段读取器直接写入对象，不构建中间 JSONObject；
+     * 路径只能指向对象成员（例如 {@code user.name}），不支持穿过数组。路径集合为 List 或 Set 时按内容缓存解析结果。
+     * 若只需要整体字段，直接使用只声明这些字段的投影类调用 {@link #toBean(String, Class)} 即可，
+     * FastJson 会在词法层跳过投影类中不存在的字段。
+     *
+     * @param json  JSON字符串
+     * @param type  目标类型的Class
+     * @param paths 字段路径（JSON 中的名称）
+     * @param <V>   泛型类型
+     * @return 反序列化得到的对象
+     * @throws FastJsonException 投影异常
+     */
+    public static <V> V toBean(String json, Class<V> type, Collection<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            throw new IllegalArgumentException("投影字段不能为空");
+        }
+        try {
+            return FastJsonReaders.readProjected(json, type, paths);
+        } catch (Exception e) {
+            throw new FastJsonException("FastJson projection error, type: %s, paths: %s", e, type, paths);
+        }
+    }
+
     /**
      * 从JSON字符串中反序列化List对象
      *
@@ -107,6 +170,167 @@ public class FastJsonUtil {
         return JSON.parseArray(json, type);
     }
 
+    /**
+     * 注册多态基类型的子类型，供 {@link #toPolymorphicBean(String, Class)} 和 {@link #toPolymorphicList(String, Class)} 使用；
+     * 子类型的 ObjectReader 在注册时解析
+     *
+     * @param baseType      基类型
+     * @param discriminator 判别字段名，例如 {@code type}
+     * @param subtypes      标签到子类型的映射
+     * @param <T>           基类型
+     */
+    public static <T> void registerSubtypes(Class<T> baseType, String discriminator, Map<String, Class<? extends T>> subtypes) {
+        SUBTYPE_READERS.put(baseType, new FastJsonReaders.SubtypeReaders<>(new SubtypeMapping<>(baseType, discriminator, subtypes)));
+    }
+
+    /**
+     * 按判别字段反序列化为已注册的子类型，判别字段可以出现在对象的任意位置。
+     * 在一个 JSONReader 上单次读取：判别字段之前的成员在词法层跳过，找到后回到对象起点交给子类型的 ObjectReader，不构建 JSONObject
+     *
+     * @param json     JSON字符串
+     * @param baseType 已注册的基类型
+     * @param <T>      基类型
+     * @return 子类型对象
+     * @throws FastJsonException 基类型未注册、缺少判别字段或标签未注册
+     */
+    public static <T> T toPolymorphicBean(String json, Class<T> baseType) {
+        return FastJsonReaders.readPolymorphic(json, subtypeReaders(baseType));
+    }
+
+    /**
+     * 按判别字段把 JSON 数组反序列化为已注册子类型的列表，所有元素在同一个 JSONReader 中读取
+     *
+     * @param json     JSON字符串
+     * @param baseType 已注册的基类型
+     * @param <T>      基类型
+     * @return 子类型对象列表
+     * @throws FastJsonException 基类型未注册、缺少判别字段或标签未注册
+     */
+    public static <T> List<T> toPolymorphicList(String json, Class<T> baseType) {
+        return FastJsonReaders.readPolymorphicList(json, subtypeReaders(baseType));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> FastJsonReaders.SubtypeReaders<T> subtypeReaders(Class<T> baseType) {
+        FastJsonReaders.SubtypeReaders<T> readers = (FastJsonReaders.SubtypeReaders<T>) SUBTYPE_READERS.get(baseType);
+        if (readers == null) {
+            throw new FastJsonException("Unregistered polymorphic type: %s", baseType.getName());
+        }
+        return readers;
+    }
+
+    /**
+     * 多核并行读取未压缩的 JSON Lines 文件，结果保持文件顺序
+     *
+     * @param path 文件路径
+     * @param type 目标类型的Class
+     * @param <V>  泛型类型
+     * @return 反序列化得到的对象列表
+     * @throws FastJsonException 读取或反序列化异常
+     */
+    public static <V> List<V> toJsonLinesListParallel(String path, Class<V> type) {
+        try {
+            return new ParallelJsonLinesReader<>(line -> JSON.parseObject(line, type)).read(path);
+        } catch (UncheckedIOException | IllegalStateException e) {
+            throw new FastJsonException("Error while reading JSON Lines file in parallel. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 多核并行读取未压缩的 JSON Lines 文件，不保证顺序，action 在工作线程上并发执行
+     *
+     * @param path   文件路径
+     * @param type   目标类型的Class
+     * @param action 对每个对象执行的操作，必须是线程安全的
+     * @param <V>    泛型类型
+     * @throws FastJsonException 读取或反序列化异常
+     */
+    public static <V> void forEachJsonLineParallel(String path, Class<V> type, Consumer<? super V> action) {
+        try {
+            new ParallelJsonLinesReader<>(line -> JSON.parseObject(line, type)).forEach(path, action);
+        } catch (UncheckedIOException | IllegalStateException e) {
+            throw new FastJsonException("Error while reading JSON Lines file in parallel. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 从JSON数组字符串中反序列化为int数组，由 FastJson 的基本类型数组读取器直接解析
+     *
+     * @param json JSON数组字符串
+     * @return int数组
+     */
+    public static int[] toIntArray(String json) {
+        return JSON.parseObject(json, int[].class);
+    }
+
+    /**
+     * 从JSON字符串中获取指定字段路径的int数组，由 JSONReader 定位字段后直接解析为基本类型，元素不装箱
+     *
+     * @param json JSON字符串
+     * @param key  字段路径，嵌套字段使用 {@code .} 分隔
+     * @return int数组，字段不存在时返回 null
+     * @throws FastJsonException 解析异常
+     */
+    public static int[] toIntArray(String json, String key) {
+        try {
+            return FastJsonReaders.readIntArray(json, key);
+        } catch (JSONException | NumberFormatException e) {
+            throw new FastJsonException("FastJson array retrieval error, field: %s", e, key);
+        }
+    }
+
+    /**
+     * 从JSON数组字符串中反序列化为long数组，由 FastJson 的基本类型数组读取器直接解析
+     *
+     * @param json JSON数组字符串
+     * @return long数组
+     */
+    public static long[] toLongArray(String json) {
+        return JSON.parseObject(json, long[].class);
+    }
+
+    /**
+     * 从JSON字符串中获取指定字段路径的long数组，由 JSONReader 定位字段后直接解析为基本类型，元素不装箱
+     *
+     * @param json JSON字符串
+     * @param key  字段路径，嵌套字段使用 {@code .} 分隔
+     * @return long数组，字段不存在时返回 null
+     * @throws FastJsonException 解析异常
+     */
+    public static long[] toLongArray(String json, String key) {
+        try {
+            return FastJsonReaders.readLongArray(json, key);
+        } catch (JSONException | NumberFormatException e) {
+            throw new FastJsonException("FastJson array retrieval error, field: %s", e, key);
+        }
+    }
+
+    /**
+     * 从JSON数组字符串中反序列化为double数组，由 FastJson 的基本类型数组读取器直接解析
+     *
+     * @param json JSON数组字符串
+     * @return double数组
+     */
+    public static double[] toDoubleArray(String json) {
+        return JSON.parseObject(json, double[].class);
+    }
+
+    /**
+     * 从JSON字符串中获取指定字段路径的double数组，由 JSONReader 定位字段后直接解析为基本类型，元素不装箱
+     *
+     * @param json JSON字符串
+     * @param key  字段路径，嵌套字段使用 {@code .} 分隔
+     * @return double数组，字段不存在时返回 null
+     * @throws FastJsonException 解析异常
+     */
+    public static double[] toDoubleArray(String json, String key) {
+        try {
+            return FastJsonReaders.readDoubleArray(json, key);
+        } catch (JSONException | NumberFormatException e) {
+            throw new FastJsonException("FastJson array retrieval error, field: %s", e, key);
+        }
+    }
+
     /**
      * 从JSON字符串中反序列化为Map对象
      *
@@ -118,6 +342,39 @@ public class FastJsonUtil {
         });
     }
 
+    /**
+     * 从JSON字符串中反序列化为紧凑的Map对象
+     * <p>
+     * 键经过有界驻留表规范化，键较少的对象使用数组实现的 Map，嵌套数组转换为 ArrayList；
+     * 由 JSONReader 逐个读取 token 直接构建结果，不经过中间的 JSONObject/JSONArray。
+     *
+     * @param json JSON字符串
+     * @return 反序列化得到的Map对象
+     * @throws FastJsonException 解析异常
+     */
+    public static Map<String, Object> toCompactMap(String json) {
+        try {
+            return FastJsonReaders.readCompactMap(json, KEY_INTERNER);
+        } catch (Exception e) {
+            throw new FastJsonException("FastJson compact map error, JSON: %s", e, json);
+        }
+    }
+
+    /**
+     * 从JSON字符串中反序列化为元素是紧凑Map的List对象
+     *
+     * @param json JSON字符串
+     * @return 反序列化得到的List对象
+     * @throws FastJsonException 解析异常
+     */
+    public static List<Map<String, Object>> toCompactListMap(String json) {
+        try {
+            return FastJsonReaders.readCompactList(json, KEY_INTERNER);
+        } catch (Exception e) {
+            throw new FastJsonException("FastJson compact list map error, JSON: %s", e, json);
+        }
+    }
+
     /**
      * 将对象序列化为JSON字符串
      *
@@ -458,6 +715,65 @@ public class FastJsonUtil {
         return jsonObject.toString();
     }
 
+    /**
+     * 比较两个JSON字符串，生成RFC 6902补丁
+     *
+     * @param source 原JSON字符串
+     * @param target 目标JSON字符串
+     * @param idKey  数组元素的id字段名，数组按id匹配元素；为null时按下标比较
+     * @return RFC 6902补丁的JSON字符串
+     */
+    public static String diff(String source, String target, String idKey) {
+        return FastJsonPatch.diff(JSON.parse(source), JSON.parse(target), idKey).toJSONString();
+    }
+
+    /**
+     * 比较两个对象的JSON表示，生成RFC 6902补丁，对象直接转换为JSON树，不经过字符串
+     *
+     * @param source 原对象
+     * @param target 目标对象
+     * @param idKey  数组元素的id字段名，为null时按下标比较
+     * @return RFC 6902补丁
+     */
+    public static JSONArray diffBean(Object source, Object target, String idKey) {
+        return FastJsonPatch.diff(JSON.toJSON(source), JSON.toJSON(target), idKey);
+    }
+
+    /**
+     * 将RFC 6902补丁应用到JSON字符串
+     *
+     * @param json  JSON字符串
+     * @param patch RFC 6902补丁的JSON字符串
+     * @return 应用补丁后的JSON字符串
+     * @throws FastJsonException 补丁格式错误或操作失败
+     */
+    public static String patch(String json, String patch) {
+        try {
+            return JSON.toJSONString(FastJsonPatch.apply(JSON.parse(json), JSON.parseArray(patch)));
+        } catch (FastJsonException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // 文档或补丁不是合法 JSON、补丁不是数组、JSON Pointer 格式错误
+            throw new FastJsonException("FastJson patch error, patch: %s", e, patch);
+        }
+    }
+
+    /**
+     * 定位JSON中的Base64字段，返回边读边解码的输入流，不会把字段读成字符串
+     *
+     * @param reader JSON输入，关闭返回的输入流时一并关闭
+     * @param path   {@code .} 分隔的字段路径，例如 {@code attachment.content}
+     * @return 解码输入流，字段不存在或为null时返回null
+     * @throws FastJsonException 如果读取出现异常
+     */
+    public static InputStream openBinaryField(Reader reader, String path) {
+        try {
+            return Base64Streams.openField(reader, path);
+        } catch (IOException e) {
+            throw new FastJsonException("Error while locating binary field. Path: %s", e, path);
+        }
+    }
+
     /**
      * 格式化JSON字符串（美化）
      *
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson.adapter;
+
+import com.mobaijun.json.fastjson.exception.FastJsonException;
+import com.mobaijun.json.gson.annotation.GenerateAdapter;
+import com.mobaijun.json.util.GeneratedNames;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+
+/**
+ * Description: [加载编译期生成的 FastJson 读写器]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class GeneratedClasses {
+
+    private GeneratedClasses() {
+    }
+
+    /**
+     * 实例化标注了 {@link GenerateAdapter} 的类型对应的生成类
+     *
+     * @param type   目标类型
+     * @param suffix 生成类名后缀
+     * @return 生成类实例，非标注类型或未经注解处理器编译时返回 null
+     */
+    static Object instantiate(Type type, String suffix) {
+        if (!(type instanceof Class) || !((Class<?>) type).isAnnotationPresent(GenerateAdapter.class)) {
+            return null;
+        }
+        Class<?> rawType = (Class<?>) type;
+        Class<?> generated;
+        try {
+            generated = Class.forName(GeneratedNames.of(rawType, suffix), true, rawType.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            // 未经注解处理器编译，交由 FastJson 自身的读写器处理
+            return null;
+        }
+        try {
+            return generated.getConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new FastJsonException("Error while creating generated codec. Type: %s", e, rawType.getName());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson.adapter;
+
+import com.alibaba.fastjson2.modules.ObjectWriterModule;
+import com.alibaba.fastjson2.writer.ObjectWriter;
+import com.mobaijun.json.gson.annotation.GenerateAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Description: [向 FastJson 提供编译期生成的 ObjectWriter 的模块]
+ * <p>
+ * 只处理标注了 {@link GenerateAdapter} 的类，找不到生成类时返回 null，交由 FastJson 自身的写出器处理。
+ * 结果由 ObjectWriterProvider 缓存，每个类型只加载一次生成类。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class GeneratedObjectWriterModule implements ObjectWriterModule {
+
+    /**
+     * 生成类名后缀
+     */
+    public static final String SUFFIX = "_FastJsonObjectWriter";
+
+    @Override
+    public ObjectWriter getObjectWriter(Type objectType, Class objectClass) {
+        return (ObjectWriter) GeneratedClasses.instantiate(objectClass != null ? objectClass : objectType, SUFFIX);
+    }
+}
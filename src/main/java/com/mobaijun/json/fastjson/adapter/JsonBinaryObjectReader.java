@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson.adapter;
+
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONReader;
+import com.alibaba.fastjson2.reader.ObjectReader;
+import com.mobaijun.json.util.Base64Streams;
+import com.mobaijun.json.util.JsonBinary;
+
+import java.lang.reflect.Type;
+import java.util.Base64;
+
+/**
+ * Description: [JsonBinary 的 FastJson Base64 读取器]
+ * <p>
+ * 读取时解码为字节数组，需要流式读取大字段时使用 {@link Base64Streams#openField(java.io.Reader, String)}。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 16:50]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonBinaryObjectReader implements ObjectReader<JsonBinary> {
+
+    public static final JsonBinaryObjectReader INSTANCE = new JsonBinaryObjectReader();
+
+    @Override
+    public JsonBinary readObject(JSONReader jsonReader, Type fieldType, Object fieldName, long features) {
+        if (jsonReader.nextIfNull()) {
+            return null;
+        }
+        try {
+            return JsonBinary.of(Base64.getDecoder().decode(jsonReader.readString()));
+        } catch (IllegalArgumentException e) {
+            throw new JSONException(jsonReader.info("Illegal base64 value"), e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson.adapter;
+
+import com.alibaba.fastjson2.JSONException;
+import com.alibaba.fastjson2.JSONWriter;
+import com.alibaba.fastjson2.writer.ObjectWriter;
+import com.mobaijun.json.util.Base64Streams;
+import com.mobaijun.json.util.JsonBinary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+
+/**
+ * Description: [JsonBinary 的 FastJson Base64 写出器]
+ * <p>
+ * FastJson 在内存中构建完整输出，Base64 只能作为字符串写出；内容从数据源边读边编码，不会额外复制一份原始字节。
+ * 需要流式写出大字段时使用 GsonUtil 写入 Writer。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 16:50]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonBinaryObjectWriter implements ObjectWriter<JsonBinary> {
+
+    public static final JsonBinaryObjectWriter INSTANCE = new JsonBinaryObjectWriter();
+
+    @Override
+    public void write(JSONWriter jsonWriter, Object object, Object fieldName, Type fieldType, long features) {
+        if (object == null) {
+            jsonWriter.writeNull();
+            return;
+        }
+        StringWriter writer = new StringWriter();
+        try (InputStream in = ((JsonBinary) object).openStream()) {
+            Base64Streams.encode(in, writer);
+        } catch (IOException e) {
+            throw new JSONException("Error while encoding binary field " + fieldName, e);
+        }
+        jsonWriter.writeString(writer.toString());
+    }
+}
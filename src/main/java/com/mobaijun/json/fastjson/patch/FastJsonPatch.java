@@ -0,0 +1,419 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson.patch;
+
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.mobaijun.json.fastjson.exception.FastJsonException;
+import com.mobaijun.json.util.JsonPointer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Description: [基于 FastJson 树的 RFC 6902 JSON Patch 生成与应用]
+ * <p>
+ * 比较规则与 Gson 版本的 JsonDiff 一致：对象逐字段递归比较，数组在指定 id 字段时按 id 匹配，否则按下标比较；
+ * 应用补丁时直接修改 JSONObject/JSONArray。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 17:48]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class FastJsonPatch {
+
+    private final String idKey;
+
+    private final JSONArray patch = new JSONArray();
+
+    private FastJsonPatch(String idKey) {
+        this.idKey = idKey;
+    }
+
+    /**
+     * 生成从 source 变换到 target 的补丁
+     *
+     * @param source 原文档（JSONObject、JSONArray 或基本值）
+     * @param target 目标文档
+     * @param idKey  数组元素的 id 字段名，为 null 时数组按下标比较
+     * @return RFC 6902 补丁
+     */
+    public static JSONArray diff(Object source, Object target, String idKey) {
+        FastJsonPatch fastJsonPatch = new FastJsonPatch(idKey);
+        fastJsonPatch.diff("", source, target);
+        return fastJsonPatch.patch;
+    }
+
+    /**
+     * 将补丁应用到文档，文档会被直接修改；替换根节点时返回新的根
+     * <p>
+     * 不是原子操作：某个操作失败时抛出异常，此前的操作已经写入文档，文档停留在部分应用的状态。
+     *
+     * @param document 文档（JSONObject 或 JSONArray），操作失败时可能只应用了部分操作
+     * @param patch    RFC 6902 补丁
+     * @return 应用补丁后的文档
+     * @throws FastJsonException 补丁格式错误或操作失败
+     */
+    public static Object apply(Object document, JSONArray patch) {
+        Object root = document;
+        for (Object element : patch) {
+            if (!(element instanceof Map)) {
+                throw new FastJsonException("Patch operation must be an object: %s", element);
+            }
+            Map<?, ?> operation = (Map<?, ?>) element;
+            String op = string(operation, "op");
+            String path = string(operation, "path");
+            switch (op) {
+                case "add":
+                    root = add(root, path, copy(value(operation)));
+                    break;
+                case "remove":
+                    remove(root, path);
+                    break;
+                case "replace":
+                    root = replace(root, path, copy(value(operation)));
+                    break;
+                case "move": {
+                    String from = string(operation, "from");
+                    if (path.startsWith(from + "/")) {
+                        throw new FastJsonException("Cannot move %s into its own child %s", from, path);
+                    }
+                    root = add(root, path, remove(root, from));
+                    break;
+                }
+                case "copy":
+                    root = add(root, path, copy(get(root, string(operation, "from"))));
+                    break;
+                case "test":
+                    if (!valueEquals(get(root, path), value(operation))) {
+                        throw new FastJsonException("Test operation failed at %s", path);
+                    }
+                    break;
+                default:
+                    throw new FastJsonException("Unsupported patch operation: %s", op);
+            }
+        }
+        return root;
+    }
+
+    private void diff(String path, Object source, Object target) {
+        if (valueEquals(source, target)) {
+            return;
+        }
+        if (source instanceof Map && target instanceof Map) {
+            Map<?, ?> sourceMap = (Map<?, ?>) source;
+            Map<?, ?> targetMap = (Map<?, ?>) target;
+            for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+                String childPath = path + "/" + JsonPointer.escape(String.valueOf(entry.getKey()));
+                if (!targetMap.containsKey(entry.getKey())) {
+                    addOperation("remove", childPath, null, false);
+                } else {
+                    diff(childPath, entry.getValue(), targetMap.get(entry.getKey()));
+                }
+            }
+            for (Map.Entry<?, ?> entry : targetMap.entrySet()) {
+                if (!sourceMap.containsKey(entry.getKey())) {
+                    addOperation("add", path + "/" + JsonPointer.escape(String.valueOf(entry.getKey())), entry.getValue(), true);
+                }
+            }
+        } else if (source instanceof List && target instanceof List) {
+            List<?> sourceList = (List<?>) source;
+            List<?> targetList = (List<?>) target;
+            if (idKey == null || !diffKeyed(path, sourceList, targetList)) {
+                diffIndexed(path, sourceList, targetList);
+            }
+        } else {
+            addOperation("replace", path, target, true);
+        }
+    }
+
+    private void diffIndexed(String path, List<?> source, List<?> target) {
+        int common = Math.min(source.size(), target.size());
+        for (int i = 0; i < common; i++) {
+            diff(path + "/" + i, source.get(i), target.get(i));
+        }
+        for (int i = source.size() - 1; i >= common; i--) {
+            addOperation("remove", path + "/" + i, null, false);
+        }
+        for (int i = common; i < target.size(); i++) {
+            addOperation("add", path + "/-", target.get(i), true);
+        }
+    }
+
+    /**
+     * 按 id 匹配数组元素，元素缺少 id 或 id 不唯一时返回 false，由调用方按下标比较
+     */
+    private boolean diffKeyed(String path, List<?> source, List<?> target) {
+        Map<String, Object> sourceById = new HashMap<>();
+        List<String> working = new ArrayList<>(source.size());
+        for (Object element : source) {
+            String id = id(element);
+            if (id == null || sourceById.put(id, element) != null) {
+                return false;
+            }
+            working.add(id);
+        }
+        Set<String> targetIds = new HashSet<>();
+        for (Object element : target) {
+            String id = id(element);
+            if (id == null || !targetIds.add(id)) {
+                return false;
+            }
+        }
+        for (int i = working.size() - 1; i >= 0; i--) {
+            if (!targetIds.contains(working.get(i))) {
+                addOperation("remove", path + "/" + i, null, false);
+                working.remove(i);
+            }
+        }
+        for (int j = 0; j < target.size(); j++) {
+            Object targetElement = target.get(j);
+            String id = id(targetElement);
+            Object sourceElement = sourceById.get(id);
+            if (sourceElement == null) {
+                addOperation("add", path + "/" + j, targetElement, true);
+                working.add(j, id);
+                continue;
+            }
+            int current = working.indexOf(id);
+            if (current != j) {
+                JSONObject operation = new JSONObject(true);
+                operation.put("op", "move");
+                operation.put("from", path + "/" + current);
+                operation.put("path", path + "/" + j);
+                patch.add(operation);
+                working.remove(current);
+                working.add(j, id);
+            }
+            diff(path + "/" + j, sourceElement, targetElement);
+        }
+        return true;
+    }
+
+    private String id(Object element) {
+        if (!(element instanceof Map)) {
+            return null;
+        }
+        Object id = ((Map<?, ?>) element).get(idKey);
+        if (id == null || id instanceof Map || id instanceof List) {
+            return null;
+        }
+        // 数字规范化后比较，Integer、Long 与 1.0 视为同一 id；类型前缀区分数字 1 与字符串 "1"
+        if (id instanceof Number) {
+            return "n:" + normalize((Number) id).stripTrailingZeros().toPlainString();
+        }
+        return (id instanceof Boolean ? "b:" : "s:") + id;
+    }
+
+    private void addOperation(String op, String path, Object value, boolean withValue) {
+        JSONObject operation = new JSONObject(true);
+        operation.put("op", op);
+        operation.put("path", path);
+        if (withValue) {
+            operation.put("value", copy(value));
+        }
+        patch.add(operation);
+    }
+
+    private static Object get(Object root, String path) {
+        Object current = root;
+        for (String token : JsonPointer.parse(path)) {
+            current = child(current, token, path);
+        }
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object add(Object root, String path, Object value) {
+        List<String> tokens = JsonPointer.parse(path);
+        if (tokens.isEmpty()) {
+            return value;
+        }
+        Object parent = parent(root, tokens, path);
+        String last = tokens.get(tokens.size() - 1);
+        if (parent instanceof Map) {
+            ((Map<String, Object>) parent).put(last, value);
+        } else if (parent instanceof List) {
+            List<Object> list = (List<Object>) parent;
+            if ("-".equals(last)) {
+                list.add(value);
+            } else {
+                list.add(index(last, list.size() + 1, path), value);
+            }
+        } else {
+            throw new FastJsonException("Path %s does not point into a container", path);
+        }
+        return root;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object replace(Object root, String path, Object value) {
+        List<String> tokens = JsonPointer.parse(path);
+        if (tokens.isEmpty()) {
+            return value;
+        }
+        get(root, path);
+        Object parent = parent(root, tokens, path);
+        String last = tokens.get(tokens.size() - 1);
+        if (parent instanceof Map) {
+            ((Map<String, Object>) parent).put(last, value);
+        } else {
+            List<Object> list = (List<Object>) parent;
+            list.set(index(last, list.size(), path), value);
+        }
+        return root;
+    }
+
+    private static Object remove(Object root, String path) {
+        List<String> tokens = JsonPointer.parse(path);
+        if (tokens.isEmpty()) {
+            throw new FastJsonException("Cannot remove the document root");
+        }
+        Object parent = parent(root, tokens, path);
+        String last = tokens.get(tokens.size() - 1);
+        if (parent instanceof Map && ((Map<?, ?>) parent).containsKey(last)) {
+            return ((Map<?, ?>) parent).remove(last);
+        }
+        if (parent instanceof List) {
+            List<?> list = (List<?>) parent;
+            return list.remove(index(last, list.size(), path));
+        }
+        throw new FastJsonException("Path %s does not exist", path);
+    }
+
+    private static Object parent(Object root, List<String> tokens, String path) {
+        Object current = root;
+        for (int i = 0; i < tokens.size() - 1; i++) {
+            current = child(current, tokens.get(i), path);
+        }
+        return current;
+    }
+
+    private static Object child(Object current, String token, String path) {
+        if (current instanceof Map && ((Map<?, ?>) current).containsKey(token)) {
+            return ((Map<?, ?>) current).get(token);
+        }
+        if (current instanceof List) {
+            List<?> list = (List<?>) current;
+            return list.get(index(token, list.size(), path));
+        }
+        throw new FastJsonException("Path %s does not exist", path);
+    }
+
+    private static int index(String token, int bound, String path) {
+        // RFC 6901 的数组下标只能由数字组成，Integer.parseInt 会接受 "+1"
+        boolean digits = !token.isEmpty();
+        for (int i = 0; i < token.length() && digits; i++) {
+            digits = token.charAt(i) >= '0' && token.charAt(i) <= '9';
+        }
+        if (!digits) {
+            throw new FastJsonException("Invalid array index in path %s", path);
+        }
+        int index;
+        try {
+            index = Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new FastJsonException("Invalid array index in path %s", path);
+        }
+        if (index < 0 || index >= bound || (token.length() > 1 && token.charAt(0) == '0')) {
+            throw new FastJsonException("Array index out of bounds in path %s", path);
+        }
+        return index;
+    }
+
+    private static String string(Map<?, ?> operation, String name) {
+        Object value = operation.get(name);
+        if (!(value instanceof String)) {
+            throw new FastJsonException("Patch operation is missing '%s': %s", name, operation);
+        }
+        return (String) value;
+    }
+
+    private static Object value(Map<?, ?> operation) {
+        if (!operation.containsKey("value")) {
+            throw new FastJsonException("Patch operation is missing 'value': %s", operation);
+        }
+        return operation.get("value");
+    }
+
+    /**
+     * 深拷贝容器值，避免补丁与文档共享可变节点
+     */
+    private static Object copy(Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> source = (Map<?, ?>) value;
+            JSONObject target = new JSONObject(source.size());
+            for (Map.Entry<?, ?> entry : source.entrySet()) {
+                target.put(String.valueOf(entry.getKey()), copy(entry.getValue()));
+            }
+            return target;
+        }
+        if (value instanceof List) {
+            List<?> source = (List<?>) value;
+            JSONArray target = new JSONArray(source.size());
+            for (Object element : source) {
+                target.add(copy(element));
+            }
+            return target;
+        }
+        return value;
+    }
+
+    /**
+     * 按 JSON 语义比较两个值，数字按数值比较，不区分 Integer/Long/BigDecimal
+     */
+    private static boolean valueEquals(Object a, Object b) {
+        if (a instanceof Number && b instanceof Number) {
+            return normalize((Number) a).compareTo(normalize((Number) b)) == 0;
+        }
+        if (a instanceof Map && b instanceof Map) {
+            Map<?, ?> left = (Map<?, ?>) a;
+            Map<?, ?> right = (Map<?, ?>) b;
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : left.entrySet()) {
+                if (!right.containsKey(entry.getKey()) || !valueEquals(entry.getValue(), right.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof List && b instanceof List) {
+            List<?> left = (List<?>) a;
+            List<?> right = (List<?>) b;
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (int i = 0; i < left.size(); i++) {
+                if (!valueEquals(left.get(i), right.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Objects.equals(a, b);
+    }
+
+    private static BigDecimal normalize(Number number) {
+        return number instanceof BigDecimal ? (BigDecimal) number : new BigDecimal(number.toString());
+    }
+}
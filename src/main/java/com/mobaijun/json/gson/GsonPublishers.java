@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.mobaijun.json.reactive.ElementSource;
+import com.mobaijun.json.reactive.JsonArrayPublisher;
+import org.reactivestreams.Publisher;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+
+/**
+ * Description: [基于 Gson 流式解析的 JSON 数组 Publisher 工厂]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 14:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class GsonPublishers {
+
+    /**
+     * 从输入流中按需发布 JSON 数组元素，在调用 request 的线程上解码
+     *
+     * @param inputStream 输入流（UTF-8），完成或取消时关闭
+     * @param type        元素类型
+     * @param <T>         元素类型
+     * @return Publisher，只允许订阅一次
+     */
+    public static <T> Publisher<T> toPublisher(InputStream inputStream, Class<T> type) {
+        return toPublisher(inputStream, type, null);
+    }
+
+    /**
+     * 从输入流中按需发布 JSON 数组元素
+     *
+     * @param inputStream 输入流（UTF-8），完成或取消时关闭
+     * @param type        元素类型
+     * @param executor    解码所用的 Executor，为 null 时在调用 request 的线程上解码
+     * @param <T>         元素类型
+     * @return Publisher，只允许订阅一次
+     */
+    public static <T> Publisher<T> toPublisher(InputStream inputStream, Class<T> type, Executor executor) {
+        return new JsonArrayPublisher<>(
+                () -> new GsonElementSource<>(new InputStreamReader(inputStream, StandardCharsets.UTF_8), type),
+                inputStream, executor);
+    }
+
+    /**
+     * 从 JSON 文件中按需发布数组元素，文件在首次拉取元素时打开
+     *
+     * @param path     JSON 文件路径
+     * @param type     元素类型
+     * @param executor 解码所用的 Executor，为 null 时在调用 request 的线程上解码
+     * @param <T>      元素类型
+     * @return Publisher，只允许订阅一次
+     */
+    public static <T> Publisher<T> toFilePublisher(String path, Class<T> type, Executor executor) {
+        return new JsonArrayPublisher<>(() -> new GsonElementSource<>(
+                new InputStreamReader(new FileInputStream(path), StandardCharsets.UTF_8), type), executor);
+    }
+
+    /**
+     * 使用共享 Gson 实例的适配器逐个读取数组元素
+     */
+    private static final class GsonElementSource<T> implements ElementSource<T> {
+
+        private final JsonReader jsonReader;
+
+        private final TypeAdapter<T> adapter;
+
+        private boolean started;
+
+        private GsonElementSource(Reader reader, Class<T> type) {
+            this.jsonReader = GsonUtil.getGsonInstance().newJsonReader(reader);
+            this.adapter = GsonUtil.getGsonInstance().getAdapter(type);
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            if (!started) {
+                jsonReader.beginArray();
+                started = true;
+            }
+            return jsonReader.hasNext();
+        }
+
+        @Override
+        public T next() throws IOException {
+            return adapter.read(jsonReader);
+        }
+
+        @Override
+        public void close() throws IOException {
+            jsonReader.close();
+        }
+    }
+}
@@ -17,32 +17,66 @@ package com.mobaijun.json.gson;
 
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializer;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
+import com.mobaijun.json.gson.adapter.CompactMapTypeAdapter;
+import com.mobaijun.json.gson.adapter.GeneratedTypeAdapterFactory;
+import com.mobaijun.json.gson.adapter.JsonBinaryTypeAdapter;
 import com.mobaijun.json.gson.adapter.NumberTypeAdapter;
+import com.mobaijun.json.gson.adapter.PolymorphicTypeAdapterFactory;
+import com.mobaijun.json.gson.adapter.PrimitiveArrayTypeAdapter;
+import com.mobaijun.json.gson.adapter.StreamingJsonWriter;
+import com.mobaijun.json.gson.canonical.CanonicalJson;
 import com.mobaijun.json.gson.exception.GsonException;
+import com.mobaijun.json.gson.filter.RecordFilter;
+import com.mobaijun.json.gson.patch.JsonDiff;
+import com.mobaijun.json.gson.patch.JsonMergePatch;
+import com.mobaijun.json.gson.patch.JsonPatch;
+import com.mobaijun.json.gson.projection.FieldProjection;
+import com.mobaijun.json.index.JsonArrayIndex;
+import com.mobaijun.json.parallel.ParallelJsonLinesReader;
+import com.mobaijun.json.util.Base64Streams;
+import com.mobaijun.json.util.Compression;
+import com.mobaijun.json.util.JsonArrayScanner;
+import com.mobaijun.json.util.JsonBinary;
+import com.mobaijun.json.util.JsonFiles;
+import com.mobaijun.json.util.KeyInterner;
+import com.mobaijun.json.util.SubtypeMapping;
+import com.mobaijun.json.util.Utf8ByteReader;
 
-import java.io.FileReader;
-import java.io.FileWriter;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Description: [gson 工具类]
@@ -98,6 +132,21 @@ public class GsonUtil {
     private static final JsonDeserializer<LocalTime> timeDeserializer
             = (json, type, ctx) -> LocalTime.parse(json.getAsJsonPrimitive().getAsString(), timeFormatter);
 
+    /**
+     * 投影类对应的字段投影缓存
+     */
+    private static final Map<Class<?>, FieldProjection> PROJECTION_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 紧凑 Map 适配器，键经过共享的有界驻留表规范化
+     */
+    private static final CompactMapTypeAdapter COMPACT_MAP_ADAPTER;
+
+    /**
+     * 多态类型适配器工厂，通过 {@link #registerSubtypes(Class, String, Map)} 注册子类型
+     */
+    private static final PolymorphicTypeAdapterFactory POLYMORPHIC_FACTORY = new PolymorphicTypeAdapterFactory();
+
     static {
         // 使用 GsonBuilder 进行配置
         GsonBuilder gsonBuilder = new GsonBuilder();
@@ -120,8 +169,13 @@ public class GsonUtil {
         gsonBuilder.setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES);
         // 注册基本数据类型
         registerTypeAdapter(gsonBuilder);
+        // 注册编译期生成的适配器（@GenerateAdapter）
+        gsonBuilder.registerTypeAdapterFactory(new GeneratedTypeAdapterFactory());
+        // 注册多态类型分派
+        gsonBuilder.registerTypeAdapterFactory(POLYMORPHIC_FACTORY);
         // 构建 Gson 实例
         GSON_INSTANCE = gsonBuilder.create();
+        COMPACT_MAP_ADAPTER = new CompactMapTypeAdapter(GSON_INSTANCE, new KeyInterner());
     }
 
     private static void registerTypeAdapter(GsonBuilder gsonBuilder) {
@@ -136,6 +190,23 @@ public class GsonUtil {
         gsonBuilder.registerTypeAdapter(double.class, new NumberTypeAdapter<>(double.class));
         gsonBuilder.registerTypeAdapter(Double.class, new NumberTypeAdapter<>(Double.class));
         gsonBuilder.registerTypeAdapter(BigDecimal.class, new NumberTypeAdapter<>(BigDecimal.class));
+        gsonBuilder.registerTypeAdapter(int[].class, PrimitiveArrayTypeAdapter.INT_ARRAY);
+        gsonBuilder.registerTypeAdapter(long[].class, PrimitiveArrayTypeAdapter.LONG_ARRAY);
+        gsonBuilder.registerTypeAdapter(double[].class, PrimitiveArrayTypeAdapter.DOUBLE_ARRAY);
+        gsonBuilder.registerTypeAdapter(JsonBinary.class, JsonBinaryTypeAdapter.INSTANCE);
+    }
+
+    /**
+     * 注册多态基类型的子类型，之后 toBean、toList 等方法按判别字段反序列化为对应子类型，序列化时写出判别字段。
+     * 需要在首次序列化或反序列化基类型之前调用。
+     *
+     * @param baseType      基类型
+     * @param discriminator 判别字段名，例如 {@code type}
+     * @param subtypes      标签到子类型的映射
+     * @param <T>           基类型
+     */
+    public static <T> void registerSubtypes(Class<T> baseType, String discriminator, Map<String, Class<? extends T>> subtypes) {
+        POLYMORPHIC_FACTORY.register(new SubtypeMapping<>(baseType, discriminator, subtypes));
     }
 
     /**
@@ -162,6 +233,211 @@ public class GsonUtil {
         return gsonString;
     }
 
+    /**
+     * 将对象序列化写入 Writer，JsonBinary 字段边读边编码，不会生成完整的 Base64 字符串
+     *
+     * @param entity 要转换的对象
+     * @param writer 输出，不会被关闭
+     * @param <T>    对象的类型
+     * @throws GsonException 如果序列化出现异常
+     */
+    public static <T> void toJson(T entity, Writer writer) {
+        try {
+            JsonWriter jsonWriter = new StreamingJsonWriter(writer);
+            GSON_INSTANCE.toJson(entity, entity == null ? Object.class : entity.getClass(), jsonWriter);
+            jsonWriter.flush();
+        } catch (JsonIOException | IOException e) {
+            throw new GsonException("Error while serializing object to writer", e);
+        }
+    }
+
+    /**
+     * 定位 JSON 中的 Base64 字段，返回边读边解码的输入流，不会把字段读成字符串
+     *
+     * @param reader JSON 输入，关闭返回的输入流时一并关闭
+     * @param path   {@code .} 分隔的字段路径，例如 {@code attachment.content}
+     * @return 解码输入流，字段不存在或为 null 时返回 null
+     * @throws GsonException 如果读取出现异常
+     */
+    public static InputStream openBinaryField(Reader reader, String path) {
+        try {
+            return Base64Streams.openField(reader, path);
+        } catch (IOException e) {
+            throw new GsonException("Error while locating binary field. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 将int数组转换为JSON字符串，直接写入字符缓冲区，不经过装箱
+     *
+     * @param array int数组
+     * @return JSON字符串
+     */
+    public static String toJson(int[] array) {
+        if (array == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(array.length * 4 + 2).append('[');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * 将long数组转换为JSON字符串，直接写入字符缓冲区，不经过装箱
+     *
+     * @param array long数组
+     * @return JSON字符串
+     */
+    public static String toJson(long[] array) {
+        if (array == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(array.length * 8 + 2).append('[');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(array[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * 将double数组转换为JSON字符串，直接写入字符缓冲区，不经过装箱
+     *
+     * @param array double数组
+     * @return JSON字符串
+     * @throws IllegalArgumentException 如果包含 NaN 或无穷大（与 Gson 默认行为一致）
+     */
+    public static String toJson(double[] array) {
+        if (array == null) {
+            return "null";
+        }
+        StringBuilder builder = new StringBuilder(array.length * 8 + 2).append('[');
+        for (int i = 0; i < array.length; i++) {
+            double value = array[i];
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException(value + " is not a valid double value as per JSON specification.");
+            }
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(value);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * 将JSON数组直接解析为int数组，不经过装箱
+     *
+     * @param json JSON数组字符串
+     * @return int数组
+     */
+    public static int[] toIntArray(String json) {
+        return readPrimitiveArray(json, null, PrimitiveArrayTypeAdapter.INT_ARRAY);
+    }
+
+    /**
+     * 将JSON对象中指定字段的数组直接解析为int数组
+     *
+     * @param json JSON字符串
+     * @param key  字段路径，嵌套字段使用 {@code .} 分隔，其余字段在 token 层跳过
+     * @return int数组，字段不存在时返回 null
+     */
+    public static int[] toIntArray(String json, String key) {
+        return readPrimitiveArray(json, key, PrimitiveArrayTypeAdapter.INT_ARRAY);
+    }
+
+    /**
+     * 将JSON数组直接解析为long数组，不经过装箱
+     *
+     * @param json JSON数组字符串
+     * @return long数组
+     */
+    public static long[] toLongArray(String json) {
+        return readPrimitiveArray(json, null, PrimitiveArrayTypeAdapter.LONG_ARRAY);
+    }
+
+    /**
+     * 将JSON对象中指定字段的数组直接解析为long数组
+     *
+     * @param json JSON字符串
+     * @param key  字段路径，嵌套字段使用 {@code .} 分隔，其余字段在 token 层跳过
+     * @return long数组，字段不存在时返回 null
+     */
+    public static long[] toLongArray(String json, String key) {
+        return readPrimitiveArray(json, key, PrimitiveArrayTypeAdapter.LONG_ARRAY);
+    }
+
+    /**
+     * 将JSON数组直接解析为double数组，不经过装箱
+     *
+     * @param json JSON数组字符串
+     * @return double数组
+     */
+    public static double[] toDoubleArray(String json) {
+        return readPrimitiveArray(json, null, PrimitiveArrayTypeAdapter.DOUBLE_ARRAY);
+    }
+
+    /**
+     * 将JSON对象中指定字段的数组直接解析为double数组
+     *
+     * @param json JSON字符串
+     * @param key  字段路径，嵌套字段使用 {@code .} 分隔，其余字段在 token 层跳过
+     * @return double数组，字段不存在时返回 null
+     */
+    public static double[] toDoubleArray(String json, String key) {
+        return readPrimitiveArray(json, key, PrimitiveArrayTypeAdapter.DOUBLE_ARRAY);
+    }
+
+    private static <A> A readPrimitiveArray(String json, String key, PrimitiveArrayTypeAdapter<A> adapter) {
+        if (json == null || json.isEmpty()) {
+            throw new IllegalArgumentException("JSON字符串不能为空");
+        }
+        try (JsonReader jsonReader = GSON_INSTANCE.newJsonReader(new StringReader(json))) {
+            if (key != null && !seek(jsonReader, key)) {
+                return null;
+            }
+            return adapter.read(jsonReader);
+        } catch (IOException | IllegalStateException | JsonParseException | NumberFormatException e) {
+            throw new GsonException("Error while reading primitive array. Key: %s", e, key);
+        }
+    }
+
+    /**
+     * 将读取器定位到字段路径对应的值之前，沿途跳过其余字段
+     *
+     * @param jsonReader JSON 读取器
+     * @param path       字段路径，嵌套字段使用 {@code .} 分隔
+     * @return 找到字段返回 true
+     * @throws IOException 读取异常
+     */
+    private static boolean seek(JsonReader jsonReader, String path) throws IOException {
+        for (String name : path.split("\\.")) {
+            if (jsonReader.peek() != JsonToken.BEGIN_OBJECT) {
+                return false;
+            }
+            jsonReader.beginObject();
+            boolean found = false;
+            while (jsonReader.hasNext()) {
+                if (name.equals(jsonReader.nextName())) {
+                    found = true;
+                    break;
+                }
+                jsonReader.skipValue();
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 将JSON字符串转换为对象
      *
@@ -187,6 +463,77 @@ public class GsonUtil {
         return GSON_INSTANCE.fromJson(json, type);
     }
 
+    /**
+     * 按字段路径投影 JSON，未选中的值在 token 层跳过，不会被物化
+     *
+     * @param json       JSON字符串
+     * @param projection 字段投影
+     * @return 只包含选中字段的 JSON 树
+     * @throws GsonException 如果 JSON 解析出现异常
+     */
+    public static JsonElement project(String json, FieldProjection projection) {
+        try (JsonReader jsonReader = GSON_INSTANCE.newJsonReader(new StringReader(json))) {
+            JsonElement element = projection.read(jsonReader);
+            if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new GsonException("JSON document has trailing content. JSON: %s", json);
+            }
+            return element;
+        } catch (IOException | JsonParseException e) {
+            throw new GsonException("Error while projecting JSON. JSON: %s", e, json);
+        }
+    }
+
+    /**
+     * 将JSON字符串转换为对象，只绑定选中的字段路径，其余字段保留默认值
+     *
+     * @param json   JSON字符串
+     * @param entity 对象的类型
+     * @param paths  字段路径（JSON 中的名称），例如 {@code id}、{@code user.name}
+     * @param <T>    对象的类型
+     * @return 转换后的对象
+     */
+    public static <T> T toBean(String json, Class<T> entity, Collection<String> paths) {
+        return toBean(json, entity, FieldProjection.of(paths));
+    }
+
+    /**
+     * 将JSON字符串转换为对象，只绑定投影类中声明的字段，其余字段保留默认值
+     *
+     * @param json       JSON字符串
+     * @param entity     对象的类型
+     * @param projection 投影类，字段名按与实体相同的命名策略转换
+     * @param <T>        对象的类型
+     * @return 转换后的对象
+     */
+    public static <T> T toBean(String json, Class<T> entity, Class<?> projection) {
+        FieldProjection fieldProjection = PROJECTION_CACHE.computeIfAbsent(projection,
+                clazz -> FieldProjection.of(clazz, GSON_INSTANCE.fieldNamingStrategy()));
+        return toBean(json, entity, fieldProjection);
+    }
+
+    /**
+     * 将JSON字符串转换为对象，只绑定投影选中的字段，其余字段保留默认值
+     *
+     * @param json       JSON字符串
+     * @param entity     对象的类型
+     * @param projection 字段投影，可缓存复用
+     * @param <T>        对象的类型
+     * @return 转换后的对象
+     * @throws GsonException 如果 JSON 解析出现异常
+     */
+    public static <T> T toBean(String json, Class<T> entity, FieldProjection projection) {
+        // 直接从过滤后的 token 流绑定，选中的值只物化一次
+        try (JsonReader jsonReader = projection.filter(new StringReader(json))) {
+            T bean = GSON_INSTANCE.fromJson(jsonReader, entity);
+            if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new GsonException("JSON document has trailing content. JSON: %s", json);
+            }
+            return bean;
+        } catch (IOException | JsonParseException e) {
+            throw new GsonException("Error while projecting JSON. JSON: %s", e, json);
+        }
+    }
+
     /**
      * 将JSON字符串转换为List
      *
@@ -198,7 +545,7 @@ public class GsonUtil {
         if (json == null || json.isEmpty()) {
             throw new IllegalArgumentException("JSON字符串不能为空");
         }
-        return GSON_INSTANCE.fromJson(json, new TypeToken<List<T>>() {
+        return GSON_INSTANCE.fromJson(json, new TypeToken<List<?>>() {
         }.getType());
     }
 
@@ -214,7 +561,7 @@ public class GsonUtil {
         if (json == null || json.isEmpty()) {
             throw new IllegalArgumentException("JSON字符串不能为空");
         }
-        return GSON_INSTANCE.fromJson(json, (new TypeToken<Set<T>>() {
+        return GSON_INSTANCE.fromJson(json, (new TypeToken<Set<?>>() {
         }).getType());
     }
 
@@ -229,7 +576,7 @@ public class GsonUtil {
         if (json == null || json.isEmpty()) {
             throw new IllegalArgumentException("JSON字符串不能为空");
         }
-        return GSON_INSTANCE.fromJson(json, new TypeToken<List<Map<String, T>>>() {
+        return GSON_INSTANCE.fromJson(json, new TypeToken<List<Map<String, ?>>>() {
         }.getType());
     }
 
@@ -249,7 +596,57 @@ public class GsonUtil {
     }
 
     /**
-     * 序列化对象列表为 JSON 文件。
+     * 将JSON字符串转换为紧凑的Map
+     * <p>
+     * 键经过有界驻留表规范化，重复出现的键共享同一个 String 实例；键较少的对象使用数组实现的 Map，
+     * 数字与 {@link #toMap(String)} 一致读取为 Double。
+     *
+     * @param json JSON字符串
+     * @return 转换后的Map
+     * @throws GsonException 如果 JSON 解析出现异常
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> toCompactMap(String json) {
+        Object value = readCompact(json);
+        if (!(value instanceof Map)) {
+            throw new GsonException("JSON is not an object. JSON: %s", json);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    /**
+     * 将JSON字符串转换为List中有紧凑Map的，适合大量行共享相同键的场景
+     *
+     * @param json JSON字符串
+     * @return 转换后的List
+     * @throws GsonException 如果 JSON 解析出现异常
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> toCompactListMap(String json) {
+        Object value = readCompact(json);
+        if (!(value instanceof List)) {
+            throw new GsonException("JSON is not an array. JSON: %s", json);
+        }
+        List<Map<String, Object>> result = (List<Map<String, Object>>) value;
+        if (result instanceof ArrayList) {
+            ((ArrayList<?>) result).trimToSize();
+        }
+        return result;
+    }
+
+    private static Object readCompact(String json) {
+        if (json == null || json.isEmpty()) {
+            throw new IllegalArgumentException("JSON字符串不能为空");
+        }
+        try (JsonReader jsonReader = GSON_INSTANCE.newJsonReader(new StringReader(json))) {
+            return COMPACT_MAP_ADAPTER.read(jsonReader);
+        } catch (IOException | IllegalStateException e) {
+            throw new GsonException("Error while reading compact map. JSON: %s", e, json);
+        }
+    }
+
+    /**
+     * 序列化对象列表为 JSON 文件，按扩展名（.gz、.deflate）透明压缩。
      *
      * @param path JSON 文件路径
      * @param list 要序列化的对象列表
@@ -257,9 +654,24 @@ public class GsonUtil {
      * @throws GsonException 如果序列化出现异常
      */
     public static <V> void toFile(String path, List<V> list) {
-        try (JsonWriter jsonWriter = new JsonWriter(new FileWriter(path, true))) {
-            GSON_INSTANCE.toJson(list, new TypeToken<List<V>>() {
-            }.getType(), jsonWriter);
+        toFile(path, list, Compression.of(path));
+    }
+
+    /**
+     * 序列化对象列表为 JSON 文件。
+     * <p>
+     * 文件已存在时追加写入；压缩格式下追加的内容成为新的 GZIP 成员或 zlib 数据流，读取时连续解压。
+     *
+     * @param path        JSON 文件路径
+     * @param list        要序列化的对象列表
+     * @param compression 压缩格式
+     * @param <V>         对象类型
+     * @throws GsonException 如果序列化出现异常
+     */
+    public static <V> void toFile(String path, List<V> list, Compression compression) {
+        try (JsonWriter jsonWriter = new StreamingJsonWriter(JsonFiles.newWriter(path, true, compression))) {
+            // 元素类型在运行时擦除，按元素的实际类型序列化
+            GSON_INSTANCE.toJson(list, List.class, jsonWriter);
             jsonWriter.flush();
         } catch (JsonIOException | IOException e) {
             throw new GsonException("Error while serializing list to JSON file. Path: {}, List: {}", path, list, e);
@@ -267,7 +679,7 @@ public class GsonUtil {
     }
 
     /**
-     * 序列化单个对象为 JSON 文件。
+     * 序列化单个对象为 JSON 文件，按扩展名（.gz、.deflate）透明压缩。
      *
      * @param path JSON 文件路径
      * @param obj  要序列化的对象
@@ -275,7 +687,22 @@ public class GsonUtil {
      * @throws GsonException 如果序列化出现异常
      */
     public static <V> void toFile(String path, V obj) {
-        try (JsonWriter jsonWriter = new JsonWriter(new FileWriter(path, true))) {
+        toFile(path, obj, Compression.of(path));
+    }
+
+    /**
+     * 序列化单个对象为 JSON 文件。
+     * <p>
+     * 文件已存在时追加写入；压缩格式下追加的内容成为新的 GZIP 成员或 zlib 数据流，读取时连续解压。
+     *
+     * @param path        JSON 文件路径
+     * @param obj         要序列化的对象
+     * @param compression 压缩格式
+     * @param <V>         对象类型
+     * @throws GsonException 如果序列化出现异常
+     */
+    public static <V> void toFile(String path, V obj, Compression compression) {
+        try (JsonWriter jsonWriter = new StreamingJsonWriter(JsonFiles.newWriter(path, true, compression))) {
             GSON_INSTANCE.toJson(obj, obj.getClass(), jsonWriter);
             jsonWriter.flush();
         } catch (JsonIOException | IOException e) {
@@ -284,7 +711,7 @@ public class GsonUtil {
     }
 
     /**
-     * 从 JSON 文件中反序列化为对象列表。
+     * 从 JSON 文件中反序列化为对象列表，按扩展名（.gz、.deflate）透明解压。
      *
      * @param path JSON 文件路径
      * @param type 对象的类型
@@ -293,15 +720,29 @@ public class GsonUtil {
      * @throws GsonException 如果反序列化出现异常
      */
     public static <V> List<V> toFileList(String path, Class<V> type) {
-        try (FileReader fileReader = new FileReader(path)) {
-            return GSON_INSTANCE.fromJson(fileReader, TypeToken.getParameterized(List.class, type).getType());
+        return toFileList(path, type, Compression.of(path));
+    }
+
+    /**
+     * 从 JSON 文件中反序列化为对象列表。
+     *
+     * @param path        JSON 文件路径
+     * @param type        对象的类型
+     * @param compression 压缩格式
+     * @param <V>         对象类型
+     * @return 反序列化得到的对象列表
+     * @throws GsonException 如果反序列化出现异常
+     */
+    public static <V> List<V> toFileList(String path, Class<V> type, Compression compression) {
+        try (Reader reader = JsonFiles.newReader(path, compression)) {
+            return GSON_INSTANCE.fromJson(reader, TypeToken.getParameterized(List.class, type).getType());
         } catch (JsonIOException | IOException | JsonSyntaxException e) {
             throw new GsonException("Error while deserializing JSON file to list. Path: {}, Type: {}", path, type, e);
         }
     }
 
     /**
-     * 从 JSON 文件中反序列化为对象。
+     * 从 JSON 文件中反序列化为对象，按扩展名（.gz、.deflate）透明解压。
      *
      * @param path JSON 文件路径
      * @param type 对象的类型
@@ -310,13 +751,240 @@ public class GsonUtil {
      * @throws GsonException 如果反序列化出现异常
      */
     public static <V> V toFileBean(String path, Class<V> type) {
-        try (FileReader fileReader = new FileReader(path)) {
-            return GSON_INSTANCE.fromJson(fileReader, type);
+        return toFileBean(path, type, Compression.of(path));
+    }
+
+    /**
+     * 从 JSON 文件中反序列化为对象。
+     *
+     * @param path        JSON 文件路径
+     * @param type        对象的类型
+     * @param compression 压缩格式
+     * @param <V>         对象类型
+     * @return 反序列化得到的对象
+     * @throws GsonException 如果反序列化出现异常
+     */
+    public static <V> V toFileBean(String path, Class<V> type, Compression compression) {
+        try (Reader reader = JsonFiles.newReader(path, compression)) {
+            return GSON_INSTANCE.fromJson(reader, type);
         } catch (JsonIOException | IOException | JsonSyntaxException e) {
             throw new GsonException("Error while deserializing JSON file to object. Path: {}, Type: {}", path, type, e);
         }
     }
 
+    /**
+     * 通过旁路索引读取 JSON 数组文件中的单个元素，只解码该元素；索引不存在或过期时先扫描文件重建。
+     *
+     * @param path  JSON 数组文件路径
+     * @param index 元素下标
+     * @param type  对象的类型
+     * @param <V>   对象类型
+     * @return 反序列化得到的对象
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> V toFileElement(String path, long index, Class<V> type) {
+        try {
+            return GSON_INSTANCE.fromJson(JsonArrayIndex.open(path).read(index), type);
+        } catch (IOException | JsonSyntaxException | IndexOutOfBoundsException e) {
+            throw new GsonException("Error while reading indexed JSON file. Path: %s, Index: %s", e, path, index);
+        }
+    }
+
+    /**
+     * 通过旁路索引读取 JSON 数组文件中 [from, to) 范围的元素，只解码这些元素；索引不存在或过期时先扫描文件重建。
+     *
+     * @param path JSON 数组文件路径
+     * @param from 起始下标（包含）
+     * @param to   结束下标（不包含）
+     * @param type 对象的类型
+     * @param <V>  对象类型
+     * @return 反序列化得到的对象列表
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> List<V> toFileRange(String path, long from, long to, Class<V> type) {
+        try {
+            List<String> elements = JsonArrayIndex.open(path).read(from, to);
+            List<V> list = new ArrayList<>(elements.size());
+            for (String element : elements) {
+                list.add(GSON_INSTANCE.fromJson(element, type));
+            }
+            return list;
+        } catch (IOException | JsonSyntaxException | IndexOutOfBoundsException e) {
+            throw new GsonException("Error while reading indexed JSON file. Path: %s, Range: [%s, %s)", e, path, from, to);
+        }
+    }
+
+    /**
+     * 扫描 JSON 数组文件，在 token 层求值过滤条件，只反序列化满足条件的元素；按扩展名（.gz、.deflate）透明解压。
+     * <p>
+     * 元素以字节形式捕获，过滤条件直接在这些字节上求值，满足条件的元素也从同一段字节绑定，不会复制为 String。
+     *
+     * @param path   JSON 数组文件路径
+     * @param type   对象的类型
+     * @param filter 过滤条件
+     * @param <V>    对象类型
+     * @return 满足条件的对象列表
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> List<V> scanFile(String path, Class<V> type, RecordFilter filter) {
+        List<V> list = new ArrayList<>();
+        try (InputStream in = JsonFiles.newInputStream(path)) {
+            JsonArrayScanner.scanText(in, (bytes, length) -> {
+                if (filter.matches(bytes, 0, length)) {
+                    list.add(GSON_INSTANCE.fromJson(new Utf8ByteReader(bytes, 0, length), type));
+                }
+            });
+            return list;
+        } catch (IOException | JsonSyntaxException | IllegalStateException | NumberFormatException e) {
+            throw new GsonException("Error while scanning JSON file. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 扫描 JSON Lines 文件，在 token 层求值过滤条件，只反序列化满足条件的行；按扩展名（.gz、.deflate）透明解压。
+     *
+     * @param path   文件路径
+     * @param type   对象的类型
+     * @param filter 过滤条件
+     * @param <V>    对象类型
+     * @return 满足条件的对象列表
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> List<V> scanJsonLines(String path, Class<V> type, RecordFilter filter) {
+        try (Reader reader = JsonFiles.newReader(path)) {
+            return scanJsonLines(reader, type, filter);
+        } catch (IOException e) {
+            throw new GsonException("Error while scanning JSON Lines file. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 扫描 JSON Lines 流，在 token 层求值过滤条件，只反序列化满足条件的行，流不会被关闭。
+     *
+     * @param reader JSON Lines 输入
+     * @param type   对象的类型
+     * @param filter 过滤条件
+     * @param <V>    对象类型
+     * @return 满足条件的对象列表
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> List<V> scanJsonLines(Reader reader, Class<V> type, RecordFilter filter) {
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader, JsonFiles.BUFFER_SIZE);
+        List<V> list = new ArrayList<>();
+        int lineNumber = 0;
+        try {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (!line.trim().isEmpty() && filter.matches(line)) {
+                    list.add(GSON_INSTANCE.fromJson(line, type));
+                }
+            }
+            return list;
+        } catch (IOException | JsonSyntaxException | IllegalStateException | NumberFormatException e) {
+            throw new GsonException("Error while scanning JSON Lines. Line: %s", e, lineNumber);
+        }
+    }
+
+    /**
+     * 以 JSON Lines 格式追加写入文件，每个对象一行，按扩展名（.gz、.deflate）透明压缩。
+     * <p>
+     * 文件已存在时追加写入；压缩格式下追加的内容成为新的 GZIP 成员或 zlib 数据流，读取时连续解压。
+     *
+     * @param path 文件路径
+     * @param list 要序列化的对象
+     * @param <V>  对象类型
+     * @throws GsonException 如果序列化出现异常
+     */
+    public static <V> void toJsonLinesFile(String path, Collection<V> list) {
+        try (Writer writer = JsonFiles.newWriter(path, true)) {
+            for (V element : list) {
+                GSON_INSTANCE.toJson(element, element == null ? Object.class : element.getClass(), new StreamingJsonWriter(writer));
+                writer.write('\n');
+            }
+        } catch (JsonIOException | IOException e) {
+            throw new GsonException("Error while writing JSON Lines file. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 从 JSON Lines 文件中反序列化为对象列表，空行会被忽略，按扩展名（.gz、.deflate）透明解压。
+     *
+     * @param path 文件路径
+     * @param type 对象的类型
+     * @param <V>  对象类型
+     * @return 反序列化得到的对象列表
+     * @throws GsonException 如果反序列化出现异常
+     */
+    public static <V> List<V> toJsonLinesList(String path, Class<V> type) {
+        List<V> list = new ArrayList<>();
+        forEachJsonLine(path, type, list::add);
+        return list;
+    }
+
+    /**
+     * 逐行读取 JSON Lines 文件并处理，同一时刻只有一行在内存中，按扩展名（.gz、.deflate）透明解压。
+     *
+     * @param path   文件路径
+     * @param type   对象的类型
+     * @param action 对每个对象执行的操作
+     * @param <V>    对象类型
+     * @throws GsonException 如果反序列化出现异常
+     */
+    public static <V> void forEachJsonLine(String path, Class<V> type, Consumer<? super V> action) {
+        try (BufferedReader reader = JsonFiles.newReader(path)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    action.accept(GSON_INSTANCE.fromJson(line, type));
+                } catch (JsonSyntaxException e) {
+                    throw new GsonException("Error while reading JSON Lines file. Path: %s, Line: %s", e, path, lineNumber);
+                }
+            }
+        } catch (IOException e) {
+            throw new GsonException("Error while reading JSON Lines file. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 多核并行读取未压缩的 JSON Lines 文件，结果保持文件顺序。
+     *
+     * @param path 文件路径
+     * @param type 对象的类型
+     * @param <V>  对象类型
+     * @return 反序列化得到的对象列表
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> List<V> toJsonLinesListParallel(String path, Class<V> type) {
+        try {
+            return new ParallelJsonLinesReader<>(line -> GSON_INSTANCE.fromJson(line, type)).read(path);
+        } catch (UncheckedIOException | IllegalStateException e) {
+            throw new GsonException("Error while reading JSON Lines file in parallel. Path: %s", e, path);
+        }
+    }
+
+    /**
+     * 多核并行读取未压缩的 JSON Lines 文件，不保证顺序，action 在工作线程上并发执行。
+     *
+     * @param path   文件路径
+     * @param type   对象的类型
+     * @param action 对每个对象执行的操作，必须是线程安全的
+     * @param <V>    对象类型
+     * @throws GsonException 如果读取或反序列化出现异常
+     */
+    public static <V> void forEachJsonLineParallel(String path, Class<V> type, Consumer<? super V> action) {
+        try {
+            new ParallelJsonLinesReader<>(line -> GSON_INSTANCE.fromJson(line, type)).forEach(path, action);
+        } catch (UncheckedIOException | IllegalStateException e) {
+            throw new GsonException("Error while reading JSON Lines file in parallel. Path: %s", e, path);
+        }
+    }
+
     /**
      * 从 JSON 字符串中获取某个字段的值。
      *
@@ -422,6 +1090,59 @@ public class GsonUtil {
         return jsonObject.toString();
     }
 
+    /**
+     * 比较两个 JSON 字符串，生成 RFC 6902 补丁。
+     *
+     * @param source 原 JSON 字符串
+     * @param target 目标 JSON 字符串
+     * @param idKey  数组元素的 id 字段名，数组按 id 匹配元素；为 null 时按下标比较
+     * @return RFC 6902 补丁的 JSON 字符串
+     */
+    public static String diff(String source, String target, String idKey) {
+        return JsonDiff.diff(JsonParser.parseString(source), JsonParser.parseString(target), idKey).toString();
+    }
+
+    /**
+     * 比较两个对象的 JSON 表示，生成 RFC 6902 补丁，对象直接转换为 JSON 树，不经过字符串。
+     *
+     * @param source 原对象
+     * @param target 目标对象
+     * @param idKey  数组元素的 id 字段名（JSON 中的名称），为 null 时按下标比较
+     * @return RFC 6902 补丁
+     */
+    public static JsonArray diffBean(Object source, Object target, String idKey) {
+        return JsonDiff.diff(GSON_INSTANCE.toJsonTree(source), GSON_INSTANCE.toJsonTree(target), idKey);
+    }
+
+    /**
+     * 将 RFC 6902 补丁应用到 JSON 字符串。
+     *
+     * @param json  JSON 字符串
+     * @param patch RFC 6902 补丁的 JSON 字符串
+     * @return 应用补丁后的 JSON 字符串
+     * @throws GsonException 补丁格式错误或操作失败
+     */
+    public static String patch(String json, String patch) {
+        try {
+            JsonElement document = JsonParser.parseString(json);
+            return JsonPatch.applyInPlace(document, JsonParser.parseString(patch).getAsJsonArray()).toString();
+        } catch (JsonParseException | IllegalStateException | IllegalArgumentException e) {
+            // 文档或补丁不是合法 JSON、补丁不是数组、JSON Pointer 格式错误
+            throw new GsonException("Error while applying JSON patch. Patch: %s", e, patch);
+        }
+    }
+
+    /**
+     * 按 RFC 7396 依次合并多个配置层，后面的层覆盖前面的层，null 表示删除字段
+     *
+     * @param layers 配置层，第一个为基础层
+     * @return 合并后的 JSON 字符串
+     * @throws GsonException 解析或写出异常
+     */
+    public static String merge(String... layers) {
+        return JsonMergePatch.merge(layers);
+    }
+
     /**
      * 格式化 JSON 字符串（美化）。
      *
@@ -433,6 +1154,28 @@ public class GsonUtil {
         return GSON_INSTANCE.toJson(jsonElement);
     }
 
+    /**
+     * 转换为规范形式：键排序、无空白、数字规范化，语义相同的文档得到相同的字符串
+     *
+     * @param json JSON 字符串
+     * @return 规范 JSON 字符串
+     * @throws GsonException 解析异常
+     */
+    public static String canonicalize(String json) {
+        return CanonicalJson.canonicalize(json);
+    }
+
+    /**
+     * 以流式方式计算规范形式的 64 位内容哈希，可用作去重和缓存键
+     *
+     * @param json JSON 字符串
+     * @return 哈希值
+     * @throws GsonException 解析异常
+     */
+    public static long hash(String json) {
+        return CanonicalJson.hash(json);
+    }
+
     /**
      * 判断字符串是否为 JSON。
      *
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson;
+
+import com.google.gson.TypeAdapter;
+import com.mobaijun.json.warmup.WarmUpReport;
+import com.mobaijun.json.warmup.WarmUpRunner;
+
+import java.util.Collection;
+
+/**
+ * Description: [Gson 预热工具，在启动阶段提前构建并缓存适配器，并通过往返序列化让热点路径完成 JIT 编译]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class GsonWarmUp {
+
+    /**
+     * 默认往返次数，与 HotSpot 分层编译进入 C2 的调用阈值同一量级
+     */
+    public static final int DEFAULT_ROUND_TRIPS = 10_000;
+
+    private static final WarmUpRunner.Codec CODEC = new WarmUpRunner.Codec() {
+        @Override
+        public <T> String prepare(Class<T> type, T instance) {
+            // Gson 内部按 TypeToken 缓存适配器，之后的 toBean/toJson 直接命中
+            TypeAdapter<T> adapter = GsonUtil.getGsonInstance().getAdapter(type);
+            return instance == null ? null : adapter.toJson(instance);
+        }
+
+        @Override
+        public <T> String roundTrip(String json, Class<T> type) {
+            return GsonUtil.toJson(GsonUtil.toBean(json, type));
+        }
+    };
+
+    /**
+     * 预热指定的类，使用默认往返次数
+     *
+     * @param classes 需要预热的类
+     * @return 预热报告
+     */
+    public static WarmUpReport warmUp(Collection<Class<?>> classes) {
+        return warmUp(classes, DEFAULT_ROUND_TRIPS);
+    }
+
+    /**
+     * 预热指定的类
+     *
+     * @param classes    需要预热的类
+     * @param roundTrips 每个类的往返序列化次数，为 0 时只构建适配器
+     * @return 预热报告
+     */
+    public static WarmUpReport warmUp(Collection<Class<?>> classes, int roundTrips) {
+        return WarmUpRunner.run(classes, roundTrips, CODEC);
+    }
+
+    /**
+     * 扫描包及其子包并预热其中的类
+     *
+     * @param packageName 包名
+     * @param roundTrips  每个类的往返序列化次数，为 0 时只构建适配器
+     * @return 预热报告
+     */
+    public static WarmUpReport warmUp(String packageName, int roundTrips) {
+        return WarmUpRunner.run(packageName, roundTrips, CODEC);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.mobaijun.json.util.CompactMap;
+import com.mobaijun.json.util.KeyInterner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: [将 JSON 读取为紧凑 Map/List 结构的适配器]
+ * <p>
+ * 对象的键经过 {@link KeyInterner} 规范化，键数量不超过 {@link CompactMap#MAX_COMPACT_SIZE} 的对象使用
+ * {@link CompactMap}，其余使用 LinkedHashMap；数字与 Gson 默认行为一致读取为 Double。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class CompactMapTypeAdapter extends TypeAdapter<Object> {
+
+    private final Gson gson;
+
+    private final KeyInterner interner;
+
+    public CompactMapTypeAdapter(Gson gson, KeyInterner interner) {
+        this.gson = gson;
+        this.interner = interner;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void write(JsonWriter out, Object value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+        } else if (value instanceof Map) {
+            out.beginObject();
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) value).entrySet()) {
+                out.name(String.valueOf(entry.getKey()));
+                write(out, entry.getValue());
+            }
+            out.endObject();
+        } else if (value instanceof List) {
+            out.beginArray();
+            for (Object element : (List<Object>) value) {
+                write(out, element);
+            }
+            out.endArray();
+        } else {
+            gson.toJson(value, value.getClass(), out);
+        }
+    }
+
+    @Override
+    public Object read(JsonReader in) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_OBJECT:
+                return readObject(in);
+            case BEGIN_ARRAY:
+                List<Object> list = new ArrayList<>();
+                in.beginArray();
+                while (in.hasNext()) {
+                    list.add(read(in));
+                }
+                in.endArray();
+                return list;
+            case STRING:
+                return in.nextString();
+            case NUMBER:
+                return in.nextDouble();
+            case BOOLEAN:
+                return in.nextBoolean();
+            case NULL:
+                in.nextNull();
+                return null;
+            default:
+                throw new IllegalStateException("Unexpected token: " + in.peek());
+        }
+    }
+
+    private Map<String, Object> readObject(JsonReader in) throws IOException {
+        CompactMap<Object> compact = new CompactMap<>();
+        Map<String, Object> map = compact;
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = interner.intern(in.nextName());
+            Object value = read(in);
+            if (map == compact && compact.size() == CompactMap.MAX_COMPACT_SIZE && !compact.containsKey(key)) {
+                // 键数量超过阈值，改用哈希表
+                map = new LinkedHashMap<>(compact);
+            }
+            map.put(key, value);
+        }
+        in.endObject();
+        if (map == compact) {
+            compact.trimToSize();
+        }
+        return map;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.mobaijun.json.gson.annotation.GenerateAdapter;
+import com.mobaijun.json.gson.exception.GsonException;
+import com.mobaijun.json.util.GeneratedNames;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Description: [加载编译期生成的 TypeAdapter 的工厂]
+ * <p>
+ * 只处理标注了 {@link GenerateAdapter} 的类，找不到生成类时返回 null，交由 Gson 的反射适配器处理。
+ * 每个类型只在首次获取适配器时加载一次生成类，之后由 Gson 自身缓存。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 10:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+    /**
+     * 生成类名后缀
+     */
+    public static final String SUFFIX = "_GsonTypeAdapter";
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> typeToken) {
+        Class<? super T> rawType = typeToken.getRawType();
+        if (!rawType.isAnnotationPresent(GenerateAdapter.class)) {
+            return null;
+        }
+        Class<?> adapterClass;
+        try {
+            adapterClass = Class.forName(adapterClassName(rawType), true, rawType.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            // 未经注解处理器编译，回退到反射适配器
+            return null;
+        }
+        try {
+            Constructor<?> constructor = adapterClass.getConstructor(Gson.class);
+            return (TypeAdapter<T>) constructor.newInstance(gson);
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new GsonException("Error while creating generated adapter. Type: %s", e, rawType.getName());
+        }
+    }
+
+    /**
+     * 计算生成适配器的全限定类名，嵌套类的 {@code $} 替换为 {@code _}
+     *
+     * @param type 实体类
+     * @return 生成适配器的类名
+     */
+    public static String adapterClassName(Class<?> type) {
+        return GeneratedNames.of(type, SUFFIX);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mobaijun.json.util.Base64Streams;
+import com.mobaijun.json.util.JsonBinary;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.Base64;
+
+/**
+ * Description: [JsonBinary 的 Base64 适配器]
+ * <p>
+ * 写入 {@link StreamingJsonWriter} 时边读边编码，直接写入底层 Writer；其他 JsonWriter（例如构建 JSON 树）
+ * 只能接收完整字符串，退化为先编码再写出。读取时解码为字节数组，需要流式读取大字段时使用
+ * {@link Base64Streams#openField(java.io.Reader, String)}。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonBinaryTypeAdapter extends TypeAdapter<JsonBinary> {
+
+    public static final JsonBinaryTypeAdapter INSTANCE = new JsonBinaryTypeAdapter();
+
+    @Override
+    public void write(JsonWriter out, JsonBinary value) throws IOException {
+        if (value == null) {
+            out.nullValue();
+            return;
+        }
+        try (InputStream in = value.openStream()) {
+            if (out instanceof StreamingJsonWriter) {
+                ((StreamingJsonWriter) out).stringValue(writer -> Base64Streams.encode(in, writer));
+            } else {
+                StringWriter writer = new StringWriter();
+                Base64Streams.encode(in, writer);
+                out.value(writer.toString());
+            }
+        }
+    }
+
+    @Override
+    public JsonBinary read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        try {
+            return JsonBinary.of(Base64.getDecoder().decode(in.nextString()));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Illegal base64 value at " + in.getPath(), e);
+        }
+    }
+}
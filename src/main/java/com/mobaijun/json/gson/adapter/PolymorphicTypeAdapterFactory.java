@@ -0,0 +1,508 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mobaijun.json.util.SubtypeMapping;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description: [基于判别字段的多态类型适配器工厂]
+ * <p>
+ * 读取时只缓冲判别字段之前的成员，找到判别字段后把已缓冲的成员和剩余的 token 逐个重新渲染为字符，
+ * 交给子类型适配器用新的 JsonReader 读取，不构建整个对象的 JSON 树；判别字段位于开头时不缓冲任何成员。
+ * 写出时先写判别字段，再直接委托子类型适配器写出其余成员，子类型自身的同名字段会被跳过。
+ * 未注册的子类按继承链使用最近的已注册父类的适配器和标签。
+ * 注册应在首次序列化基类型之前完成，Gson 会缓存已创建的适配器。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 22:30]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class PolymorphicTypeAdapterFactory implements TypeAdapterFactory {
+
+    private final Map<Class<?>, SubtypeMapping<?>> mappings = new ConcurrentHashMap<>();
+
+    /**
+     * 注册基类型的子类型
+     *
+     * @param mapping 判别字段与子类型映射
+     */
+    public void register(SubtypeMapping<?> mapping) {
+        mappings.put(mapping.getBaseType(), mapping);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        SubtypeMapping<?> mapping = mappings.get(type.getRawType());
+        if (mapping == null) {
+            return null;
+        }
+        Map<String, TypeAdapter<?>> labelToAdapter = new HashMap<>();
+        Map<Class<?>, TypeAdapter<?>> typeToAdapter = new HashMap<>();
+        for (Map.Entry<String, ? extends Class<?>> entry : mapping.getSubtypes().entrySet()) {
+            TypeAdapter<?> adapter = gson.getDelegateAdapter(this, TypeToken.get(entry.getValue()));
+            labelToAdapter.put(entry.getKey(), adapter);
+            typeToAdapter.put(entry.getValue(), adapter);
+        }
+        return (TypeAdapter<T>) new Adapter<>(mapping, gson.getAdapter(JsonElement.class), labelToAdapter, typeToAdapter).nullSafe();
+    }
+
+    private static final class Adapter<T> extends TypeAdapter<T> {
+
+        private final SubtypeMapping<T> mapping;
+
+        private final TypeAdapter<JsonElement> treeAdapter;
+
+        private final Map<String, TypeAdapter<?>> labelToAdapter;
+
+        /**
+         * 已注册的子类型及按继承链解析过的子类
+         */
+        private final Map<Class<?>, Class<?>> resolved = new ConcurrentHashMap<>();
+
+        private final Map<Class<?>, TypeAdapter<?>> typeToAdapter;
+
+        private Adapter(SubtypeMapping<T> mapping, TypeAdapter<JsonElement> treeAdapter,
+                        Map<String, TypeAdapter<?>> labelToAdapter, Map<Class<?>, TypeAdapter<?>> typeToAdapter) {
+            this.mapping = mapping;
+            this.treeAdapter = treeAdapter;
+            this.labelToAdapter = labelToAdapter;
+            this.typeToAdapter = typeToAdapter;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T read(JsonReader in) throws IOException {
+            if (in.peek() != JsonToken.BEGIN_OBJECT) {
+                throw new JsonParseException("Expected an object for " + mapping.getBaseType().getName() + " at " + in.getPath());
+            }
+            String path = in.getPath();
+            in.beginObject();
+            List<String> names = new ArrayList<>();
+            List<JsonElement> values = new ArrayList<>();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                if (!name.equals(mapping.getDiscriminator())) {
+                    names.add(name);
+                    values.add(treeAdapter.read(in));
+                    continue;
+                }
+                JsonToken token = in.peek();
+                if (token != JsonToken.STRING && token != JsonToken.NUMBER && token != JsonToken.BOOLEAN) {
+                    break;
+                }
+                String label = token == JsonToken.BOOLEAN ? String.valueOf(in.nextBoolean()) : in.nextString();
+                TypeAdapter<?> adapter = labelToAdapter.get(label);
+                if (adapter == null) {
+                    throw new JsonParseException("Unknown subtype label '" + label + "' for " + mapping.getBaseType().getName() + " at " + path);
+                }
+                Replay replay = new Replay(in, treeAdapter, names, values, name, token, label);
+                JsonReader subtype = new JsonReader(replay);
+                subtype.setLenient(in.isLenient());
+                T value = (T) adapter.read(subtype);
+                replay.finish();
+                return value;
+            }
+            throw new JsonParseException("Missing discriminator '" + mapping.getDiscriminator() + "' for " + mapping.getBaseType().getName() + " at " + path);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void write(JsonWriter out, T value) throws IOException {
+            Class<?> type = resolve(value.getClass());
+            TypeAdapter<T> adapter = (TypeAdapter<T>) typeToAdapter.get(type);
+            adapter.write(new DiscriminatorWriter(out, mapping.getDiscriminator(), mapping.labelOf(type)), value);
+        }
+
+        /**
+         * 沿继承链查找最近的已注册子类型
+         */
+        private Class<?> resolve(Class<?> type) {
+            Class<?> registered = resolved.get(type);
+            if (registered != null) {
+                return registered;
+            }
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                if (typeToAdapter.containsKey(current)) {
+                    resolved.put(type, current);
+                    return current;
+                }
+            }
+            throw new JsonParseException("Unregistered subtype " + type.getName() + " of " + mapping.getBaseType().getName());
+        }
+    }
+
+    /**
+     * 把已缓冲的成员和判别字段，以及 in 中当前对象剩余的 token，逐个渲染为 JSON 字符；
+     * 每次只渲染一个 token，当前对象结束后返回 EOF，in 停在该对象之后
+     */
+    private static final class Replay extends Reader {
+
+        private final JsonReader in;
+
+        private final StringBuilder pending = new StringBuilder();
+
+        private final JsonWriter writer;
+
+        private int position;
+
+        private int depth = 1;
+
+        private Replay(JsonReader in, TypeAdapter<JsonElement> treeAdapter, List<String> names, List<JsonElement> values,
+                       String discriminator, JsonToken labelToken, String label) throws IOException {
+            this.in = in;
+            this.writer = new JsonWriter(new Writer() {
+                @Override
+                public void write(char[] chars, int offset, int length) {
+                    pending.append(chars, offset, length);
+                }
+
+                @Override
+                public void write(String text, int offset, int length) {
+                    pending.append(text, offset, offset + length);
+                }
+
+                @Override
+                public void write(int c) {
+                    pending.append((char) c);
+                }
+
+                @Override
+                public void flush() {
+                    // 内存缓冲，无需刷新
+                }
+
+                @Override
+                public void close() {
+                    // 内存缓冲，无需关闭
+                }
+            });
+            writer.setLenient(true);
+            writer.setSerializeNulls(true);
+            writer.beginObject();
+            for (int i = 0; i < names.size(); i++) {
+                writer.name(names.get(i));
+                treeAdapter.write(writer, values.get(i));
+            }
+            writer.name(discriminator);
+            if (labelToken == JsonToken.STRING) {
+                writer.value(label);
+            } else {
+                writer.jsonValue(label);
+            }
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            while (position == pending.length()) {
+                if (depth == 0) {
+                    return -1;
+                }
+                pending.setLength(0);
+                position = 0;
+                next();
+            }
+            int count = Math.min(length, pending.length() - position);
+            pending.getChars(position, position + count, buffer, offset);
+            position += count;
+            return count;
+        }
+
+        /**
+         * 子类型适配器未读完时跳过当前对象的剩余部分
+         */
+        private void finish() throws IOException {
+            while (depth > 0) {
+                next();
+            }
+        }
+
+        private void next() throws IOException {
+            switch (in.peek()) {
+                case BEGIN_OBJECT:
+                    in.beginObject();
+                    writer.beginObject();
+                    depth++;
+                    break;
+                case END_OBJECT:
+                    in.endObject();
+                    writer.endObject();
+                    depth--;
+                    break;
+                case BEGIN_ARRAY:
+                    in.beginArray();
+                    writer.beginArray();
+                    depth++;
+                    break;
+                case END_ARRAY:
+                    in.endArray();
+                    writer.endArray();
+                    depth--;
+                    break;
+                case NAME:
+                    writer.name(in.nextName());
+                    break;
+                case STRING:
+                    writer.value(in.nextString());
+                    break;
+                case NUMBER:
+                    // 保留数字原文
+                    writer.jsonValue(in.nextString());
+                    break;
+                case BOOLEAN:
+                    writer.value(in.nextBoolean());
+                    break;
+                case NULL:
+                    in.nextNull();
+                    writer.nullValue();
+                    break;
+                default:
+                    throw new JsonParseException("Unexpected end of document at " + in.getPath());
+            }
+        }
+
+        @Override
+        public void close() {
+            // 不关闭 in，由外层读取方负责
+        }
+    }
+
+    /**
+     * 在最外层对象开始后先写出判别字段，并跳过子类型适配器写出的同名字段
+     */
+    private static final class DiscriminatorWriter extends JsonWriter {
+
+        private static final Writer UNWRITABLE = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                throw new AssertionError();
+            }
+
+            @Override
+            public void flush() {
+                throw new AssertionError();
+            }
+
+            @Override
+            public void close() {
+                throw new AssertionError();
+            }
+        };
+
+        private final JsonWriter out;
+
+        private final String discriminator;
+
+        private final String label;
+
+        private int depth;
+
+        /**
+         * 正在跳过同名字段的值时为值内部的嵌套深度加一，否则为 0
+         */
+        private int skipping;
+
+        private DiscriminatorWriter(JsonWriter out, String discriminator, String label) {
+            super(UNWRITABLE);
+            this.out = out;
+            this.discriminator = discriminator;
+            this.label = label;
+            setLenient(out.isLenient());
+            setHtmlSafe(out.isHtmlSafe());
+            setSerializeNulls(out.getSerializeNulls());
+        }
+
+        @Override
+        public JsonWriter beginObject() throws IOException {
+            if (skipping > 0) {
+                skipping++;
+                return this;
+            }
+            out.beginObject();
+            if (depth++ == 0) {
+                out.name(discriminator).value(label);
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter endObject() throws IOException {
+            if (skipping > 0) {
+                endSkippedContainer();
+                return this;
+            }
+            depth--;
+            out.endObject();
+            return this;
+        }
+
+        @Override
+        public JsonWriter beginArray() throws IOException {
+            if (skipping > 0) {
+                skipping++;
+                return this;
+            }
+            depth++;
+            out.beginArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter endArray() throws IOException {
+            if (skipping > 0) {
+                endSkippedContainer();
+                return this;
+            }
+            depth--;
+            out.endArray();
+            return this;
+        }
+
+        @Override
+        public JsonWriter name(String name) throws IOException {
+            if (skipping > 0) {
+                return this;
+            }
+            if (depth == 1 && name.equals(discriminator)) {
+                skipping = 1;
+                return this;
+            }
+            out.name(name);
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(String value) throws IOException {
+            if (!skipValue()) {
+                out.value(value);
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter jsonValue(String value) throws IOException {
+            if (!skipValue()) {
+                out.jsonValue(value);
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter nullValue() throws IOException {
+            if (!skipValue()) {
+                out.nullValue();
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(boolean value) throws IOException {
+            if (!skipValue()) {
+                out.value(value);
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Boolean value) throws IOException {
+            if (!skipValue()) {
+                out.value(value);
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(double value) throws IOException {
+            if (!skipValue()) {
+                out.value(value);
+            }
+            return this;
+        }
+
+        /**
+         * 旧版本 Gson 没有该方法，不加 {@code @Override} 并按 Number 转发以保持兼容
+         */
+        public JsonWriter value(float value) throws IOException {
+            if (!skipValue()) {
+                out.value(Float.valueOf(value));
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(long value) throws IOException {
+            if (!skipValue()) {
+                out.value(value);
+            }
+            return this;
+        }
+
+        @Override
+        public JsonWriter value(Number value) throws IOException {
+            if (!skipValue()) {
+                out.value(value);
+            }
+            return this;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() {
+            // 不关闭外层写入器
+        }
+
+        /**
+         * 标量值：跳过同名字段的值时结束跳过并返回 true
+         */
+        private boolean skipValue() {
+            if (skipping == 0) {
+                return false;
+            }
+            if (skipping == 1) {
+                skipping = 0;
+            }
+            return true;
+        }
+
+        private void endSkippedContainer() {
+            skipping--;
+            if (skipping == 1) {
+                skipping = 0;
+            }
+        }
+    }
+}
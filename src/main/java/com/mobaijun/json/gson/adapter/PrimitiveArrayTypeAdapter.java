@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Description: [int[]、long[]、double[] 的无装箱适配器]
+ * <p>
+ * 数字直接读入可增长的基本类型数组，不经过 NumberTypeAdapter 的 String 和包装对象；
+ * 与 NumberTypeAdapter 一致，带引号的数字也可以解析；元素为 null 或空串时抛出 {@link JsonSyntaxException}，
+ * 与注册本适配器之前 Gson 无法把 null 放入基本类型数组而失败的行为保持一致。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 16:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public abstract class PrimitiveArrayTypeAdapter<T> extends TypeAdapter<T> {
+
+    /**
+     * 初始缓冲区大小
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * int[] 适配器
+     */
+    public static final PrimitiveArrayTypeAdapter<int[]> INT_ARRAY = new PrimitiveArrayTypeAdapter<int[]>() {
+        @Override
+        public void write(JsonWriter out, int[] value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (int element : value) {
+                out.value(element);
+            }
+            out.endArray();
+        }
+
+        @Override
+        protected int[] readArray(JsonReader in) throws IOException {
+            int[] buffer = new int[INITIAL_CAPACITY];
+            int size = 0;
+            while (in.hasNext()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, grow(size));
+                }
+                buffer[size++] = nextInt(in);
+            }
+            return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+        }
+    };
+
+    /**
+     * long[] 适配器
+     */
+    public static final PrimitiveArrayTypeAdapter<long[]> LONG_ARRAY = new PrimitiveArrayTypeAdapter<long[]>() {
+        @Override
+        public void write(JsonWriter out, long[] value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (long element : value) {
+                out.value(element);
+            }
+            out.endArray();
+        }
+
+        @Override
+        protected long[] readArray(JsonReader in) throws IOException {
+            long[] buffer = new long[INITIAL_CAPACITY];
+            int size = 0;
+            while (in.hasNext()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, grow(size));
+                }
+                buffer[size++] = nextLong(in);
+            }
+            return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+        }
+    };
+
+    /**
+     * double[] 适配器
+     */
+    public static final PrimitiveArrayTypeAdapter<double[]> DOUBLE_ARRAY = new PrimitiveArrayTypeAdapter<double[]>() {
+        @Override
+        public void write(JsonWriter out, double[] value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            for (double element : value) {
+                out.value(element);
+            }
+            out.endArray();
+        }
+
+        @Override
+        protected double[] readArray(JsonReader in) throws IOException {
+            double[] buffer = new double[INITIAL_CAPACITY];
+            int size = 0;
+            while (in.hasNext()) {
+                if (size == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, grow(size));
+                }
+                buffer[size++] = nextDouble(in);
+            }
+            return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+        }
+    };
+
+    @Override
+    public T read(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        in.beginArray();
+        T array = readArray(in);
+        in.endArray();
+        return array;
+    }
+
+    /**
+     * 读取数组元素，调用时已经进入数组
+     *
+     * @param in JSON 读取器
+     * @return 基本类型数组
+     * @throws IOException 读取异常
+     */
+    protected abstract T readArray(JsonReader in) throws IOException;
+
+    private static int grow(int size) {
+        return size + (size >> 1);
+    }
+
+    private static int nextInt(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NUMBER) {
+            // 整数字面量由 JsonReader 直接解析为 long，不会创建 String
+            return in.nextInt();
+        }
+        String value = nextLenient(in, token);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Expected an int but was " + value + " at " + in.getPath(), e);
+        }
+    }
+
+    private static long nextLong(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NUMBER) {
+            return in.nextLong();
+        }
+        String value = nextLenient(in, token);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Expected a long but was " + value + " at " + in.getPath(), e);
+        }
+    }
+
+    private static double nextDouble(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NUMBER) {
+            return in.nextDouble();
+        }
+        String value = nextLenient(in, token);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new JsonSyntaxException("Expected a double but was " + value + " at " + in.getPath(), e);
+        }
+    }
+
+    /**
+     * 读取带引号的数字，null 与空串无法放入基本类型数组，直接拒绝
+     */
+    private static String nextLenient(JsonReader in, JsonToken token) throws IOException {
+        if (token == JsonToken.NULL) {
+            throw new JsonSyntaxException("Primitive array element must not be null at " + in.getPath());
+        }
+        String value = in.nextString().trim();
+        if (value.isEmpty()) {
+            throw new JsonSyntaxException("Primitive array element must not be empty at " + in.getPath());
+        }
+        return value;
+    }
+}
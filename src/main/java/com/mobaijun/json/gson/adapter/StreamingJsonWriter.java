@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Description: [可以直接向底层 Writer 写入字符串值内容的 JsonWriter]
+ * <p>
+ * {@link JsonWriter} 不缓冲输出，开引号通过 {@link #jsonValue(String)} 写出（同时处理逗号和成员名），
+ * 之后的内容直接写入底层 Writer，最后写出闭引号，写出器的状态保持一致。
+ * 内容必须是不需要转义的字符，例如 Base64。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class StreamingJsonWriter extends JsonWriter {
+
+    /**
+     * 字符串值内容的写入回调
+     */
+    @FunctionalInterface
+    public interface ValueContent {
+
+        /**
+         * 写入字符串值的内容，不包括引号
+         *
+         * @param out 底层 Writer
+         * @throws IOException 写入异常
+         */
+        void writeTo(Writer out) throws IOException;
+    }
+
+    private final Writer out;
+
+    public StreamingJsonWriter(Writer out) {
+        super(out);
+        this.out = out;
+    }
+
+    /**
+     * 写出一个字符串值，内容由回调直接写入底层 Writer
+     *
+     * @param content 内容回调
+     * @return this
+     * @throws IOException 写入异常
+     */
+    public StreamingJsonWriter stringValue(ValueContent content) throws IOException {
+        jsonValue("\"");
+        content.writeTo(out);
+        out.write('"');
+        return this;
+    }
+}
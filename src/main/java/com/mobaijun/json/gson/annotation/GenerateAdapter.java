@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Description: [标记需要在编译期生成 Gson TypeAdapter 的实体类]
+ * <p>
+ * 被标记的类在编译时由 {@code GsonAdapterProcessor} 生成名为 {@code 类名_GsonTypeAdapter} 的适配器，
+ * 字段命名遵循 GsonUtil 使用的 LOWER_CASE_WITH_UNDERSCORES 策略，运行时由 GsonUtil 自动注册，无需反射绑定字段。
+ * 编译类路径上存在 FastJson 2 时还会生成 {@code 类名_FastJsonObjectReader} 与 {@code 类名_FastJsonObjectWriter}，
+ * 字段名沿用 FastJson 的默认规则（字段原名或 {@code @JSONField} 指定的名称），由 FastJsonUtil 注册到 FastJson。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 10:12]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GenerateAdapter {
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.canonical;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mobaijun.json.gson.exception.GsonException;
+import com.mobaijun.json.util.XxHash64;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: [JSON 规范化与内容哈希]
+ * <p>
+ * 规范形式：对象键按 UTF-16 码元升序排列，无空白，字符串使用最少转义，数字按数值规范化
+ * （{@code 1.0}、{@code 1e0}、{@code 1} 相同，{@code -0} 写作 {@code 0}，十进制指数不在 [-7, 21) 范围内时使用科学计数法），
+ * 数字按 {@link BigDecimal} 处理，不会丢失精度。
+ * <p>
+ * 哈希在 token 流上计算，不会生成规范字符串：基本值对类型标记和规范文本做 xxHash64，数组依次组合元素哈希，
+ * 对象按键排序后组合键和值的哈希。规范形式相同的文档哈希相同，可以直接用作去重和缓存键。
+ * 重复的键与 {@link JsonParser} 一致，后出现的值生效。
+ * <p>
+ * 文本输入在 {@link #canonicalize(String)} 和 {@link #hash(Reader)} 中使用相同的严格解析：
+ * 不接受未加引号的键、单引号字符串、注释以及 NaN/Infinity 等宽松语法；
+ * JSON 树中的非有限数字同样被拒绝，抛出 {@link GsonException}。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 19:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class CanonicalJson {
+
+    private static final byte NULL_TAG = 'n';
+
+    private static final byte TRUE_TAG = 't';
+
+    private static final byte FALSE_TAG = 'f';
+
+    private static final byte NUMBER_TAG = '#';
+
+    private static final byte STRING_TAG = '"';
+
+    private static final byte ARRAY_TAG = '[';
+
+    private static final byte OBJECT_TAG = '{';
+
+    /**
+     * 直接使用 JsonElement 适配器读取，保留 JsonReader 默认的严格模式；
+     * {@link JsonParser#parseReader(JsonReader)} 会临时切换为宽松模式
+     */
+    private static final TypeAdapter<JsonElement> ELEMENT_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    /**
+     * 转换为规范形式
+     *
+     * @param json JSON 字符串
+     * @return 规范 JSON 字符串
+     * @throws GsonException 解析异常
+     */
+    public static String canonicalize(String json) {
+        try {
+            JsonReader in = new JsonReader(new StringReader(json));
+            JsonElement element = ELEMENT_ADAPTER.read(in);
+            if (in.peek() != JsonToken.END_DOCUMENT) {
+                throw new GsonException("JSON document has trailing content");
+            }
+            return canonicalize(element);
+        } catch (IOException | IllegalStateException | NumberFormatException | JsonParseException e) {
+            throw new GsonException("Error while canonicalizing JSON", e);
+        }
+    }
+
+    /**
+     * 转换为规范形式
+     *
+     * @param element JSON 树
+     * @return 规范 JSON 字符串
+     * @throws GsonException 包含 NaN 或无穷大
+     */
+    public static String canonicalize(JsonElement element) {
+        StringWriter writer = new StringWriter();
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setSerializeNulls(true);
+        jsonWriter.setHtmlSafe(false);
+        try {
+            write(element, jsonWriter);
+            jsonWriter.flush();
+        } catch (IOException e) {
+            // StringWriter 不会抛出 IOException
+            throw new GsonException("Error while canonicalizing JSON", e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * 计算规范形式的 64 位哈希
+     *
+     * @param json JSON 字符串
+     * @return 哈希值
+     * @throws GsonException 解析异常
+     */
+    public static long hash(String json) {
+        return hash(new StringReader(json));
+    }
+
+    /**
+     * 以流式方式计算规范形式的 64 位哈希，不会构建 JSON 树
+     *
+     * @param reader 输入，不会被关闭
+     * @return 哈希值
+     * @throws GsonException 解析或读取异常
+     */
+    public static long hash(Reader reader) {
+        try {
+            JsonReader in = new JsonReader(reader);
+            long hash = hash(in, new XxHash64());
+            if (in.peek() != JsonToken.END_DOCUMENT) {
+                throw new GsonException("JSON document has trailing content");
+            }
+            return hash;
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new GsonException("Error while hashing JSON", e);
+        }
+    }
+
+    /**
+     * 计算 JSON 树规范形式的 64 位哈希，与对应文本的 {@link #hash(String)} 相同
+     *
+     * @param element JSON 树
+     * @return 哈希值
+     * @throws GsonException 包含 NaN 或无穷大
+     */
+    public static long hash(JsonElement element) {
+        return hash(element, new XxHash64());
+    }
+
+    /**
+     * 规范化数字文本
+     *
+     * @param number JSON 数字文本
+     * @return 规范数字文本
+     * @throws NumberFormatException 不是合法数字，包括 NaN 和无穷大
+     */
+    public static String normalizeNumber(String number) {
+        BigDecimal value;
+        try {
+            value = new BigDecimal(number);
+        } catch (NumberFormatException e) {
+            NumberFormatException rejected = new NumberFormatException("Not a finite JSON number: " + number);
+            rejected.initCause(e);
+            throw rejected;
+        }
+        if (value.signum() == 0) {
+            return "0";
+        }
+        value = value.stripTrailingZeros();
+        int exponent = value.precision() - value.scale() - 1;
+        if (exponent >= -7 && exponent < 21) {
+            return value.toPlainString();
+        }
+        String digits = value.unscaledValue().abs().toString();
+        StringBuilder builder = new StringBuilder(digits.length() + 8);
+        if (value.signum() < 0) {
+            builder.append('-');
+        }
+        builder.append(digits.charAt(0));
+        if (digits.length() > 1) {
+            builder.append('.').append(digits, 1, digits.length());
+        }
+        return builder.append(exponent > 0 ? "e+" : "e").append(exponent).toString();
+    }
+
+    private static void write(JsonElement element, JsonWriter out) throws IOException {
+        if (element.isJsonNull()) {
+            out.nullValue();
+        } else if (element.isJsonArray()) {
+            out.beginArray();
+            for (JsonElement child : element.getAsJsonArray()) {
+                write(child, out);
+            }
+            out.endArray();
+        } else if (element.isJsonObject()) {
+            List<Map.Entry<String, JsonElement>> members = new ArrayList<>(element.getAsJsonObject().entrySet());
+            members.sort(Map.Entry.comparingByKey());
+            out.beginObject();
+            for (Map.Entry<String, JsonElement> member : members) {
+                out.name(member.getKey());
+                write(member.getValue(), out);
+            }
+            out.endObject();
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                out.jsonValue(normalizeNumber(primitive));
+            } else if (primitive.isBoolean()) {
+                out.value(primitive.getAsBoolean());
+            } else {
+                out.value(primitive.getAsString());
+            }
+        }
+    }
+
+    /**
+     * 流式计算下一个值的哈希，scratch 仅用于基本值
+     */
+    private static long hash(JsonReader in, XxHash64 scratch) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_ARRAY:
+                XxHash64 array = new XxHash64().update(ARRAY_TAG);
+                long size = 0;
+                in.beginArray();
+                while (in.hasNext()) {
+                    array.update(hash(in, scratch));
+                    size++;
+                }
+                in.endArray();
+                return array.update(size).digest();
+            case BEGIN_OBJECT:
+                List<Member> members = new ArrayList<>();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    members.add(new Member(name, hash(in, scratch)));
+                }
+                in.endObject();
+                return hashMembers(members, scratch);
+            case STRING:
+                return hashPrimitive(scratch, STRING_TAG, in.nextString());
+            case NUMBER:
+                return hashPrimitive(scratch, NUMBER_TAG, normalizeNumber(in.nextString()));
+            case BOOLEAN:
+                return scratch.reset().update(in.nextBoolean() ? TRUE_TAG : FALSE_TAG).digest();
+            case NULL:
+                in.nextNull();
+                return scratch.reset().update(NULL_TAG).digest();
+            default:
+                throw new IllegalStateException("Unexpected token: " + in.peek());
+        }
+    }
+
+    private static long hash(JsonElement element, XxHash64 scratch) {
+        if (element.isJsonNull()) {
+            return scratch.reset().update(NULL_TAG).digest();
+        }
+        if (element.isJsonArray()) {
+            XxHash64 array = new XxHash64().update(ARRAY_TAG);
+            for (JsonElement child : element.getAsJsonArray()) {
+                array.update(hash(child, scratch));
+            }
+            return array.update((long) element.getAsJsonArray().size()).digest();
+        }
+        if (element.isJsonObject()) {
+            List<Member> members = new ArrayList<>();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                members.add(new Member(entry.getKey(), hash(entry.getValue(), scratch)));
+            }
+            return hashMembers(members, scratch);
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isNumber()) {
+            return hashPrimitive(scratch, NUMBER_TAG, normalizeNumber(primitive));
+        }
+        if (primitive.isBoolean()) {
+            return scratch.reset().update(primitive.getAsBoolean() ? TRUE_TAG : FALSE_TAG).digest();
+        }
+        return hashPrimitive(scratch, STRING_TAG, primitive.getAsString());
+    }
+
+    /**
+     * JSON 树可以由宽松解析或 {@code new JsonPrimitive(Double.NaN)} 得到非有限数字，这里统一转换为 GsonException
+     */
+    private static String normalizeNumber(JsonPrimitive primitive) {
+        try {
+            return normalizeNumber(primitive.getAsString());
+        } catch (NumberFormatException e) {
+            throw new GsonException("JSON forbids NaN and infinities: %s", e, primitive.getAsString());
+        }
+    }
+
+    private static long hashPrimitive(XxHash64 scratch, byte tag, String text) {
+        return scratch.reset().update(tag).update(text).digest();
+    }
+
+    /**
+     * 按键排序后组合成员哈希，重复的键保留最后出现的值
+     */
+    private static long hashMembers(List<Member> members, XxHash64 scratch) {
+        // Collections.sort 是稳定排序，相同的键保持出现顺序
+        Collections.sort(members);
+        XxHash64 object = new XxHash64().update(OBJECT_TAG);
+        long size = 0;
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            if (i + 1 < members.size() && members.get(i + 1).name.equals(member.name)) {
+                continue;
+            }
+            object.update(hashPrimitive(scratch, STRING_TAG, member.name)).update(member.valueHash);
+            size++;
+        }
+        return object.update(size).digest();
+    }
+
+    private static final class Member implements Comparable<Member> {
+
+        private final String name;
+
+        private final long valueHash;
+
+        private Member(String name, long valueHash) {
+            this.name = name;
+            this.valueHash = valueHash;
+        }
+
+        @Override
+        public int compareTo(Member other) {
+            return name.compareTo(other.name);
+        }
+    }
+}
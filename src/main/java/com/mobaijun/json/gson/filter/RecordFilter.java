@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.filter;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.mobaijun.json.util.Utf8ByteReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: [记录过滤条件，在 token 流上求值，不构建对象]
+ * <p>
+ * 条件作用于 {@code .} 分隔的对象字段路径，多个条件之间为“且”。求值时只读取条件涉及的字段，其余值在 token 层跳过；
+ * 任一条件不满足立即停止读取，全部条件满足后也不再读取剩余部分，因此选择性高的查询代价接近一次 token 扫描。
+ * 字段不存在、路径经过数组或值为对象/数组时条件不成立。数字按数值比较（{@code 1} 与 {@code 1.0} 相等），
+ * 字符串、布尔值和 null 按值比较，不做类型转换。过滤条件不可变，可以在多个线程间共享。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 21:30]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class RecordFilter {
+
+    /**
+     * 对象或数组值，任何条件都不成立
+     */
+    private static final Object NOT_SCALAR = new Object();
+
+    /**
+     * JSON null 的哨兵，便于放入集合比较
+     */
+    private static final Object NULL = new Object();
+
+    private final List<Condition> conditions;
+
+    private final Node root;
+
+    private RecordFilter(List<Condition> conditions) {
+        this.conditions = conditions;
+        this.root = new Node();
+        for (int i = 0; i < conditions.size(); i++) {
+            Node node = root;
+            for (String name : conditions.get(i).path) {
+                node = node.children.computeIfAbsent(name, key -> new Node());
+            }
+            node.conditions.add(i);
+        }
+    }
+
+    /**
+     * 字段等于指定值
+     *
+     * @param path  字段路径，例如 {@code user.status}
+     * @param value 数字、字符串、布尔值或 null
+     * @return 过滤条件
+     */
+    public static RecordFilter eq(String path, Object value) {
+        return in(path, Collections.singleton(value));
+    }
+
+    /**
+     * 字段值在指定集合中
+     *
+     * @param path   字段路径
+     * @param values 候选值，数字、字符串、布尔值或 null
+     * @return 过滤条件
+     */
+    public static RecordFilter in(String path, Collection<?> values) {
+        Set<Object> normalized = new HashSet<>();
+        for (Object value : values) {
+            normalized.add(normalize(value));
+        }
+        return new RecordFilter(Collections.singletonList(new Condition(path, normalized, null, null)));
+    }
+
+    /**
+     * 字段值在闭区间 [min, max] 内，数字按数值比较，字符串按字典序比较
+     *
+     * @param path 字段路径
+     * @param min  下界，为 null 表示不限
+     * @param max  上界，为 null 表示不限
+     * @return 过滤条件
+     */
+    public static RecordFilter range(String path, Object min, Object max) {
+        if (min == null && max == null) {
+            throw new IllegalArgumentException("range 至少需要一个边界: " + path);
+        }
+        Comparable<Object> lower = comparable(min);
+        Comparable<Object> upper = comparable(max);
+        if (lower != null && upper != null && lower.getClass() != upper.getClass()) {
+            throw new IllegalArgumentException("range 上下界类型必须一致: " + path);
+        }
+        return new RecordFilter(Collections.singletonList(new Condition(path, null, lower, upper)));
+    }
+
+    /**
+     * 与另一个过滤条件同时成立
+     *
+     * @param other 另一个过滤条件
+     * @return 新的过滤条件
+     */
+    public RecordFilter and(RecordFilter other) {
+        List<Condition> combined = new ArrayList<>(conditions);
+        combined.addAll(other.conditions);
+        return new RecordFilter(combined);
+    }
+
+    /**
+     * 判断一条 JSON 记录是否满足全部条件
+     *
+     * @param json JSON 记录
+     * @return 是否满足
+     * @throws IOException JSON 格式错误
+     */
+    public boolean matches(String json) throws IOException {
+        return matches(new JsonReader(new StringReader(json)));
+    }
+
+    /**
+     * 直接在一段 UTF-8 字节上判断 JSON 记录是否满足全部条件，只解码求值读到的部分，不复制为 String
+     *
+     * @param bytes  UTF-8 字节
+     * @param offset 记录起始位置
+     * @param length 记录字节数
+     * @return 是否满足
+     * @throws IOException JSON 格式错误
+     */
+    public boolean matches(byte[] bytes, int offset, int length) throws IOException {
+        return matches(new JsonReader(new Utf8ByteReader(bytes, offset, length)));
+    }
+
+    private boolean matches(JsonReader in) throws IOException {
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            return false;
+        }
+        boolean[] satisfied = new boolean[conditions.size()];
+        int[] remaining = {conditions.size()};
+        return evaluate(in, root, satisfied, remaining) && remaining[0] == 0;
+    }
+
+    /**
+     * 读取一个对象，返回 false 表示已有条件不成立；remaining 降为 0 时提前返回，剩余部分不再读取
+     */
+    private boolean evaluate(JsonReader in, Node node, boolean[] satisfied, int[] remaining) throws IOException {
+        in.beginObject();
+        while (in.hasNext()) {
+            Node child = node.children.get(in.nextName());
+            if (child == null) {
+                in.skipValue();
+                continue;
+            }
+            JsonToken token = in.peek();
+            if (token == JsonToken.BEGIN_OBJECT && !child.children.isEmpty() && child.conditions.isEmpty()) {
+                if (!evaluate(in, child, satisfied, remaining)) {
+                    return false;
+                }
+            } else if (!child.conditions.isEmpty()) {
+                Object value = readScalar(in, token);
+                for (int index : child.conditions) {
+                    if (value == NOT_SCALAR || !conditions.get(index).test(value)) {
+                        return false;
+                    }
+                    if (!satisfied[index]) {
+                        satisfied[index] = true;
+                        remaining[0]--;
+                    }
+                }
+            } else {
+                // 路径要求对象但实际不是对象，子路径上的条件不可能成立
+                return false;
+            }
+            if (remaining[0] == 0) {
+                return true;
+            }
+        }
+        in.endObject();
+        return true;
+    }
+
+    private static Object readScalar(JsonReader in, JsonToken token) throws IOException {
+        switch (token) {
+            case NUMBER:
+                return normalizeNumber(in.nextString());
+            case STRING:
+                return in.nextString();
+            case BOOLEAN:
+                return in.nextBoolean();
+            case NULL:
+                in.nextNull();
+                return NULL;
+            default:
+                in.skipValue();
+                return NOT_SCALAR;
+        }
+    }
+
+    private static Object normalize(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Number) {
+            return normalizeNumber(value.toString());
+        }
+        if (value instanceof String || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        throw new IllegalArgumentException("不支持的条件值类型: " + value.getClass().getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object bound) {
+        if (bound == null) {
+            return null;
+        }
+        Object normalized = normalize(bound);
+        if (!(normalized instanceof BigDecimal) && !(normalized instanceof String)) {
+            throw new IllegalArgumentException("range 边界必须是数字或字符串: " + bound);
+        }
+        return (Comparable<Object>) normalized;
+    }
+
+    private static BigDecimal normalizeNumber(String text) {
+        BigDecimal value = new BigDecimal(text);
+        return value.signum() == 0 ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+
+    /**
+     * 字段路径节点
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+
+        private final List<Integer> conditions = new ArrayList<>(1);
+    }
+
+    /**
+     * 单个条件：values 不为 null 时为集合匹配，否则为区间匹配
+     */
+    private static final class Condition {
+
+        private final String[] path;
+
+        private final Set<Object> values;
+
+        private final Comparable<Object> min;
+
+        private final Comparable<Object> max;
+
+        private Condition(String path, Set<Object> values, Comparable<Object> min, Comparable<Object> max) {
+            this.path = path.split("\\.");
+            if (Arrays.asList(this.path).contains("")) {
+                throw new IllegalArgumentException("非法的字段路径: " + path);
+            }
+            this.values = values;
+            this.min = min;
+            this.max = max;
+        }
+
+        private boolean test(Object value) {
+            if (values != null) {
+                return values.contains(value);
+            }
+            Comparable<Object> bound = min != null ? min : max;
+            if (value.getClass() != bound.getClass()) {
+                return false;
+            }
+            return (min == null || min.compareTo(value) <= 0) && (max == null || max.compareTo(value) >= 0);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.patch;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.mobaijun.json.gson.canonical.CanonicalJson;
+import com.mobaijun.json.util.JsonPointer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: [比较两个 JSON 文档，生成 RFC 6902 JSON Patch]
+ * <p>
+ * 对象逐字段递归比较，只为变化的叶子生成操作；数组在指定元素 id 字段且所有元素都带有 id 时按 id 匹配，
+ * 生成 remove/move/add 以及匹配元素内部的差异，否则按下标比较。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 17:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonDiff {
+
+    private final String idKey;
+
+    private final JsonArray patch = new JsonArray();
+
+    private JsonDiff(String idKey) {
+        this.idKey = idKey;
+    }
+
+    /**
+     * 生成从 source 变换到 target 的补丁，数组按下标比较
+     *
+     * @param source 原文档
+     * @param target 目标文档
+     * @return RFC 6902 补丁
+     */
+    public static JsonArray diff(JsonElement source, JsonElement target) {
+        return diff(source, target, null);
+    }
+
+    /**
+     * 生成从 source 变换到 target 的补丁
+     *
+     * @param source 原文档
+     * @param target 目标文档
+     * @param idKey  数组元素的 id 字段名，为 null 时数组按下标比较
+     * @return RFC 6902 补丁
+     */
+    public static JsonArray diff(JsonElement source, JsonElement target, String idKey) {
+        JsonDiff jsonDiff = new JsonDiff(idKey);
+        jsonDiff.diff("", source, target);
+        return jsonDiff.patch;
+    }
+
+    private void diff(String path, JsonElement source, JsonElement target) {
+        if (same(source, target)) {
+            return;
+        }
+        if (source.isJsonObject() && target.isJsonObject()) {
+            diffObject(path, source.getAsJsonObject(), target.getAsJsonObject());
+        } else if (source.isJsonArray() && target.isJsonArray()) {
+            JsonArray sourceArray = source.getAsJsonArray();
+            JsonArray targetArray = target.getAsJsonArray();
+            if (idKey != null && hasIds(sourceArray) && hasIds(targetArray)) {
+                diffKeyedArray(path, sourceArray, targetArray);
+            } else {
+                diffIndexedArray(path, sourceArray, targetArray);
+            }
+        } else {
+            addOperation("replace", path, target);
+        }
+    }
+
+    private void diffObject(String path, JsonObject source, JsonObject target) {
+        for (Map.Entry<String, JsonElement> entry : source.entrySet()) {
+            String childPath = path + "/" + JsonPointer.escape(entry.getKey());
+            JsonElement targetValue = target.get(entry.getKey());
+            if (targetValue == null) {
+                addOperation("remove", childPath, null);
+            } else {
+                diff(childPath, entry.getValue(), targetValue);
+            }
+        }
+        for (Map.Entry<String, JsonElement> entry : target.entrySet()) {
+            if (!source.has(entry.getKey())) {
+                addOperation("add", path + "/" + JsonPointer.escape(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    private void diffIndexedArray(String path, JsonArray source, JsonArray target) {
+        int common = Math.min(source.size(), target.size());
+        for (int i = 0; i < common; i++) {
+            diff(path + "/" + i, source.get(i), target.get(i));
+        }
+        for (int i = source.size() - 1; i >= common; i--) {
+            addOperation("remove", path + "/" + i, null);
+        }
+        for (int i = common; i < target.size(); i++) {
+            addOperation("add", path + "/-", target.get(i));
+        }
+    }
+
+    /**
+     * 按 id 匹配数组元素：先删除目标中不存在的元素，再按目标顺序逐位移动或插入，最后比较匹配元素的内容
+     */
+    private void diffKeyedArray(String path, JsonArray source, JsonArray target) {
+        Set<String> targetIds = new HashSet<>();
+        for (JsonElement element : target) {
+            targetIds.add(id(element));
+        }
+        Map<String, JsonElement> sourceById = new HashMap<>();
+        List<String> working = new ArrayList<>(source.size());
+        for (JsonElement element : source) {
+            sourceById.put(id(element), element);
+            working.add(id(element));
+        }
+        if (sourceById.size() != source.size() || targetIds.size() != target.size()) {
+            // id 不唯一时无法按 id 匹配
+            diffIndexedArray(path, source, target);
+            return;
+        }
+        for (int i = working.size() - 1; i >= 0; i--) {
+            if (!targetIds.contains(working.get(i))) {
+                addOperation("remove", path + "/" + i, null);
+                working.remove(i);
+            }
+        }
+        for (int j = 0; j < target.size(); j++) {
+            JsonElement targetElement = target.get(j);
+            String id = id(targetElement);
+            JsonElement sourceElement = sourceById.get(id);
+            if (sourceElement == null) {
+                addOperation("add", path + "/" + j, targetElement);
+                working.add(j, id);
+                continue;
+            }
+            int current = working.indexOf(id);
+            if (current != j) {
+                JsonObject operation = new JsonObject();
+                operation.addProperty("op", "move");
+                operation.addProperty("from", path + "/" + current);
+                operation.addProperty("path", path + "/" + j);
+                patch.add(operation);
+                working.remove(current);
+                working.add(j, id);
+            }
+            diff(path + "/" + j, sourceElement, targetElement);
+        }
+    }
+
+    private boolean hasIds(JsonArray array) {
+        for (JsonElement element : array) {
+            if (!element.isJsonObject()) {
+                return false;
+            }
+            JsonElement id = element.getAsJsonObject().get(idKey);
+            if (id == null || !id.isJsonPrimitive()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * id 的比较键：数字按 {@link CanonicalJson#normalizeNumber(String)} 规范化，1 与 1.0 视为同一 id；
+     * 键带有类型前缀，数字 1 与字符串 "1" 仍是不同的 id；NaN 和无穷大没有规范形式，按原文比较
+     */
+    private String id(JsonElement element) {
+        JsonPrimitive id = element.getAsJsonObject().getAsJsonPrimitive(idKey);
+        if (id.isNumber()) {
+            try {
+                return "n:" + CanonicalJson.normalizeNumber(id.getAsString());
+            } catch (NumberFormatException e) {
+                return "n:" + id.getAsString();
+            }
+        }
+        return (id.isBoolean() ? "b:" : "s:") + id.getAsString();
+    }
+
+    /**
+     * 结构相等，数字按数值精确比较；{@link JsonPrimitive#equals(Object)} 以 double 比较解析得到的数字，
+     * 超过 2^53 的相邻整数会被当作相等
+     *
+     * @param a 值
+     * @param b 值
+     * @return 是否相等
+     */
+    static boolean same(JsonElement a, JsonElement b) {
+        if (a.isJsonPrimitive() && b.isJsonPrimitive()) {
+            JsonPrimitive left = a.getAsJsonPrimitive();
+            JsonPrimitive right = b.getAsJsonPrimitive();
+            if (left.isNumber() && right.isNumber()) {
+                return sameNumber(left.getAsNumber(), right.getAsNumber());
+            }
+            return left.equals(right);
+        }
+        if (a.isJsonObject() && b.isJsonObject()) {
+            JsonObject left = a.getAsJsonObject();
+            JsonObject right = b.getAsJsonObject();
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (Map.Entry<String, JsonElement> entry : left.entrySet()) {
+                JsonElement other = right.get(entry.getKey());
+                if (other == null || !same(entry.getValue(), other)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a.isJsonArray() && b.isJsonArray()) {
+            JsonArray left = a.getAsJsonArray();
+            JsonArray right = b.getAsJsonArray();
+            if (left.size() != right.size()) {
+                return false;
+            }
+            for (int i = 0; i < left.size(); i++) {
+                if (!same(left.get(i), right.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.isJsonNull() && b.isJsonNull();
+    }
+
+    private static boolean sameNumber(Number a, Number b) {
+        // 对象树中的整数之间、浮点数之间可以直接比较，不需要解析
+        if (isIntegral(a) && isIntegral(b)) {
+            return a.longValue() == b.longValue();
+        }
+        if (isFloating(a) && isFloating(b)) {
+            return a.doubleValue() == b.doubleValue();
+        }
+        if (isNonFinite(a) || isNonFinite(b)) {
+            return false;
+        }
+        return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString())) == 0;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static boolean isFloating(Number number) {
+        return number instanceof Double || number instanceof Float;
+    }
+
+    private static boolean isNonFinite(Number number) {
+        return isFloating(number) && (Double.isNaN(number.doubleValue()) || Double.isInfinite(number.doubleValue()));
+    }
+
+    private void addOperation(String op, String path, JsonElement value) {
+        JsonObject operation = new JsonObject();
+        operation.addProperty("op", op);
+        operation.addProperty("path", path);
+        if (value != null) {
+            operation.add("value", value.deepCopy());
+        }
+        patch.add(operation);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.patch;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mobaijun.json.gson.exception.GsonException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: [RFC 7396 JSON Merge Patch 的流式合并引擎]
+ * <p>
+ * 第一个文档作为基础层按 token 流式复制到输出，后续各层先按顺序合成为一棵覆盖树，再在一次遍历中叠加到基础层：
+ * 未被覆盖的子树直接从输入复制到输出，不会构建中间树；覆盖层中的 null 表示删除字段，非对象值整体替换。
+ * <p>
+ * 只有基础层是流式读取的，覆盖层会被完整解析。覆盖按成员名作用于基础层，而各层成员的顺序互不相关：
+ * 基础层的某个成员流过时，它在覆盖层中对应的键可能还没有读到，同时流式读取所有层就需要缓存任意多的内容。
+ * 因此覆盖层先合成为一棵覆盖树，适用于覆盖层远小于基础层的场景（例如默认配置加环境差异）；
+ * 覆盖层与基础层同样大时，内存占用与解析整棵树相当。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 18:30]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonMergePatch {
+
+    /**
+     * 合并多个 JSON 文档，后面的文档覆盖前面的文档
+     *
+     * @param documents 文档，至少一个；第一个作为基础层
+     * @return 合并后的 JSON 字符串
+     * @throws GsonException 解析或写出异常
+     */
+    public static String merge(String... documents) {
+        if (documents == null || documents.length == 0) {
+            throw new IllegalArgumentException("至少需要一个JSON文档");
+        }
+        List<Reader> overlays = new ArrayList<>(documents.length - 1);
+        for (int i = 1; i < documents.length; i++) {
+            overlays.add(new StringReader(documents[i]));
+        }
+        StringWriter writer = new StringWriter(documents[0].length());
+        merge(new StringReader(documents[0]), overlays, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 将覆盖层按顺序合并到基础层并写出，基础层以流式方式读取，覆盖层会被完整解析并合成为覆盖树
+     *
+     * @param base     基础层
+     * @param overlays 覆盖层，按优先级从低到高排列
+     * @param out      输出，方法结束时会被 flush 但不会关闭
+     * @throws GsonException 解析或写出异常
+     */
+    public static void merge(Reader base, List<Reader> overlays, Writer out) {
+        Overlay overlay = null;
+        try {
+            for (Reader reader : overlays) {
+                Overlay next = Overlay.of(JsonParser.parseReader(reader));
+                overlay = overlay == null ? next : compose(overlay, next);
+            }
+            JsonReader jsonReader = new JsonReader(base);
+            JsonWriter jsonWriter = new JsonWriter(out);
+            jsonWriter.setSerializeNulls(true);
+            if (overlay == null) {
+                copy(jsonReader, jsonWriter);
+            } else {
+                apply(jsonReader, overlay, jsonWriter);
+            }
+            if (jsonReader.peek() != JsonToken.END_DOCUMENT) {
+                throw new GsonException("Base document has trailing content");
+            }
+            jsonWriter.flush();
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            throw new GsonException("Error while merging JSON documents", e);
+        }
+    }
+
+    /**
+     * 合成两层覆盖，使得依次应用 first、second 与应用合成结果等价
+     */
+    private static Overlay compose(Overlay first, Overlay second) {
+        if (second.children == null) {
+            // 删除或整体替换，与之前的层无关
+            return second;
+        }
+        if (first.children != null) {
+            Map<String, Overlay> children = new LinkedHashMap<>(first.children);
+            for (Map.Entry<String, Overlay> entry : second.children.entrySet()) {
+                Overlay previous = children.get(entry.getKey());
+                children.put(entry.getKey(), previous == null ? entry.getValue() : compose(previous, entry.getValue()));
+            }
+            return new Overlay(null, children);
+        }
+        // 之前的层已删除或替换为非对象值，合并结果与原文档无关，转换为整体替换
+        JsonElement target = first.value == null || !first.value.isJsonObject() ? new JsonObject() : first.value.deepCopy();
+        return new Overlay(applyToTree(target, second), null);
+    }
+
+    /**
+     * 在树上应用覆盖，用于原文档中不存在或不是对象的位置
+     */
+    private static JsonElement applyToTree(JsonElement target, Overlay overlay) {
+        if (overlay.children == null) {
+            return overlay.value;
+        }
+        JsonObject object = target != null && target.isJsonObject() ? target.getAsJsonObject() : new JsonObject();
+        for (Map.Entry<String, Overlay> entry : overlay.children.entrySet()) {
+            Overlay child = entry.getValue();
+            if (child.isDelete()) {
+                object.remove(entry.getKey());
+            } else {
+                object.add(entry.getKey(), applyToTree(object.get(entry.getKey()), child));
+            }
+        }
+        return object;
+    }
+
+    private static void apply(JsonReader in, Overlay overlay, JsonWriter out) throws IOException {
+        if (overlay.children == null) {
+            in.skipValue();
+            if (overlay.isDelete()) {
+                out.nullValue();
+            } else {
+                write(overlay.value, out);
+            }
+            return;
+        }
+        if (in.peek() != JsonToken.BEGIN_OBJECT) {
+            in.skipValue();
+            write(applyToTree(null, overlay), out);
+            return;
+        }
+        Set<String> seen = new HashSet<>();
+        in.beginObject();
+        out.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            Overlay child = overlay.children.get(name);
+            if (child == null) {
+                out.name(name);
+                copy(in, out);
+                continue;
+            }
+            seen.add(name);
+            if (child.isDelete()) {
+                in.skipValue();
+            } else {
+                out.name(name);
+                apply(in, child, out);
+            }
+        }
+        for (Map.Entry<String, Overlay> entry : overlay.children.entrySet()) {
+            if (!seen.contains(entry.getKey()) && !entry.getValue().isDelete()) {
+                out.name(entry.getKey());
+                write(applyToTree(null, entry.getValue()), out);
+            }
+        }
+        in.endObject();
+        out.endObject();
+    }
+
+    /**
+     * 逐 token 复制一个值，数字保留原始文本
+     */
+    private static void copy(JsonReader in, JsonWriter out) throws IOException {
+        switch (in.peek()) {
+            case BEGIN_OBJECT:
+                in.beginObject();
+                out.beginObject();
+                while (in.hasNext()) {
+                    out.name(in.nextName());
+                    copy(in, out);
+                }
+                in.endObject();
+                out.endObject();
+                break;
+            case BEGIN_ARRAY:
+                in.beginArray();
+                out.beginArray();
+                while (in.hasNext()) {
+                    copy(in, out);
+                }
+                in.endArray();
+                out.endArray();
+                break;
+            case STRING:
+                out.value(in.nextString());
+                break;
+            case NUMBER:
+                out.jsonValue(in.nextString());
+                break;
+            case BOOLEAN:
+                out.value(in.nextBoolean());
+                break;
+            case NULL:
+                in.nextNull();
+                out.nullValue();
+                break;
+            default:
+                throw new IllegalStateException("Unexpected token: " + in.peek());
+        }
+    }
+
+    /**
+     * 写出树，保留其中的 null
+     */
+    private static void write(JsonElement element, JsonWriter out) throws IOException {
+        if (element == null || element.isJsonNull()) {
+            out.nullValue();
+        } else if (element.isJsonObject()) {
+            out.beginObject();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                out.name(entry.getKey());
+                write(entry.getValue(), out);
+            }
+            out.endObject();
+        } else if (element.isJsonArray()) {
+            out.beginArray();
+            for (JsonElement child : element.getAsJsonArray()) {
+                write(child, out);
+            }
+            out.endArray();
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isNumber()) {
+                out.jsonValue(primitive.getAsString());
+            } else if (primitive.isBoolean()) {
+                out.value(primitive.getAsBoolean());
+            } else {
+                out.value(primitive.getAsString());
+            }
+        }
+    }
+
+    /**
+     * 覆盖树节点：children 不为 null 表示按字段合并；否则 value 为 null 表示删除，非 null 表示整体替换
+     */
+    private static final class Overlay {
+
+        private final JsonElement value;
+
+        private final Map<String, Overlay> children;
+
+        private Overlay(JsonElement value, Map<String, Overlay> children) {
+            this.value = value;
+            this.children = children;
+        }
+
+        private static Overlay of(JsonElement patch) {
+            if (patch.isJsonNull()) {
+                return new Overlay(null, null);
+            }
+            if (!patch.isJsonObject()) {
+                return new Overlay(patch, null);
+            }
+            Map<String, Overlay> children = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : patch.getAsJsonObject().entrySet()) {
+                children.put(entry.getKey(), of(entry.getValue()));
+            }
+            return new Overlay(null, children);
+        }
+
+        private boolean isDelete() {
+            return children == null && value == null;
+        }
+    }
+}
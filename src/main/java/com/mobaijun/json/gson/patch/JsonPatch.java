@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.patch;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.mobaijun.json.gson.exception.GsonException;
+import com.mobaijun.json.util.JsonPointer;
+
+import java.util.List;
+
+/**
+ * Description: [将 RFC 6902 JSON Patch 应用到 Gson 的 JSON 树]
+ * <p>
+ * 支持 add、remove、replace、move、copy、test 六种操作，操作按顺序执行，任一操作失败时抛出异常。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 17:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonPatch {
+
+    /**
+     * 将补丁应用到文档的副本，原文档不变
+     *
+     * @param document 文档
+     * @param patch    RFC 6902 补丁
+     * @return 应用补丁后的新文档
+     * @throws GsonException 补丁格式错误或操作失败
+     */
+    public static JsonElement apply(JsonElement document, JsonArray patch) {
+        return applyInPlace(document.deepCopy(), patch);
+    }
+
+    /**
+     * 将补丁直接应用到文档，避免复制整棵树；替换根节点时返回新的根
+     * <p>
+     * 不是原子操作：某个操作失败时抛出异常，此前的操作已经写入文档，文档停留在部分应用的状态。
+     * 失败后仍需使用原文档时调用 {@link #apply(JsonElement, JsonArray)}。
+     *
+     * @param document 文档，会被修改，操作失败时可能只应用了部分操作
+     * @param patch    RFC 6902 补丁
+     * @return 应用补丁后的文档
+     * @throws GsonException 补丁格式错误或操作失败
+     */
+    public static JsonElement applyInPlace(JsonElement document, JsonArray patch) {
+        JsonElement root = document;
+        for (JsonElement element : patch) {
+            JsonObject operation = element.getAsJsonObject();
+            String op = string(operation, "op");
+            String path = string(operation, "path");
+            switch (op) {
+                case "add":
+                    root = add(root, path, value(operation).deepCopy());
+                    break;
+                case "remove":
+                    remove(root, path);
+                    break;
+                case "replace":
+                    root = replace(root, path, value(operation).deepCopy());
+                    break;
+                case "move": {
+                    String from = string(operation, "from");
+                    if (path.startsWith(from + "/")) {
+                        throw new GsonException("Cannot move %s into its own child %s", from, path);
+                    }
+                    JsonElement value = remove(root, from);
+                    root = add(root, path, value);
+                    break;
+                }
+                case "copy":
+                    root = add(root, path, get(root, string(operation, "from")).deepCopy());
+                    break;
+                case "test":
+                    if (!JsonDiff.same(get(root, path), value(operation))) {
+                        throw new GsonException("Test operation failed at %s", path);
+                    }
+                    break;
+                default:
+                    throw new GsonException("Unsupported patch operation: %s", op);
+            }
+        }
+        return root;
+    }
+
+    private static JsonElement get(JsonElement root, String path) {
+        JsonElement current = root;
+        for (String token : JsonPointer.parse(path)) {
+            current = child(current, token, path);
+        }
+        return current;
+    }
+
+    private static JsonElement add(JsonElement root, String path, JsonElement value) {
+        List<String> tokens = JsonPointer.parse(path);
+        if (tokens.isEmpty()) {
+            return value;
+        }
+        JsonElement parent = parent(root, tokens, path);
+        String last = tokens.get(tokens.size() - 1);
+        if (parent.isJsonObject()) {
+            parent.getAsJsonObject().add(last, value);
+        } else if (parent.isJsonArray()) {
+            JsonArray array = parent.getAsJsonArray();
+            if ("-".equals(last)) {
+                array.add(value);
+            } else {
+                int index = index(last, array.size() + 1, path);
+                // JsonArray 没有按下标插入的方法，先追加再逐个后移
+                array.add(value);
+                for (int i = array.size() - 1; i > index; i--) {
+                    array.set(i, array.get(i - 1));
+                }
+                array.set(index, value);
+            }
+        } else {
+            throw new GsonException("Path %s does not point into a container", path);
+        }
+        return root;
+    }
+
+    private static JsonElement replace(JsonElement root, String path, JsonElement value) {
+        List<String> tokens = JsonPointer.parse(path);
+        if (tokens.isEmpty()) {
+            return value;
+        }
+        // 先确认目标存在，再原位替换以保留字段顺序
+        get(root, path);
+        JsonElement parent = parent(root, tokens, path);
+        String last = tokens.get(tokens.size() - 1);
+        if (parent.isJsonObject()) {
+            parent.getAsJsonObject().add(last, value);
+        } else {
+            JsonArray array = parent.getAsJsonArray();
+            array.set(index(last, array.size(), path), value);
+        }
+        return root;
+    }
+
+    private static JsonElement remove(JsonElement root, String path) {
+        List<String> tokens = JsonPointer.parse(path);
+        if (tokens.isEmpty()) {
+            throw new GsonException("Cannot remove the document root");
+        }
+        JsonElement parent = parent(root, tokens, path);
+        String last = tokens.get(tokens.size() - 1);
+        JsonElement removed;
+        if (parent.isJsonObject()) {
+            removed = parent.getAsJsonObject().remove(last);
+        } else if (parent.isJsonArray()) {
+            JsonArray array = parent.getAsJsonArray();
+            removed = array.remove(index(last, array.size(), path));
+        } else {
+            removed = null;
+        }
+        if (removed == null) {
+            throw new GsonException("Path %s does not exist", path);
+        }
+        return removed;
+    }
+
+    private static JsonElement parent(JsonElement root, List<String> tokens, String path) {
+        JsonElement current = root;
+        for (int i = 0; i < tokens.size() - 1; i++) {
+            current = child(current, tokens.get(i), path);
+        }
+        return current;
+    }
+
+    private static JsonElement child(JsonElement current, String token, String path) {
+        JsonElement child = null;
+        if (current.isJsonObject()) {
+            child = current.getAsJsonObject().get(token);
+        } else if (current.isJsonArray()) {
+            JsonArray array = current.getAsJsonArray();
+            child = array.get(index(token, array.size(), path));
+        }
+        if (child == null) {
+            throw new GsonException("Path %s does not exist", path);
+        }
+        return child;
+    }
+
+    private static int index(String token, int bound, String path) {
+        // RFC 6901 的数组下标只能由数字组成，Integer.parseInt 会接受 "+1"
+        boolean digits = !token.isEmpty();
+        for (int i = 0; i < token.length() && digits; i++) {
+            digits = token.charAt(i) >= '0' && token.charAt(i) <= '9';
+        }
+        if (!digits) {
+            throw new GsonException("Invalid array index in path %s", path);
+        }
+        int index;
+        try {
+            index = Integer.parseInt(token);
+        } catch (NumberFormatException e) {
+            throw new GsonException("Invalid array index in path %s", path);
+        }
+        if (index < 0 || index >= bound || (token.length() > 1 && token.charAt(0) == '0')) {
+            throw new GsonException("Array index out of bounds in path %s", path);
+        }
+        return index;
+    }
+
+    private static String string(JsonObject operation, String name) {
+        JsonElement value = operation.get(name);
+        if (value == null || !value.isJsonPrimitive()) {
+            throw new GsonException("Patch operation is missing '%s': %s", name, operation);
+        }
+        return value.getAsString();
+    }
+
+    private static JsonElement value(JsonObject operation) {
+        JsonElement value = operation.get("value");
+        if (value == null) {
+            throw new GsonException("Patch operation is missing 'value': %s", operation);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.persistent;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Description: [持有 {@link PersistentJson} 当前版本的原子引用]
+ * <p>
+ * 读取方通过 {@link #get()} 无锁获得一致的快照，快照在之后的更新中保持不变；
+ * 更新方以 CAS 循环替换版本，并发更新时更新函数可能被重复调用，因此必须是无副作用的纯函数。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class AtomicJson {
+
+    private final AtomicReference<PersistentJson> current;
+
+    public AtomicJson(PersistentJson initial) {
+        this.current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * @return 当前版本的快照
+     */
+    public PersistentJson get() {
+        return current.get();
+    }
+
+    /**
+     * 以原子方式更新
+     *
+     * @param updater 由旧版本计算新版本的纯函数
+     * @return 新版本
+     */
+    public PersistentJson update(UnaryOperator<PersistentJson> updater) {
+        return current.updateAndGet(updater);
+    }
+
+    /**
+     * 以原子方式设置路径处的值
+     *
+     * @param path  路径
+     * @param value 新值
+     * @return 新版本
+     */
+    public PersistentJson set(String path, PersistentJson value) {
+        return update(json -> json.with(path, value));
+    }
+
+    /**
+     * 以原子方式删除路径处的节点
+     *
+     * @param path 路径
+     * @return 新版本
+     */
+    public PersistentJson remove(String path) {
+        return update(json -> json.without(path));
+    }
+
+    /**
+     * 整体替换为新版本
+     *
+     * @param json 新版本
+     */
+    public void replace(PersistentJson json) {
+        current.set(json);
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.persistent;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: [不可变的持久化 JSON 树]
+ * <p>
+ * 修改操作返回新版本，只复制从根到修改位置路径上的 depth 个节点，其余子树在新旧版本之间共享，
+ * 旧版本保持不变，可以被任意多个线程无锁读取。对象按插入顺序以扁平数组保存成员，数组同样以扁平数组保存元素，
+ * 复制一个节点要拷贝它的全部成员，因此一次修改的代价是路径上各节点宽度之和，即 O(depth × width)，而不是 O(depth)；
+ * 适合成员数适中的配置类文档，非常宽的对象被频繁修改时代价与宽度成正比。
+ * <p>
+ * 成员不少于 {@value #HASH_THRESHOLD} 个的对象额外保存一张开放寻址的哈希索引，按名称查找为期望 O(1)，
+ * 读取的代价为 O(depth)；只替换成员值的修改与旧版本共享成员名数组和哈希索引，新增或删除成员时重建索引。
+ * <p>
+ * 路径使用 {@code .} 分隔，数组元素用下标表示，例如 {@code routes.0.target}；写入数组时下标等于长度表示追加。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class PersistentJson {
+
+    /**
+     * JSON null
+     */
+    public static final PersistentJson NULL = new PersistentJson(null, null, null, null);
+
+    /**
+     * 空对象
+     */
+    public static final PersistentJson EMPTY_OBJECT = new PersistentJson(new String[0], new PersistentJson[0], null, null);
+
+    /**
+     * 空数组
+     */
+    public static final PersistentJson EMPTY_ARRAY = new PersistentJson(null, null, new PersistentJson[0], null);
+
+    private static final String[] NO_PATH = new String[0];
+
+    /**
+     * 对象成员数达到该值时建立哈希索引，更少的成员线性查找更快
+     */
+    private static final int HASH_THRESHOLD = 8;
+
+    /**
+     * 对象成员名，非对象时为 null
+     */
+    private final String[] keys;
+
+    /**
+     * 对象成员值，非对象时为 null
+     */
+    private final PersistentJson[] values;
+
+    /**
+     * 数组元素，非数组时为 null
+     */
+    private final PersistentJson[] elements;
+
+    /**
+     * 基本值，JsonPrimitive 不可变，可以直接共享
+     */
+    private final JsonPrimitive primitive;
+
+    /**
+     * 成员名的哈希索引，槽位保存成员下标加一，0 表示空槽；成员较少或非对象时为 null
+     */
+    private final int[] slots;
+
+    private PersistentJson(String[] keys, PersistentJson[] values, PersistentJson[] elements, JsonPrimitive primitive) {
+        this(keys, values, elements, primitive, keys == null ? null : hashIndex(keys));
+    }
+
+    private PersistentJson(String[] keys, PersistentJson[] values, PersistentJson[] elements, JsonPrimitive primitive, int[] slots) {
+        this.keys = keys;
+        this.values = values;
+        this.elements = elements;
+        this.primitive = primitive;
+        this.slots = slots;
+    }
+
+    /**
+     * 解析 JSON 字符串
+     *
+     * @param json JSON 字符串
+     * @return 持久化树
+     */
+    public static PersistentJson parse(String json) {
+        return fromJsonElement(JsonParser.parseString(json));
+    }
+
+    /**
+     * 从 Gson 树复制
+     *
+     * @param element Gson 树
+     * @return 持久化树
+     */
+    public static PersistentJson fromJsonElement(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return NULL;
+        }
+        if (element.isJsonPrimitive()) {
+            return of(element.getAsJsonPrimitive());
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            if (array.isEmpty()) {
+                return EMPTY_ARRAY;
+            }
+            PersistentJson[] elements = new PersistentJson[array.size()];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = fromJsonElement(array.get(i));
+            }
+            return new PersistentJson(null, null, elements, null);
+        }
+        JsonObject object = element.getAsJsonObject();
+        if (object.isEmpty()) {
+            return EMPTY_OBJECT;
+        }
+        String[] keys = new String[object.size()];
+        PersistentJson[] values = new PersistentJson[keys.length];
+        int i = 0;
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = fromJsonElement(entry.getValue());
+        }
+        return new PersistentJson(keys, values, null, null);
+    }
+
+    /**
+     * 基本值节点
+     *
+     * @param primitive 基本值
+     * @return 持久化节点
+     */
+    public static PersistentJson of(JsonPrimitive primitive) {
+        return new PersistentJson(null, null, null, primitive);
+    }
+
+    /**
+     * 转换为新的 Gson 树，返回的树可以自由修改，不影响当前版本
+     *
+     * @return Gson 树
+     */
+    public JsonElement toJsonElement() {
+        if (primitive != null) {
+            return primitive;
+        }
+        if (elements != null) {
+            JsonArray array = new JsonArray(elements.length);
+            for (PersistentJson element : elements) {
+                array.add(element.toJsonElement());
+            }
+            return array;
+        }
+        if (keys != null) {
+            JsonObject object = new JsonObject();
+            for (int i = 0; i < keys.length; i++) {
+                object.add(keys[i], values[i].toJsonElement());
+            }
+            return object;
+        }
+        return JsonNull.INSTANCE;
+    }
+
+    public boolean isObject() {
+        return keys != null;
+    }
+
+    public boolean isArray() {
+        return elements != null;
+    }
+
+    public boolean isPrimitive() {
+        return primitive != null;
+    }
+
+    public boolean isNull() {
+        return this == NULL;
+    }
+
+    /**
+     * @return 基本值，非基本值时返回 null
+     */
+    public JsonPrimitive getAsPrimitive() {
+        return primitive;
+    }
+
+    /**
+     * @return 对象成员数或数组长度，基本值和 null 返回 0
+     */
+    public int size() {
+        return keys != null ? keys.length : elements != null ? elements.length : 0;
+    }
+
+    /**
+     * @return 对象成员名，非对象时为空列表
+     */
+    public List<String> keys() {
+        return keys == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * 按路径读取节点
+     *
+     * @param path 路径，空串表示当前节点
+     * @return 节点，路径不存在时返回 null
+     */
+    public PersistentJson get(String path) {
+        PersistentJson node = this;
+        for (String name : split(path)) {
+            node = node.child(name);
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 按路径读取字符串值
+     *
+     * @param path 路径
+     * @return 字符串值，路径不存在或不是基本值时返回 null
+     */
+    public String getString(String path) {
+        PersistentJson node = get(path);
+        return node == null || node.primitive == null ? null : node.primitive.getAsString();
+    }
+
+    /**
+     * 返回在路径处设置值后的新版本，缺失的中间对象会被创建，路径上不是对象或数组的节点会被替换为对象
+     *
+     * @param path  路径
+     * @param value 新值
+     * @return 新版本，值未变化时返回当前实例
+     * @throws IndexOutOfBoundsException 数组下标超出 [0, size]
+     */
+    public PersistentJson with(String path, PersistentJson value) {
+        return with(split(path), 0, value);
+    }
+
+    /**
+     * 返回在路径处设置值后的新版本
+     *
+     * @param path  路径
+     * @param value 新值，会被复制
+     * @return 新版本
+     */
+    public PersistentJson with(String path, JsonElement value) {
+        return with(path, fromJsonElement(value));
+    }
+
+    /**
+     * 返回删除路径处节点后的新版本
+     *
+     * @param path 路径
+     * @return 新版本，路径不存在时返回当前实例
+     */
+    public PersistentJson without(String path) {
+        String[] names = split(path);
+        if (names.length == 0) {
+            throw new IllegalArgumentException("Cannot remove the root node");
+        }
+        return without(names, 0);
+    }
+
+    private PersistentJson with(String[] names, int depth, PersistentJson value) {
+        if (depth == names.length) {
+            return value;
+        }
+        String name = names[depth];
+        if (elements != null) {
+            int index = index(name);
+            if (index < 0 || index > elements.length) {
+                throw new IndexOutOfBoundsException("Index " + name + " out of bounds for array size " + elements.length);
+            }
+            PersistentJson current = index < elements.length ? elements[index] : EMPTY_OBJECT;
+            PersistentJson updated = current.with(names, depth + 1, value);
+            if (index < elements.length && updated == current) {
+                return this;
+            }
+            PersistentJson[] copy = Arrays.copyOf(elements, Math.max(elements.length, index + 1));
+            copy[index] = updated;
+            return new PersistentJson(null, null, copy, null);
+        }
+        PersistentJson object = keys != null ? this : EMPTY_OBJECT;
+        int index = object.indexOf(name);
+        PersistentJson current = index >= 0 ? object.values[index] : EMPTY_OBJECT;
+        PersistentJson updated = current.with(names, depth + 1, value);
+        if (index >= 0 && updated == current && object == this) {
+            return this;
+        }
+        if (index >= 0) {
+            PersistentJson[] copy = object.values.clone();
+            copy[index] = updated;
+            return new PersistentJson(object.keys, copy, null, null, object.slots);
+        }
+        String[] newKeys = Arrays.copyOf(object.keys, object.keys.length + 1);
+        PersistentJson[] newValues = Arrays.copyOf(object.values, object.values.length + 1);
+        newKeys[object.keys.length] = name;
+        newValues[object.values.length] = updated;
+        return new PersistentJson(newKeys, newValues, null, null);
+    }
+
+    private PersistentJson without(String[] names, int depth) {
+        String name = names[depth];
+        boolean last = depth == names.length - 1;
+        if (elements != null) {
+            int index = index(name);
+            if (index < 0 || index >= elements.length) {
+                return this;
+            }
+            if (last) {
+                PersistentJson[] copy = new PersistentJson[elements.length - 1];
+                System.arraycopy(elements, 0, copy, 0, index);
+                System.arraycopy(elements, index + 1, copy, index, copy.length - index);
+                return new PersistentJson(null, null, copy, null);
+            }
+            PersistentJson updated = elements[index].without(names, depth + 1);
+            if (updated == elements[index]) {
+                return this;
+            }
+            PersistentJson[] copy = elements.clone();
+            copy[index] = updated;
+            return new PersistentJson(null, null, copy, null);
+        }
+        int index = indexOf(name);
+        if (index < 0) {
+            return this;
+        }
+        if (last) {
+            String[] newKeys = new String[keys.length - 1];
+            PersistentJson[] newValues = new PersistentJson[keys.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, newKeys.length - index);
+            System.arraycopy(values, 0, newValues, 0, index);
+            System.arraycopy(values, index + 1, newValues, index, newValues.length - index);
+            return new PersistentJson(newKeys, newValues, null, null);
+        }
+        PersistentJson updated = values[index].without(names, depth + 1);
+        if (updated == values[index]) {
+            return this;
+        }
+        PersistentJson[] copy = values.clone();
+        copy[index] = updated;
+        return new PersistentJson(keys, copy, null, null, slots);
+    }
+
+    private PersistentJson child(String name) {
+        if (elements != null) {
+            int index = index(name);
+            return index >= 0 && index < elements.length ? elements[index] : null;
+        }
+        int index = indexOf(name);
+        return index >= 0 ? values[index] : null;
+    }
+
+    private int indexOf(String name) {
+        if (keys == null) {
+            return -1;
+        }
+        if (slots != null) {
+            int mask = slots.length - 1;
+            for (int i = spread(name.hashCode()) & mask; slots[i] != 0; i = (i + 1) & mask) {
+                if (keys[slots[i] - 1].equals(name)) {
+                    return slots[i] - 1;
+                }
+            }
+            return -1;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 为成员名建立装载因子不超过 1/2 的线性探测表
+     */
+    private static int[] hashIndex(String[] keys) {
+        if (keys.length < HASH_THRESHOLD) {
+            return null;
+        }
+        int[] table = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        int mask = table.length - 1;
+        for (int k = 0; k < keys.length; k++) {
+            int i = spread(keys[k].hashCode()) & mask;
+            while (table[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            table[i] = k + 1;
+        }
+        return table;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int index(String name) {
+        try {
+            return Integer.parseInt(name);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String[] split(String path) {
+        return path == null || path.isEmpty() ? NO_PATH : path.split("\\.");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PersistentJson)) {
+            return false;
+        }
+        PersistentJson other = (PersistentJson) o;
+        return Arrays.equals(keys, other.keys) && Arrays.equals(values, other.values)
+                && Arrays.equals(elements, other.elements)
+                && (primitive == null ? other.primitive == null : primitive.equals(other.primitive));
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(keys);
+        result = 31 * result + Arrays.hashCode(values);
+        result = 31 * result + Arrays.hashCode(elements);
+        return 31 * result + (primitive == null ? 0 : primitive.hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return toJsonElement().toString();
+    }
+}
@@ -0,0 +1,630 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.processor;
+
+import com.mobaijun.json.fastjson.adapter.GeneratedObjectReaderModule;
+import com.mobaijun.json.fastjson.adapter.GeneratedObjectWriterModule;
+import com.mobaijun.json.gson.adapter.GeneratedTypeAdapterFactory;
+import com.mobaijun.json.gson.annotation.GenerateAdapter;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: [为 {@link GenerateAdapter} 标注的实体类生成无反射的 Gson TypeAdapter]
+ * <p>
+ * 生成的适配器与实体类位于同一个包，非 private 字段直接读写，private 字段通过 getter/setter 访问；
+ * 字段值的读写委托给 Gson 实例中已注册的适配器，因此 NumberTypeAdapter 和 java.time 序列化器依然生效。
+ * 编译类路径上存在 FastJson 2 时，同时生成 {@code 类名_FastJsonObjectReader} 与 {@code 类名_FastJsonObjectWriter}，
+ * 基本类型字段直接调用 JSONReader/JSONWriter 的读写方法，其余字段交给 FastJson 已注册的读写器。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 10:35]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+@SupportedAnnotationTypes("com.mobaijun.json.gson.annotation.GenerateAdapter")
+public class GsonAdapterProcessor extends AbstractProcessor {
+
+    private static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+
+    private static final String FASTJSON_OBJECT_READER = "com.alibaba.fastjson2.reader.ObjectReader";
+
+    private static final String[] JSON_FIELDS = {
+            "com.alibaba.fastjson.annotation.JSONField", "com.alibaba.fastjson2.annotation.JSONField"};
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateAdapter.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@GenerateAdapter can only be applied to classes");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            try {
+                generate(type);
+            } catch (IllegalStateException e) {
+                error(type, e.getMessage());
+            } catch (IOException e) {
+                error(type, "Error while writing generated adapter: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 生成单个实体类的适配器源码
+     *
+     * @param type 实体类
+     * @throws IOException 写出源码失败
+     */
+    private void generate(TypeElement type) throws IOException {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new IllegalStateException("@GenerateAdapter type must not be abstract");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new IllegalStateException("@GenerateAdapter type must not be generic");
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new IllegalStateException("@GenerateAdapter nested type must be static");
+        }
+        if (!hasAccessibleNoArgsConstructor(type)) {
+            throw new IllegalStateException("@GenerateAdapter type requires a non-private no-args constructor");
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        List<Property> properties = collectProperties(type);
+        generateGson(type, packageName, properties);
+        if (processingEnv.getElementUtils().getTypeElement(FASTJSON_OBJECT_READER) != null) {
+            generateFastJsonReader(type, packageName, properties);
+            generateFastJsonWriter(type, packageName, properties);
+        }
+    }
+
+    /**
+     * 生成 Gson TypeAdapter
+     */
+    private void generateGson(TypeElement type, String packageName, List<Property> properties) throws IOException {
+        String adapterName = flatName(type) + GeneratedTypeAdapterFactory.SUFFIX;
+        String beanName = type.getQualifiedName().toString();
+
+        StringBuilder src = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Generated by GsonAdapterProcessor, do not edit.\n */\n");
+        src.append("public final class ").append(adapterName)
+                .append(" extends com.google.gson.TypeAdapter<").append(beanName).append("> {\n\n");
+        for (Property property : properties) {
+            src.append("    private final com.google.gson.TypeAdapter<").append(property.boxedType).append("> ")
+                    .append(property.adapterField).append(";\n");
+        }
+        src.append("\n    public ").append(adapterName).append("(com.google.gson.Gson gson) {\n");
+        for (Property property : properties) {
+            src.append("        this.").append(property.adapterField).append(" = gson.getAdapter(")
+                    .append(property.typeToken).append(");\n");
+        }
+        src.append("    }\n\n");
+
+        // write
+        src.append("    @Override\n");
+        src.append("    public void write(com.google.gson.stream.JsonWriter out, ").append(beanName)
+                .append(" value) throws java.io.IOException {\n");
+        src.append("        if (value == null) {\n            out.nullValue();\n            return;\n        }\n");
+        src.append("        out.beginObject();\n");
+        for (Property property : properties) {
+            if (property.primitive) {
+                src.append("        out.name(\"").append(escape(property.jsonName)).append("\");\n");
+                src.append("        ").append(property.adapterField).append(".write(out, ")
+                        .append(property.getter).append(");\n");
+            } else {
+                src.append("        {\n");
+                src.append("            ").append(property.boxedType).append(" v = ").append(property.getter).append(";\n");
+                src.append("            if (v != null || out.getSerializeNulls()) {\n");
+                src.append("                out.name(\"").append(escape(property.jsonName)).append("\");\n");
+                src.append("                ").append(property.adapterField).append(".write(out, v);\n");
+                src.append("            }\n");
+                src.append("        }\n");
+            }
+        }
+        src.append("        out.endObject();\n    }\n\n");
+
+        // read
+        src.append("    @Override\n");
+        src.append("    public ").append(beanName)
+                .append(" read(com.google.gson.stream.JsonReader in) throws java.io.IOException {\n");
+        src.append("        if (in.peek() == com.google.gson.stream.JsonToken.NULL) {\n");
+        src.append("            in.nextNull();\n            return null;\n        }\n");
+        src.append("        ").append(beanName).append(" value = new ").append(beanName).append("();\n");
+        src.append("        in.beginObject();\n");
+        src.append("        while (in.hasNext()) {\n");
+        src.append("            switch (in.nextName()) {\n");
+        for (Property property : properties) {
+            for (String name : property.readNames) {
+                src.append("                case \"").append(escape(name)).append("\":\n");
+            }
+            src.append("                {\n");
+            src.append("                    ").append(property.boxedType).append(" v = ")
+                    .append(property.adapterField).append(".read(in);\n");
+            if (property.primitive) {
+                // NumberTypeAdapter 对空串返回 null，基本类型保留默认值
+                src.append("                    if (v != null) {\n");
+                src.append("                        ").append(property.setter.replace("$", "v")).append(";\n");
+                src.append("                    }\n");
+            } else {
+                src.append("                    ").append(property.setter.replace("$", "v")).append(";\n");
+            }
+            src.append("                    break;\n                }\n");
+        }
+        src.append("                default:\n                    in.skipValue();\n");
+        src.append("            }\n        }\n");
+        src.append("        in.endObject();\n        return value;\n    }\n}\n");
+
+        writeSource(type, packageName, adapterName, src);
+    }
+
+    /**
+     * 生成 FastJson ObjectReader，只匹配字段名（或 {@code @JSONField} 的 name 与 alternateNames），未知字段在词法层跳过
+     */
+    private void generateFastJsonReader(TypeElement type, String packageName, List<Property> properties) throws IOException {
+        String readerName = flatName(type) + GeneratedObjectReaderModule.SUFFIX;
+        String beanName = type.getQualifiedName().toString();
+
+        StringBuilder src = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Generated by GsonAdapterProcessor, do not edit.\n */\n");
+        src.append("public final class ").append(readerName)
+                .append(" implements com.alibaba.fastjson2.reader.ObjectReader<").append(beanName).append("> {\n\n");
+        for (Property property : properties) {
+            if (property.fastJsonDeserialize && property.parameterized) {
+                src.append("    private static final java.lang.reflect.Type ").append(property.typeField)
+                        .append(" = new com.alibaba.fastjson2.TypeReference<").append(property.boxedType)
+                        .append(">() {\n    }.getType();\n\n");
+            }
+        }
+        src.append("    @Override\n");
+        src.append("    public ").append(beanName).append(" createInstance(long features) {\n");
+        src.append("        return new ").append(beanName).append("();\n    }\n\n");
+
+        src.append("    @Override\n");
+        src.append("    @SuppressWarnings(\"unchecked\")\n");
+        src.append("    public ").append(beanName).append(" readObject(com.alibaba.fastjson2.JSONReader in, ")
+                .append("java.lang.reflect.Type fieldType, Object fieldName, long features) {\n");
+        src.append("        if (in.nextIfNull()) {\n            return null;\n        }\n");
+        src.append("        if (!in.nextIfObjectStart()) {\n");
+        src.append("            throw new com.alibaba.fastjson2.JSONException(in.info(\"expect '{' for ")
+                .append(escape(beanName)).append("\"));\n        }\n");
+        src.append("        ").append(beanName).append(" value = new ").append(beanName).append("();\n");
+        src.append("        while (!in.nextIfObjectEnd()) {\n");
+        src.append("            switch (in.readFieldName()) {\n");
+        for (Property property : properties) {
+            if (!property.fastJsonDeserialize) {
+                continue;
+            }
+            for (String name : property.fastJsonReadNames) {
+                src.append("                case \"").append(escape(name)).append("\":\n");
+            }
+            src.append("                {\n");
+            if (property.kind == TypeKind.CHAR) {
+                src.append("                    String v = in.readString();\n");
+                src.append("                    if (v != null && !v.isEmpty()) {\n");
+                src.append("                        ").append(property.setter.replace("$", "v.charAt(0)")).append(";\n");
+                src.append("                    }\n");
+            } else {
+                src.append("                    ").append(property.setter.replace("$", fastJsonRead(property))).append(";\n");
+            }
+            src.append("                    break;\n                }\n");
+        }
+        src.append("                default:\n                    in.skipValue();\n");
+        src.append("            }\n        }\n");
+        src.append("        return value;\n    }\n}\n");
+
+        writeSource(type, packageName, readerName, src);
+    }
+
+    /**
+     * 生成 FastJson ObjectWriter，字段按名称排序输出，null 值仅在启用 WriteNulls 时输出
+     */
+    private void generateFastJsonWriter(TypeElement type, String packageName, List<Property> properties) throws IOException {
+        String writerName = flatName(type) + GeneratedObjectWriterModule.SUFFIX;
+        String beanName = type.getQualifiedName().toString();
+        List<Property> sorted = new ArrayList<>(properties);
+        sorted.sort((a, b) -> a.fastJsonName.compareTo(b.fastJsonName));
+
+        StringBuilder src = new StringBuilder(4096);
+        if (!packageName.isEmpty()) {
+            src.append("package ").append(packageName).append(";\n\n");
+        }
+        src.append("/**\n * Generated by GsonAdapterProcessor, do not edit.\n */\n");
+        src.append("public final class ").append(writerName)
+                .append(" implements com.alibaba.fastjson2.writer.ObjectWriter<").append(beanName).append("> {\n\n");
+        src.append("    @Override\n");
+        src.append("    public void write(com.alibaba.fastjson2.JSONWriter out, Object object, Object fieldName, ")
+                .append("java.lang.reflect.Type fieldType, long features) {\n");
+        src.append("        if (object == null) {\n            out.writeNull();\n            return;\n        }\n");
+        src.append("        ").append(beanName).append(" value = (").append(beanName).append(") object;\n");
+        src.append("        boolean writeNulls = out.isEnabled(com.alibaba.fastjson2.JSONWriter.Feature.WriteNulls);\n");
+        src.append("        out.startObject();\n");
+        for (Property property : sorted) {
+            if (!property.fastJsonSerialize) {
+                continue;
+            }
+            String name = "        out.writeName(\"" + escape(property.fastJsonName) + "\");\n        out.writeColon();\n";
+            if (property.primitive) {
+                src.append(name);
+                src.append("        ").append(fastJsonWrite(property, property.getter)).append(";\n");
+            } else {
+                src.append("        {\n");
+                src.append("            ").append(property.boxedType).append(" v = ").append(property.getter).append(";\n");
+                src.append("            if (v != null) {\n");
+                src.append(name.replace("        out.", "                out."));
+                src.append("                ").append(fastJsonWrite(property, "v")).append(";\n");
+                src.append("            } else if (writeNulls) {\n");
+                src.append(name.replace("        out.", "                out."));
+                src.append("                out.writeNull();\n");
+                src.append("            }\n");
+                src.append("        }\n");
+            }
+        }
+        src.append("        out.endObject();\n    }\n}\n");
+
+        writeSource(type, packageName, writerName, src);
+    }
+
+    /**
+     * 字段值的 JSONReader 读取表达式，基本类型与 String 直接读取，其余类型交给已注册的 ObjectReader
+     */
+    private String fastJsonRead(Property property) {
+        switch (property.kind) {
+            case INT:
+                return "in.readInt32Value()";
+            case LONG:
+                return "in.readInt64Value()";
+            case DOUBLE:
+                return "in.readDoubleValue()";
+            case FLOAT:
+                return "in.readFloatValue()";
+            case BOOLEAN:
+                return "in.readBoolValue()";
+            case SHORT:
+                return "(short) in.readInt32Value()";
+            case BYTE:
+                return "(byte) in.readInt32Value()";
+            default:
+                if ("java.lang.String".equals(property.boxedType)) {
+                    return "in.readString()";
+                }
+                if (property.parameterized) {
+                    return "(" + property.boxedType + ") in.read(" + property.typeField + ")";
+                }
+                return "in.read(" + property.erasure + ".class)";
+        }
+    }
+
+    /**
+     * 非 null 字段值的 JSONWriter 写出语句
+     */
+    private static String fastJsonWrite(Property property, String value) {
+        switch (property.kind) {
+            case INT:
+            case SHORT:
+            case BYTE:
+                return "out.writeInt32(" + value + ")";
+            case LONG:
+                return "out.writeInt64(" + value + ")";
+            case DOUBLE:
+                return "out.writeDouble(" + value + ")";
+            case FLOAT:
+                return "out.writeFloat(" + value + ")";
+            case BOOLEAN:
+                return "out.writeBool(" + value + ")";
+            case CHAR:
+                return "out.writeString(String.valueOf(" + value + "))";
+            default:
+                return "java.lang.String".equals(property.boxedType)
+                        ? "out.writeString(" + value + ")" : "out.writeAny(" + value + ")";
+        }
+    }
+
+    private void writeSource(TypeElement type, String packageName, String className, StringBuilder src) throws IOException {
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(src.toString());
+        }
+    }
+
+    /**
+     * 收集实体类及其父类中参与序列化的字段，规则与 Gson 反射适配器一致：跳过 static 和 transient 字段
+     *
+     * @param type 实体类
+     * @return 字段描述
+     */
+    private List<Property> collectProperties(TypeElement type) {
+        List<Property> properties = new ArrayList<>();
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        TypeElement current = type;
+        while (current != null && !"java.lang.Object".equals(current.getQualifiedName().toString())) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                Property property = toProperty(current, field, packageName, properties.size());
+                for (Property existing : properties) {
+                    if (existing.jsonName.equals(property.jsonName)) {
+                        throw new IllegalStateException("Multiple fields map to JSON name '" + property.jsonName + "'");
+                    }
+                }
+                for (Property existing : properties) {
+                    if (existing.fastJsonName.equals(property.fastJsonName)) {
+                        throw new IllegalStateException("Multiple fields map to FastJson name '" + property.fastJsonName + "'");
+                    }
+                }
+                properties.add(property);
+            }
+            TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return properties;
+    }
+
+    private Property toProperty(TypeElement owner, VariableElement field, String packageName, int index) {
+        Property property = new Property();
+        String fieldName = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        if (containsTypeVariable(fieldType)) {
+            throw new IllegalStateException("Field '" + fieldName + "' uses a type variable, which is not supported");
+        }
+        property.primitive = fieldType.getKind().isPrimitive();
+        property.boxedType = property.primitive
+                ? processingEnv.getTypeUtils().boxedClass((javax.lang.model.type.PrimitiveType) fieldType).getQualifiedName().toString()
+                : fieldType.toString();
+        property.kind = fieldType.getKind();
+        property.erasure = processingEnv.getTypeUtils().erasure(fieldType).toString();
+        property.parameterized = fieldType.toString().indexOf('<') >= 0;
+        property.typeToken = typeToken(fieldType);
+        property.adapterField = "adapter" + index;
+        property.typeField = "TYPE" + index;
+        property.jsonName = lowerCaseWithUnderscores(fieldName);
+        property.readNames.add(property.jsonName);
+        applySerializedName(field, property);
+        property.fastJsonName = fieldName;
+        applyJsonField(field, property);
+        property.fastJsonReadNames.add(0, property.fastJsonName);
+
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.FINAL)) {
+            throw new IllegalStateException("Field '" + fieldName + "' is final and cannot be bound without reflection");
+        }
+        boolean samePackage = packageName.equals(processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString());
+        boolean fieldAccessible = modifiers.contains(Modifier.PUBLIC)
+                || (!modifiers.contains(Modifier.PRIVATE) && samePackage);
+        String capitalized = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        String getter = fieldAccessible ? null : findAccessor(owner, packageName, fieldType.getKind() == TypeKind.BOOLEAN
+                ? "is" + capitalized : "get" + capitalized, 0);
+        if (getter == null && !fieldAccessible) {
+            getter = findAccessor(owner, packageName, "get" + capitalized, 0);
+        }
+        String setter = fieldAccessible ? null : findAccessor(owner, packageName, "set" + capitalized, 1);
+        if (!fieldAccessible && (getter == null || setter == null)) {
+            throw new IllegalStateException("Field '" + fieldName + "' is not accessible from the generated adapter"
+                    + " and has no non-private getter/setter");
+        }
+        property.getter = fieldAccessible ? "value." + fieldName : "value." + getter + "()";
+        property.setter = fieldAccessible ? "value." + fieldName + " = $" : "value." + setter + "($)";
+        return property;
+    }
+
+    /**
+     * 读取 {@code @SerializedName} 的 value 与 alternate，与 Gson 的处理保持一致
+     */
+    private void applySerializedName(VariableElement field, Property property) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!SERIALIZED_NAME.equals(mirror.getAnnotationType().toString())) {
+                continue;
+            }
+            property.readNames.clear();
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                String key = entry.getKey().getSimpleName().toString();
+                if ("value".equals(key)) {
+                    property.jsonName = (String) entry.getValue().getValue();
+                } else if ("alternate".equals(key)) {
+                    @SuppressWarnings("unchecked")
+                    List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) entry.getValue().getValue();
+                    for (AnnotationValue value : values) {
+                        property.readNames.add((String) value.getValue());
+                    }
+                }
+            }
+            property.readNames.add(0, property.jsonName);
+        }
+    }
+
+    /**
+     * 读取 FastJson {@code @JSONField} 的 name、alternateNames、serialize 与 deserialize，兼容 1.x 与 2.x 注解
+     */
+    private void applyJsonField(VariableElement field, Property property) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            String annotation = mirror.getAnnotationType().toString();
+            if (!JSON_FIELDS[0].equals(annotation) && !JSON_FIELDS[1].equals(annotation)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                String key = entry.getKey().getSimpleName().toString();
+                Object value = entry.getValue().getValue();
+                if ("name".equals(key) && !((String) value).isEmpty()) {
+                    property.fastJsonName = (String) value;
+                } else if ("alternateNames".equals(key)) {
+                    @SuppressWarnings("unchecked")
+                    List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) value;
+                    for (AnnotationValue alternate : values) {
+                        property.fastJsonReadNames.add((String) alternate.getValue());
+                    }
+                } else if ("serialize".equals(key)) {
+                    property.fastJsonSerialize = (Boolean) value;
+                } else if ("deserialize".equals(key)) {
+                    property.fastJsonDeserialize = (Boolean) value;
+                }
+            }
+        }
+    }
+
+    private String findAccessor(TypeElement owner, String packageName, String name, int parameterCount) {
+        for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (method.getSimpleName().contentEquals(name)
+                    && method.getParameters().size() == parameterCount
+                    && !modifiers.contains(Modifier.STATIC)
+                    && (modifiers.contains(Modifier.PUBLIC) || (!modifiers.contains(Modifier.PRIVATE)
+                    && packageName.equals(processingEnv.getElementUtils().getPackageOf(owner).getQualifiedName().toString())))) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private boolean hasAccessibleNoArgsConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean containsTypeVariable(TypeMirror type) {
+        if (type.getKind() == TypeKind.TYPEVAR || type.getKind() == TypeKind.WILDCARD) {
+            return type.getKind() == TypeKind.TYPEVAR;
+        }
+        if (type.getKind() == TypeKind.ARRAY) {
+            return containsTypeVariable(((javax.lang.model.type.ArrayType) type).getComponentType());
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                if (containsTypeVariable(argument)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 生成获取字段适配器用的 TypeToken 表达式，参数化类型使用匿名 TypeToken 子类保留泛型信息
+     */
+    private String typeToken(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return "com.google.gson.reflect.TypeToken.get(" + type + ".class)";
+        }
+        boolean parameterized = type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty();
+        if (type.getKind() == TypeKind.ARRAY) {
+            parameterized = type.toString().indexOf('<') >= 0;
+        }
+        if (parameterized) {
+            return "new com.google.gson.reflect.TypeToken<" + type + ">() {\n        }";
+        }
+        return "com.google.gson.reflect.TypeToken.get(" + processingEnv.getTypeUtils().erasure(type) + ".class)";
+    }
+
+    /**
+     * 与 FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES 相同的命名转换
+     */
+    static String lowerCaseWithUnderscores(String name) {
+        StringBuilder translation = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char character = name.charAt(i);
+            if (Character.isUpperCase(character) && translation.length() != 0) {
+                translation.append('_');
+            }
+            translation.append(character);
+        }
+        return translation.toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * 嵌套类以 {@code _} 连接外部类名，与 {@link com.mobaijun.json.util.GeneratedNames#of(Class, String)} 对应
+     */
+    private static String flatName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing != null && !(enclosing instanceof PackageElement)) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * 字段描述
+     */
+    private static final class Property {
+        private boolean primitive;
+        private TypeKind kind;
+        private String boxedType;
+        private String erasure;
+        private boolean parameterized;
+        private String typeToken;
+        private String adapterField;
+        private String typeField;
+        private String jsonName;
+        private final List<String> readNames = new ArrayList<>();
+        private String fastJsonName;
+        private final List<String> fastJsonReadNames = new ArrayList<>();
+        private boolean fastJsonSerialize = true;
+        private boolean fastJsonDeserialize = true;
+        private String getter;
+        private String setter;
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.projection;
+
+import com.google.gson.FieldNamingStrategy;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.mobaijun.json.util.PathTree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Description: [字段投影，只读取选中的字段路径，其余值在 token 层跳过]
+ * <p>
+ * 路径使用 {@code .} 分隔，例如 {@code user.address.city}；路径经过数组时作用于数组的每个元素。
+ * 被跳过的值通过 {@link JsonReader#skipValue()} 丢弃，不会构建任何对象，只有选中的值会被物化。
+ * 绑定对象时使用 {@link #filter(Reader)}，选中的值直接由适配器读取，不经过中间的 JSON 树。
+ * 投影对象不可变，可以缓存复用。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 13:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class FieldProjection {
+
+    private final PathTree tree;
+
+    private FieldProjection(PathTree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * 根据字段路径创建投影，路径集合为 List 或 Set 时复用缓存的路径树
+     *
+     * @param paths 字段路径，例如 {@code id}、{@code user.name}
+     * @return 投影
+     * @throws IllegalArgumentException 路径为空
+     */
+    public static FieldProjection of(Collection<String> paths) {
+        return new FieldProjection(PathTree.of(paths));
+    }
+
+    /**
+     * 根据投影类的字段创建投影，字段名按命名策略和 {@link SerializedName} 转换
+     *
+     * @param projection     投影类
+     * @param namingStrategy 字段命名策略，与反序列化所用 Gson 实例一致
+     * @return 投影
+     */
+    public static FieldProjection of(Class<?> projection, FieldNamingStrategy namingStrategy) {
+        List<String> names = new ArrayList<>();
+        for (Class<?> current = projection; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                    continue;
+                }
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                if (serializedName == null) {
+                    names.add(namingStrategy.translateName(field));
+                    continue;
+                }
+                names.add(serializedName.value());
+                names.addAll(Arrays.asList(serializedName.alternate()));
+            }
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("投影类没有可用字段: " + projection.getName());
+        }
+        return new FieldProjection(PathTree.ofNames(names));
+    }
+
+    /**
+     * 按投影读取下一个值，只物化选中的部分
+     *
+     * @param in JSON 读取器
+     * @return 投影后的 JSON 树
+     * @throws IOException 读取异常
+     */
+    public JsonElement read(JsonReader in) throws IOException {
+        return read(tree, in);
+    }
+
+    private static JsonElement read(PathTree node, JsonReader in) throws IOException {
+        if (node.selectsAll()) {
+            return JsonParser.parseReader(in);
+        }
+        JsonToken token = in.peek();
+        if (token == JsonToken.BEGIN_OBJECT) {
+            JsonObject object = new JsonObject();
+            in.beginObject();
+            while (in.hasNext()) {
+                String name = in.nextName();
+                PathTree child = node.child(name);
+                if (child == null) {
+                    in.skipValue();
+                    continue;
+                }
+                JsonElement value = read(child, in);
+                if (!value.isJsonNull() || child.selectsAll()) {
+                    object.add(name, value);
+                }
+            }
+            in.endObject();
+            return object;
+        }
+        if (token == JsonToken.BEGIN_ARRAY) {
+            JsonArray array = new JsonArray();
+            in.beginArray();
+            while (in.hasNext()) {
+                array.add(read(node, in));
+            }
+            in.endArray();
+            return array;
+        }
+        // 路径要求对象但实际是基本值，视为不匹配，所在成员不会输出
+        in.skipValue();
+        return JsonNull.INSTANCE;
+    }
+
+    /**
+     * 创建按投影过滤的读取器，未选中的成员在 token 层跳过，可直接交给 Gson 绑定对象
+     * <p>
+     * 路径不能进入 Map 类型字段的键，Map 字段只能被整体选中。
+     *
+     * @param reader JSON 字符流
+     * @return 过滤后的 JSON 读取器
+     */
+    public JsonReader filter(Reader reader) {
+        return new ProjectingJsonReader(reader, tree);
+    }
+}
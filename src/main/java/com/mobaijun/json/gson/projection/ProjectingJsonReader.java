@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.projection;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.mobaijun.json.util.PathTree;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Description: [按字段投影过滤的 JsonReader，未选中的成员在 token 层跳过，Gson 直接从中绑定对象]
+ * <p>
+ * 读取器自身负责解析，只在投影要求筛选的对象层拦截成员名：未选中的成员连同值一起跳过，
+ * 路径要求对象但实际是基本值的成员同样跳过；数组元素沿用数组所在路径的投影，基本值元素以 null 呈现。
+ * 整体选中的值原样交给适配器，不做任何拦截。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:55]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class ProjectingJsonReader extends JsonReader {
+
+    private final PathTree root;
+
+    /**
+     * 每层容器的投影，null 表示整体选中
+     */
+    private PathTree[] nodes = new PathTree[16];
+
+    private boolean[] objects = new boolean[16];
+
+    /**
+     * 对象层已返回成员名、等待读取成员值
+     */
+    private boolean[] awaitingValue = new boolean[16];
+
+    private int depth;
+
+    /**
+     * 已从底层读取、尚未交给调用方的成员名
+     */
+    private String pendingName;
+
+    /**
+     * 当前成员值的投影，null 表示整体选中
+     */
+    private PathTree pendingChild;
+
+    ProjectingJsonReader(Reader in, PathTree root) {
+        super(in);
+        this.root = root;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        PathTree projection = valueProjection();
+        super.beginArray();
+        push(projection, false);
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        super.endArray();
+        depth--;
+        valueConsumed();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        PathTree projection = valueProjection();
+        super.beginObject();
+        push(projection, true);
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        if (filteringNames() && pendingName == null) {
+            // 调用方提前结束对象时，剩余未选中的成员同样需要跳过
+            advance();
+        }
+        super.endObject();
+        depth--;
+        valueConsumed();
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (filteringNames()) {
+            return pendingName != null || advance();
+        }
+        return super.hasNext();
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (filteringNames()) {
+            return hasNext() ? JsonToken.NAME : JsonToken.END_OBJECT;
+        }
+        JsonToken token = super.peek();
+        if (isPrimitive(token) && valueProjection() != null) {
+            // 路径要求对象但实际是基本值，视为不匹配
+            return JsonToken.NULL;
+        }
+        return token;
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        if (!filteringNames()) {
+            return super.nextName();
+        }
+        if (!hasNext()) {
+            // 由底层读取器抛出带路径的异常
+            return super.nextName();
+        }
+        String name = pendingName;
+        pendingName = null;
+        awaitingValue[depth - 1] = true;
+        return name;
+    }
+
+    @Override
+    public String nextString() throws IOException {
+        String value = super.nextString();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() throws IOException {
+        boolean value = super.nextBoolean();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public void nextNull() throws IOException {
+        if (valueProjection() != null && super.peek() != JsonToken.NULL) {
+            // peek() 以 null 呈现的不匹配基本值
+            super.skipValue();
+        } else {
+            super.nextNull();
+        }
+        valueConsumed();
+    }
+
+    @Override
+    public double nextDouble() throws IOException {
+        double value = super.nextDouble();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public long nextLong() throws IOException {
+        long value = super.nextLong();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public int nextInt() throws IOException {
+        int value = super.nextInt();
+        valueConsumed();
+        return value;
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        if (filteringNames()) {
+            if (pendingName != null || advance()) {
+                // 与 JsonReader 一致，位于成员名时只跳过名称
+                pendingName = null;
+                awaitingValue[depth - 1] = true;
+            } else {
+                super.skipValue();
+            }
+            return;
+        }
+        super.skipValue();
+        valueConsumed();
+    }
+
+    /**
+     * 当前位于需要筛选成员名的对象层
+     */
+    private boolean filteringNames() {
+        int top = depth - 1;
+        return top >= 0 && objects[top] && nodes[top] != null && !awaitingValue[top];
+    }
+
+    /**
+     * 跳过未选中的成员，直到遇到选中的成员或对象结束
+     *
+     * @return 是否遇到选中的成员
+     */
+    private boolean advance() throws IOException {
+        PathTree node = nodes[depth - 1];
+        while (super.hasNext()) {
+            String name = super.nextName();
+            PathTree child = node.child(name);
+            if (child == null) {
+                super.skipValue();
+                continue;
+            }
+            if (!child.selectsAll()) {
+                JsonToken token = super.peek();
+                if (token != JsonToken.BEGIN_OBJECT && token != JsonToken.BEGIN_ARRAY) {
+                    super.skipValue();
+                    continue;
+                }
+            }
+            pendingName = name;
+            pendingChild = child.selectsAll() ? null : child;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 即将读取的值对应的投影，null 表示整体选中
+     */
+    private PathTree valueProjection() {
+        if (depth == 0) {
+            return root.selectsAll() ? null : root;
+        }
+        PathTree node = nodes[depth - 1];
+        if (node == null) {
+            return null;
+        }
+        return objects[depth - 1] ? pendingChild : node;
+    }
+
+    private void valueConsumed() {
+        if (depth > 0) {
+            awaitingValue[depth - 1] = false;
+        }
+    }
+
+    private void push(PathTree projection, boolean object) {
+        if (depth == nodes.length) {
+            int capacity = depth * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+            awaitingValue = Arrays.copyOf(awaitingValue, capacity);
+        }
+        nodes[depth] = projection;
+        objects[depth] = object;
+        awaitingValue[depth] = false;
+        depth++;
+    }
+
+    private static boolean isPrimitive(JsonToken token) {
+        return token == JsonToken.STRING || token == JsonToken.NUMBER || token == JsonToken.BOOLEAN;
+    }
+}
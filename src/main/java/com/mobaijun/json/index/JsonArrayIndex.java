@@ -0,0 +1,375 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.index;
+
+import com.mobaijun.json.util.JsonArrayScanner;
+import com.mobaijun.json.util.JsonFiles;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description: [JSON 数组文件的元素偏移索引]
+ * <p>
+ * 一次扫描记录每个顶层元素的字节范围，写入旁路文件 {@code <path>.idx}：文件头为魔数、版本、数据文件大小、修改时间和元素个数，
+ * 之后每个元素依次记录与上一个元素结束位置的差值和自身长度，均为变长整数，通常每个元素只占 2~4 个字节。
+ * 加载后每 128 个元素保存一个检查点，按下标定位最多解码 128 个变长整数。
+ * 数据文件的大小或修改时间与索引记录不一致时视为过期，{@link #open(String)} 会自动重建。
+ * {@link #open(String)} 按路径缓存已加载的索引，之后的调用只检查数据文件的大小和修改时间，不再重新解码索引。
+ * 只支持未压缩的文件。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 21:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonArrayIndex {
+
+    /**
+     * 索引文件扩展名
+     */
+    public static final String SUFFIX = ".idx";
+
+    /**
+     * 魔数 "JAIX"
+     */
+    private static final int MAGIC = 0x4A414958;
+
+    private static final byte VERSION = 1;
+
+    private static final int CHECKPOINT_SHIFT = 7;
+
+    private static final long CHECKPOINT_MASK = (1 << CHECKPOINT_SHIFT) - 1;
+
+    /**
+     * 已打开的索引，键为规范化的绝对路径
+     */
+    private static final Map<String, JsonArrayIndex> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存的容量上限，超出后淘汰任意一个已缓存的索引
+     */
+    private static final int CACHE_LIMIT = 64;
+
+    private final String path;
+
+    private final long fileSize;
+
+    private final long lastModified;
+
+    private final long count;
+
+    private final byte[] payload;
+
+    private final int[] checkpointPositions;
+
+    private final long[] checkpointOffsets;
+
+    private JsonArrayIndex(String path, long fileSize, long lastModified, long count, byte[] payload) throws IOException {
+        this.path = path;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.count = count;
+        this.payload = payload;
+        int checkpoints = (int) ((count + CHECKPOINT_MASK) >>> CHECKPOINT_SHIFT);
+        this.checkpointPositions = new int[checkpoints];
+        this.checkpointOffsets = new long[checkpoints];
+        Cursor cursor = new Cursor(0, 0);
+        long[] bounds = new long[2];
+        try {
+            for (long i = 0; i < count; i++) {
+                if ((i & CHECKPOINT_MASK) == 0) {
+                    checkpointPositions[(int) (i >>> CHECKPOINT_SHIFT)] = cursor.position;
+                    checkpointOffsets[(int) (i >>> CHECKPOINT_SHIFT)] = cursor.previousEnd;
+                }
+                cursor.next(bounds);
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupted index for " + path, e);
+        }
+    }
+
+    /**
+     * 扫描数据文件并写入旁路索引
+     *
+     * @param path 数据文件路径
+     * @return 索引
+     * @throws IOException 读取、写入异常或文件不是 JSON 数组
+     */
+    public static JsonArrayIndex build(String path) throws IOException {
+        Path file = Paths.get(path);
+        long fileSize = Files.size(file);
+        long lastModified = Files.getLastModifiedTime(file).toMillis();
+        VarLongBuffer buffer = new VarLongBuffer();
+        long[] previousEnd = new long[1];
+        long count;
+        try (InputStream in = new FileInputStream(path)) {
+            count = JsonArrayScanner.scan(in, (start, end) -> {
+                buffer.write(start - previousEnd[0]);
+                buffer.write(end - start);
+                previousEnd[0] = end;
+            });
+        }
+        byte[] payload = buffer.toByteArray();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path + SUFFIX), JsonFiles.BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeLong(fileSize);
+            out.writeLong(lastModified);
+            out.writeLong(count);
+            out.writeInt(payload.length);
+            out.write(payload);
+        }
+        JsonArrayIndex index = new JsonArrayIndex(path, fileSize, lastModified, count, payload);
+        cache(index);
+        return index;
+    }
+
+    /**
+     * 加载旁路索引，不检查是否过期
+     *
+     * @param path 数据文件路径
+     * @return 索引
+     * @throws IOException 索引不存在或格式错误
+     */
+    public static JsonArrayIndex load(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path + SUFFIX), JsonFiles.BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("Not a JSON array index: " + path + SUFFIX);
+            }
+            long fileSize = in.readLong();
+            long lastModified = in.readLong();
+            long count = in.readLong();
+            byte[] payload = new byte[in.readInt()];
+            in.readFully(payload);
+            return new JsonArrayIndex(path, fileSize, lastModified, count, payload);
+        }
+    }
+
+    /**
+     * 加载旁路索引，索引不存在、损坏或过期时重新构建；缓存中的索引未过期时直接返回
+     *
+     * @param path 数据文件路径
+     * @return 与数据文件一致的索引
+     * @throws IOException 读取、写入异常或文件不是 JSON 数组
+     */
+    public static JsonArrayIndex open(String path) throws IOException {
+        JsonArrayIndex cached = CACHE.get(key(path));
+        if (cached != null && !cached.isStale()) {
+            return cached;
+        }
+        try {
+            JsonArrayIndex index = load(path);
+            if (!index.isStale()) {
+                cache(index);
+                return index;
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // 索引不存在，重新构建
+        } catch (IOException e) {
+            if (!Files.exists(Paths.get(path))) {
+                throw e;
+            }
+            // 索引损坏，重新构建
+        }
+        return build(path);
+    }
+
+    private static String key(String path) {
+        return Paths.get(path).toAbsolutePath().normalize().toString();
+    }
+
+    private static void cache(JsonArrayIndex index) {
+        if (CACHE.size() >= CACHE_LIMIT) {
+            Iterator<String> keys = CACHE.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        CACHE.put(key(index.path), index);
+    }
+
+    /**
+     * 数据文件的大小或修改时间与索引记录不一致
+     *
+     * @return 是否过期
+     * @throws IOException 读取文件属性异常
+     */
+    public boolean isStale() throws IOException {
+        Path file = Paths.get(path);
+        return Files.size(file) != fileSize || Files.getLastModifiedTime(file).toMillis() != lastModified;
+    }
+
+    /**
+     * @return 元素个数
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * 读取单个元素的原始 JSON 文本
+     *
+     * @param index 元素下标
+     * @return 元素 JSON
+     * @throws IOException 读取异常
+     */
+    public String read(long index) throws IOException {
+        return read(index, index + 1).get(0);
+    }
+
+    /**
+     * 读取 [from, to) 范围内元素的原始 JSON 文本，相邻元素在一次读取中完成
+     *
+     * @param from 起始下标（包含）
+     * @param to   结束下标（不包含）
+     * @return 元素 JSON 列表
+     * @throws IOException 读取异常
+     */
+    public List<String> read(long from, long to) throws IOException {
+        if (from < 0 || to > count || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for size " + count);
+        }
+        List<String> elements = new ArrayList<>((int) Math.min(to - from, Integer.MAX_VALUE));
+        if (from == to) {
+            return elements;
+        }
+        long[] bounds = new long[2];
+        Cursor cursor = locate(from);
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            for (long i = from; i < to; ) {
+                // 合并为不超过缓冲区大小的连续读取，单个元素超过时单独读取
+                cursor.next(bounds);
+                long regionStart = bounds[0];
+                long regionEnd = bounds[1];
+                List<long[]> members = new ArrayList<>();
+                members.add(bounds.clone());
+                i++;
+                while (i < to && regionEnd - regionStart < JsonFiles.BUFFER_SIZE) {
+                    cursor.next(bounds);
+                    members.add(bounds.clone());
+                    regionEnd = bounds[1];
+                    i++;
+                }
+                byte[] region = readFully(channel, regionStart, regionEnd);
+                for (long[] member : members) {
+                    elements.add(new String(region, (int) (member[0] - regionStart), (int) (member[1] - member[0]), StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return elements;
+    }
+
+    private static byte[] readFully(FileChannel channel, long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("Element region too large: " + (end - start));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException("File truncated, the index is stale");
+            }
+        }
+        return buffer.array();
+    }
+
+    private Cursor locate(long index) {
+        int checkpoint = (int) (index >>> CHECKPOINT_SHIFT);
+        Cursor cursor = new Cursor(checkpointPositions[checkpoint], checkpointOffsets[checkpoint]);
+        long[] skip = new long[2];
+        for (long i = (long) checkpoint << CHECKPOINT_SHIFT; i < index; i++) {
+            cursor.next(skip);
+        }
+        return cursor;
+    }
+
+    /**
+     * 顺序解码索引数据
+     */
+    private final class Cursor {
+
+        private int position;
+
+        private long previousEnd;
+
+        private Cursor(int position, long previousEnd) {
+            this.position = position;
+            this.previousEnd = previousEnd;
+        }
+
+        private void next(long[] bounds) {
+            bounds[0] = previousEnd + readVarLong();
+            bounds[1] = bounds[0] + readVarLong();
+            previousEnd = bounds[1];
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = payload[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+        }
+    }
+
+    /**
+     * 变长整数写入缓冲
+     */
+    private static final class VarLongBuffer {
+
+        private byte[] bytes = new byte[1024];
+
+        private int size;
+
+        private void write(long value) {
+            if (size + 10 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length << 1);
+            }
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.parallel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Description: [多核并行读取 JSON Lines 文件]
+ * <p>
+ * 文件按换行边界切分为若干块，每块单独内存映射（因此不受单个 {@link MappedByteBuffer} 2GB 的限制），
+ * 在 {@link ForkJoinPool} 上并行解码。有序模式按文件顺序交付记录，同时在途的块数量有上限，内存占用与文件大小无关；
+ * 无序模式在工作线程上直接交付记录，吞吐最高。空行会被忽略，行尾的 {@code \r} 会被去掉。
+ * 只支持未压缩的 UTF-8 文件，压缩文件请使用逐行读取。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 20:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class ParallelJsonLinesReader<T> {
+
+    /**
+     * 默认块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+
+    private final Function<String, T> decoder;
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    /**
+     * 使用公共 ForkJoinPool 和默认块大小
+     *
+     * @param decoder 单行记录的解码函数，会被多个线程并发调用
+     */
+    public ParallelJsonLinesReader(Function<String, T> decoder) {
+        this(decoder, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param decoder   单行记录的解码函数，会被多个线程并发调用
+     * @param pool      执行解码的线程池
+     * @param chunkSize 块大小，单条记录超过该大小时所在块会相应扩大
+     */
+    public ParallelJsonLinesReader(Function<String, T> decoder, ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.decoder = decoder;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 读取全部记录，保持文件顺序
+     *
+     * @param path 文件路径
+     * @return 记录列表
+     * @throws UncheckedIOException  读取异常
+     * @throws IllegalStateException 记录解码失败
+     */
+    public List<T> read(String path) {
+        List<T> result = new ArrayList<>();
+        forEachOrdered(path, result::add);
+        return result;
+    }
+
+    /**
+     * 按文件顺序交付记录，action 在调用线程上执行
+     *
+     * @param path   文件路径
+     * @param action 对每条记录执行的操作
+     * @throws UncheckedIOException  读取异常
+     * @throws IllegalStateException 记录解码失败
+     */
+    public void forEachOrdered(String path, Consumer<? super T> action) {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            int window = Math.max(2, pool.getParallelism() * 2);
+            Deque<ForkJoinTask<List<T>>> inFlight = new ArrayDeque<>(window);
+            int next = 0;
+            try {
+                while (next < bounds.length - 1 || !inFlight.isEmpty()) {
+                    while (next < bounds.length - 1 && inFlight.size() < window) {
+                        long start = bounds[next];
+                        long end = bounds[next + 1];
+                        inFlight.add(pool.submit(() -> {
+                            List<T> records = new ArrayList<>();
+                            decodeChunk(channel, start, end, records::add);
+                            return records;
+                        }));
+                        next++;
+                    }
+                    inFlight.poll().join().forEach(action);
+                }
+            } finally {
+                // 出错时放弃尚未开始的块
+                inFlight.forEach(task -> task.cancel(false));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 不保证顺序地交付记录，action 在工作线程上并发执行，必须是线程安全的
+     *
+     * @param path   文件路径
+     * @param action 对每条记录执行的操作
+     * @throws UncheckedIOException  读取异常
+     * @throws IllegalStateException 记录解码失败
+     */
+    public void forEach(String path, Consumer<? super T> action) {
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(bounds.length);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                tasks.add(pool.submit(() -> decodeChunk(channel, start, end, action)));
+            }
+            try {
+                for (ForkJoinTask<?> task : tasks) {
+                    task.join();
+                }
+            } finally {
+                tasks.forEach(task -> task.cancel(false));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 计算块边界，除最后一块外每块都在换行符之后结束
+     */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long[] bounds = new long[16];
+        int count = 0;
+        bounds[count++] = 0;
+        ByteBuffer probe = ByteBuffer.allocate(8192);
+        long start = 0;
+        while (start < size) {
+            long end = start + chunkSize >= size ? size : nextLineStart(channel, start + chunkSize, size, probe);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Record too large near offset " + start);
+            }
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count << 1);
+            }
+            bounds[count++] = end;
+            start = end;
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private void decodeChunk(FileChannel channel, long start, long end, Consumer<? super T> action) {
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] line = new byte[256];
+        int length = 0;
+        long lineStart = start;
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                emit(line, length, lineStart, action);
+                length = 0;
+                lineStart = start + buffer.position();
+                continue;
+            }
+            if (length == line.length) {
+                line = Arrays.copyOf(line, length << 1);
+            }
+            line[length++] = b;
+        }
+        if (length > 0) {
+            emit(line, length, lineStart, action);
+        }
+    }
+
+    private void emit(byte[] line, int length, long offset, Consumer<? super T> action) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        String text = new String(line, 0, length, StandardCharsets.UTF_8);
+        if (text.trim().isEmpty()) {
+            return;
+        }
+        T record;
+        try {
+            record = decoder.apply(text);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Error while decoding record at byte offset " + offset, e);
+        }
+        action.accept(record);
+    }
+}
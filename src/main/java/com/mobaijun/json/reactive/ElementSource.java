@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.reactive;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Description: [JSON 数组元素的拉取式数据源，由具体的 JSON 库实现逐个解码]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 14:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public interface ElementSource<T> extends Closeable {
+
+    /**
+     * 是否还有下一个元素，首次调用时进入数组
+     *
+     * @return 还有元素返回 true
+     * @throws IOException 读取异常
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * 解码下一个元素
+     *
+     * @return 下一个元素
+     * @throws IOException 读取异常
+     */
+    T next() throws IOException;
+}
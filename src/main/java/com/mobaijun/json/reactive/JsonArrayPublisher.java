@@ -0,0 +1,246 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.reactive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Description: [按需发布 JSON 数组元素的 Reactive Streams Publisher]
+ * <p>
+ * 只有订阅者 {@code request(n)} 之后才会从数据源解码对应数量的元素，取消订阅会停止读取并关闭数据源，
+ * 因此慢速消费者不会迫使整个数组进入内存。数据源是一次性的，只允许一个订阅者。
+ * 指定 Executor 时解码和信号发送都在该 Executor 上串行执行，否则在调用 request 的线程上执行。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 14:12]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonArrayPublisher<T> implements Publisher<T> {
+
+    private final Callable<? extends ElementSource<T>> sourceFactory;
+
+    private final Closeable resource;
+
+    private final Executor executor;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * @param sourceFactory 数据源工厂，在首次拉取元素时打开
+     * @param executor      解码所用的 Executor，为 null 时在调用 request 的线程上解码
+     */
+    public JsonArrayPublisher(Callable<? extends ElementSource<T>> sourceFactory, Executor executor) {
+        this(sourceFactory, null, executor);
+    }
+
+    /**
+     * @param sourceFactory 数据源工厂，在首次拉取元素时打开
+     * @param resource      数据源包装的底层资源，数据源尚未打开时结束订阅（例如首次 request 之前取消）直接关闭它，可为 null
+     * @param executor      解码所用的 Executor，为 null 时在调用 request 的线程上解码
+     */
+    public JsonArrayPublisher(Callable<? extends ElementSource<T>> sourceFactory, Closeable resource, Executor executor) {
+        this.sourceFactory = Objects.requireNonNull(sourceFactory, "sourceFactory");
+        this.resource = resource;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("JsonArrayPublisher allows only a single subscriber"));
+            return;
+        }
+        ArraySubscription<T> subscription = new ArraySubscription<>(subscriber, sourceFactory, resource, executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * 订阅状态，通过 wip 计数保证 drain 串行执行且不会重入
+     */
+    private static final class ArraySubscription<T> implements Subscription, Runnable {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final Callable<? extends ElementSource<T>> sourceFactory;
+
+        private final Closeable resource;
+
+        private final Executor executor;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private Throwable invalidRequest;
+
+        private ElementSource<T> source;
+
+        private boolean done;
+
+        private boolean closed;
+
+        private ArraySubscription(Subscriber<? super T> subscriber, Callable<? extends ElementSource<T>> sourceFactory,
+                                  Closeable resource, Executor executor) {
+            this.subscriber = subscriber;
+            this.sourceFactory = sourceFactory;
+            this.resource = resource;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // 规范 3.9：非正数请求以 onError 结束
+                invalidRequest = new IllegalArgumentException("request(n) requires n > 0, but was " + n);
+                cancelled = true;
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                    next = current + n;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                } while (!requested.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            if (executor == null) {
+                run();
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                closeSource();
+                done = true;
+                subscriber.onError(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    drain();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            long emitted = 0L;
+            long demand = requested.get();
+            try {
+                while (true) {
+                    if (cancelled) {
+                        terminate(invalidRequest);
+                        return;
+                    }
+                    if (source == null) {
+                        source = sourceFactory.call();
+                    }
+                    // 没有需求时在 hasNext() 之前停止，不会探测数组是否结束，完成信号要等到下一次 request 才发送
+                    if (emitted == demand) {
+                        demand = requested.get();
+                        if (emitted == demand) {
+                            break;
+                        }
+                    }
+                    if (!source.hasNext()) {
+                        terminate(null);
+                        return;
+                    }
+                    T element = source.next();
+                    subscriber.onNext(element);
+                    emitted++;
+                }
+            } catch (Throwable e) {
+                terminate(e);
+                return;
+            }
+            if (demand != Long.MAX_VALUE) {
+                requested.addAndGet(-emitted);
+            }
+        }
+
+        private void terminate(Throwable error) {
+            done = true;
+            closeSource();
+            if (error != null) {
+                subscriber.onError(error);
+            } else if (!cancelled) {
+                subscriber.onComplete();
+            }
+        }
+
+        private void closeSource() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            Closeable closeable = source != null ? source : resource;
+            source = null;
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (IOException ignored) {
+                    // 关闭失败不影响已发送的信号
+                }
+            }
+        }
+    }
+}
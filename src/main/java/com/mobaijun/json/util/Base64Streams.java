@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Base64;
+
+/**
+ * Description: [Base64 与 JSON 字符流之间的流式编解码]
+ * <p>
+ * 编码时输入流的内容分块编码后直接写入 Writer；解码时在 JSON 字符流中定位字段，返回边读边解码的输入流，
+ * 两个方向都不会生成完整的 Base64 字符串。定位字段只识别对象成员路径，不构建 JSON 树，
+ * 字段之前的值在字符层跳过，字段之后的内容不会被读取。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class Base64Streams {
+
+    private static final int CHUNK_SIZE = 3 * 4096;
+
+    /**
+     * 将输入流编码为 Base64 写入 Writer，不写引号，两个流都不会被关闭
+     *
+     * @param in  输入
+     * @param out 输出
+     * @throws IOException 读取或写入异常
+     */
+    public static void encode(InputStream in, Writer out) throws IOException {
+        OutputStream encoder = Base64.getEncoder().wrap(new AsciiOutputStream(out));
+        byte[] buffer = new byte[CHUNK_SIZE];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            encoder.write(buffer, 0, read);
+        }
+        // 写出末尾不足 3 字节的部分和填充，AsciiOutputStream 的 close 不会关闭 Writer
+        encoder.close();
+    }
+
+    /**
+     * 定位 JSON 文档中的 Base64 字符串字段，返回解码后内容的输入流。
+     * 关闭返回的输入流会关闭 reader。
+     *
+     * @param reader JSON 输入
+     * @param path   {@code .} 分隔的对象字段路径，例如 {@code attachment.content}
+     * @return 解码输入流，字段不存在或值为 null 时返回 null（此时 reader 已被关闭）
+     * @throws IOException 读取异常、JSON 格式错误或字段不是字符串
+     */
+    public static InputStream openField(Reader reader, String path) throws IOException {
+        Locator locator = new Locator(reader instanceof BufferedReader ? reader : new BufferedReader(reader));
+        boolean found = false;
+        try {
+            found = locator.seek(path.split("\\."));
+        } finally {
+            if (!found) {
+                reader.close();
+            }
+        }
+        if (!found) {
+            return null;
+        }
+        return Base64.getDecoder().wrap(new StringValueInputStream(locator));
+    }
+
+    /**
+     * 把 Base64 编码器输出的 ASCII 字节作为字符写入 Writer
+     */
+    private static final class AsciiOutputStream extends OutputStream {
+
+        private final Writer out;
+
+        private final char[] chars = new char[4096];
+
+        private AsciiOutputStream(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int n = Math.min(len, chars.length);
+                for (int i = 0; i < n; i++) {
+                    chars[i] = (char) b[off + i];
+                }
+                out.write(chars, 0, n);
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void close() {
+            // Writer 由调用方管理
+        }
+    }
+
+    /**
+     * 字符层的 JSON 字段定位，seek 成功后停在字符串值的开引号之后
+     */
+    private static final class Locator {
+
+        private final Reader in;
+
+        private int pending = -1;
+
+        private Locator(Reader in) {
+            this.in = in;
+        }
+
+        private boolean seek(String[] names) throws IOException {
+            int c = nextNonWhitespace();
+            for (String name : names) {
+                if (c != '{' || !seekMember(name)) {
+                    return false;
+                }
+                c = nextNonWhitespace();
+            }
+            if (c == 'n') {
+                return false;
+            }
+            if (c != '"') {
+                throw new IOException("Field " + String.join(".", names) + " is not a string");
+            }
+            return true;
+        }
+
+        /**
+         * 在对象的开括号之后查找成员，找到时停在值之前
+         */
+        private boolean seekMember(String name) throws IOException {
+            int c = nextNonWhitespace();
+            while (c != '}') {
+                if (c == ',') {
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("member name", c);
+                }
+                String key = readString();
+                c = nextNonWhitespace();
+                if (c != ':') {
+                    throw syntaxError("':'", c);
+                }
+                if (key.equals(name)) {
+                    return true;
+                }
+                skipValue(nextNonWhitespace());
+                c = nextNonWhitespace();
+            }
+            return false;
+        }
+
+        private void skipValue(int c) throws IOException {
+            if (c == '"') {
+                skipString();
+                return;
+            }
+            if (c == '{' || c == '[') {
+                int depth = 1;
+                while (depth > 0) {
+                    c = read();
+                    if (c == '"') {
+                        skipString();
+                    } else if (c == '{' || c == '[') {
+                        depth++;
+                    } else if (c == '}' || c == ']') {
+                        depth--;
+                    } else if (c == -1) {
+                        throw new IOException("Truncated JSON");
+                    }
+                }
+                return;
+            }
+            // 数字、true、false、null：读到分隔符为止，分隔符留给调用方
+            while (c != -1 && c != ',' && c != '}' && c != ']' && !isWhitespace(c)) {
+                c = read();
+            }
+            pending = c;
+        }
+
+        private void skipString() throws IOException {
+            int c;
+            while ((c = read()) != '"') {
+                if (c == '\\') {
+                    read();
+                } else if (c == -1) {
+                    throw new IOException("Truncated JSON string");
+                }
+            }
+        }
+
+        private String readString() throws IOException {
+            StringBuilder builder = new StringBuilder();
+            int c;
+            while ((c = nextStringChar()) != -1) {
+                builder.append((char) c);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * 读取字符串中的下一个字符并处理转义，遇到闭引号返回 -1
+         */
+        private int nextStringChar() throws IOException {
+            int c = read();
+            if (c == '"') {
+                return -1;
+            }
+            if (c == -1) {
+                throw new IOException("Truncated JSON string");
+            }
+            if (c != '\\') {
+                return c;
+            }
+            c = read();
+            switch (c) {
+                case 'u':
+                    int value = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw new IOException("Malformed unicode escape");
+                        }
+                        value = (value << 4) | digit;
+                    }
+                    return value;
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'b':
+                    return '\b';
+                case 'f':
+                    return '\f';
+                case -1:
+                    throw new IOException("Truncated JSON string");
+                default:
+                    return c;
+            }
+        }
+
+        private int nextNonWhitespace() throws IOException {
+            int c;
+            do {
+                c = read();
+            } while (isWhitespace(c));
+            return c;
+        }
+
+        private int read() throws IOException {
+            if (pending != -1) {
+                int c = pending;
+                pending = -1;
+                return c;
+            }
+            return in.read();
+        }
+
+        private static boolean isWhitespace(int c) {
+            return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+        }
+
+        private static IOException syntaxError(String expected, int actual) {
+            return new IOException("Expected " + expected + " but was " + (actual == -1 ? "end of input" : "'" + (char) actual + "'"));
+        }
+    }
+
+    /**
+     * 把字符串值的内容（处理转义后）作为 ASCII 字节交给 Base64 解码器，读到闭引号结束
+     */
+    private static final class StringValueInputStream extends InputStream {
+
+        private final Locator locator;
+
+        private boolean ended;
+
+        private StringValueInputStream(Locator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ended) {
+                return -1;
+            }
+            int c = locator.nextStringChar();
+            if (c == -1) {
+                ended = true;
+                return -1;
+            }
+            if (c > 0x7F) {
+                throw new IOException("Illegal base64 character: " + (char) c);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int n = 0;
+            while (n < len) {
+                int c = read();
+                if (c == -1) {
+                    break;
+                }
+                b[off + n++] = (byte) c;
+            }
+            return n == 0 ? -1 : n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            locator.in.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Description: [包扫描工具，支持目录和 jar 两种 classpath 形式]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class ClassScanner {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * 扫描包及其子包下的具体类（跳过接口、抽象类、注解、匿名类和 package-info）
+     *
+     * @param packageName 包名
+     * @param classLoader 类加载器
+     * @return 扫描到的类，不会初始化类
+     * @throws IllegalArgumentException 如果扫描出现 IO 异常
+     */
+    public static List<Class<?>> scan(String packageName, ClassLoader classLoader) {
+        String path = packageName.replace('.', '/');
+        List<Class<?>> classes = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    scanDirectory(new File(URLDecoder.decode(url.getFile(), "UTF-8")), packageName, classLoader, classes);
+                } else if ("jar".equals(url.getProtocol())) {
+                    scanJar(url, path, classLoader, classes);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Error while scanning package: " + packageName, e);
+        }
+        return classes;
+    }
+
+    private static void scanDirectory(File directory, String packageName, ClassLoader classLoader,
+                                      List<Class<?>> classes) throws UnsupportedEncodingException {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + name, classLoader, classes);
+            } else if (name.endsWith(CLASS_SUFFIX)) {
+                addClass(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()), classLoader, classes);
+            }
+        }
+    }
+
+    private static void scanJar(URL url, String path, ClassLoader classLoader, List<Class<?>> classes) throws IOException {
+        URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return;
+        }
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        jarConnection.setUseCaches(false);
+        try (JarFile jarFile = jarConnection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.startsWith(path + "/") && name.endsWith(CLASS_SUFFIX)) {
+                    addClass(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'), classLoader, classes);
+                }
+            }
+        }
+    }
+
+    private static void addClass(String className, ClassLoader classLoader, List<Class<?>> classes) {
+        if (className.endsWith("package-info") || className.endsWith("module-info")) {
+            return;
+        }
+        Class<?> type;
+        try {
+            type = Class.forName(className, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            // 依赖缺失的类直接跳过
+            return;
+        }
+        if (type.isInterface() || type.isAnnotation() || type.isAnonymousClass() || type.isLocalClass() || type.isSynthetic()
+                || Modifier.isAbstract(type.getModifiers())) {
+            return;
+        }
+        classes.add(type);
+    }
+}
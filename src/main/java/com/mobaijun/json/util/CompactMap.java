@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Description: [基于数组的紧凑 Map，适合键数量较少的 JSON 对象]
+ * <p>
+ * 键和值分别存放在两个数组中，按插入顺序保存，查找为线性扫描；
+ * 没有 Entry 节点和哈希表开销，键较少时比 HashMap/LinkedTreeMap 节省大量内存。
+ * 键数量超过 {@link #MAX_COMPACT_SIZE} 时应使用普通的 LinkedHashMap。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:18]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class CompactMap<V> extends AbstractMap<String, V> {
+
+    /**
+     * 推荐使用紧凑表示的最大键数量，超过后线性查找的代价开始明显
+     */
+    public static final int MAX_COMPACT_SIZE = 16;
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] keys;
+
+    private Object[] values;
+
+    private int size;
+
+    private int modCount;
+
+    public CompactMap() {
+        this.keys = EMPTY;
+        this.values = EMPTY;
+    }
+
+    /**
+     * @param capacity 初始容量
+     */
+    public CompactMap(int capacity) {
+        this.keys = capacity == 0 ? EMPTY : new Object[capacity];
+        this.values = capacity == 0 ? EMPTY : new Object[capacity];
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            Object k = keys[i];
+            // 驻留后的键大多可以通过引用相等命中
+            if (k == key || (k != null && k.equals(key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : (V) values[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(String key, V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V old = (V) values[index];
+            values[index] = value;
+            return old;
+        }
+        if (size == keys.length) {
+            int capacity = size == 0 ? 4 : size + (size >> 1) + 1;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : removeAt(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private V removeAt(int index) {
+        V old = (V) values[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * 释放多余的数组容量，解析完成后调用可以进一步减少内存占用
+     */
+    public void trimToSize() {
+        if (size < keys.length) {
+            keys = size == 0 ? EMPTY : Arrays.copyOf(keys, size);
+            values = size == 0 ? EMPTY : Arrays.copyOf(values, size);
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, V>> entrySet() {
+        return new AbstractSet<Map.Entry<String, V>>() {
+            @Override
+            public Iterator<Map.Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, V>> {
+
+        private int next;
+
+        private int last = -1;
+
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<String, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            final int index = last;
+            return new Map.Entry<String, V>() {
+                @Override
+                public String getKey() {
+                    return (String) keys[index];
+                }
+
+                @Override
+                public V getValue() {
+                    return (V) values[index];
+                }
+
+                @Override
+                public V setValue(V value) {
+                    V old = (V) values[index];
+                    values[index] = value;
+                    return old;
+                }
+
+                @Override
+                public boolean equals(Object o) {
+                    if (!(o instanceof Map.Entry)) {
+                        return false;
+                    }
+                    Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                    return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+                }
+
+                @Override
+                public int hashCode() {
+                    return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+                }
+
+                @Override
+                public String toString() {
+                    return getKey() + "=" + getValue();
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
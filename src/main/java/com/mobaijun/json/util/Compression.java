@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.util.Locale;
+
+/**
+ * Description: [JSON 文件的压缩格式]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 19:50]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public enum Compression {
+
+    /**
+     * 不压缩
+     */
+    NONE,
+
+    /**
+     * GZIP，扩展名 {@code .gz}；追加写入时生成多个 GZIP 成员，读取时会连续解压
+     */
+    GZIP,
+
+    /**
+     * zlib 格式的 Deflate，扩展名 {@code .deflate}；追加写入时生成多个 zlib 数据流，读取时会连续解压
+     */
+    DEFLATE;
+
+    /**
+     * 根据文件扩展名判断压缩格式
+     *
+     * @param path 文件路径
+     * @return 压缩格式，无法识别时返回 {@link #NONE}
+     */
+    public static Compression of(String path) {
+        String lower = path.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".gz") || lower.endsWith(".gzip")) {
+            return GZIP;
+        }
+        if (lower.endsWith(".deflate") || lower.endsWith(".zz")) {
+            return DEFLATE;
+        }
+        return NONE;
+    }
+}
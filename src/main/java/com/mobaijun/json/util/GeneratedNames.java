@@ -0,0 +1,46 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+/**
+ * Description: [编译期生成类的命名规则]
+ * <p>
+ * 生成类与实体类位于同一个包，类名为实体类的扁平名称加后缀，嵌套类的 {@code $} 替换为 {@code _}，
+ * 注解处理器和运行时加载生成类的工厂共用此规则。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class GeneratedNames {
+
+    private GeneratedNames() {
+    }
+
+    /**
+     * 计算生成类的全限定类名
+     *
+     * @param type   实体类
+     * @param suffix 生成类名后缀
+     * @return 生成类的全限定类名
+     */
+    public static String of(Class<?> type, String suffix) {
+        String name = type.getName();
+        Package pkg = type.getPackage();
+        String packageName = pkg == null ? "" : pkg.getName();
+        String simpleName = packageName.isEmpty() ? name : name.substring(packageName.length() + 1);
+        return (packageName.isEmpty() ? "" : packageName + ".") + simpleName.replace('$', '_') + suffix;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Description: [字节级扫描 JSON 数组，报告每个顶层元素的字节范围]
+ * <p>
+ * 只跟踪字符串、转义和嵌套深度，不解析值，速度接近顺序读取。UTF-8 多字节字符不包含 ASCII 字节，可以按字节扫描。
+ * 输入可以是连续的多个顶层数组（例如多次追加写入的文件），元素按出现顺序连续编号。
+ * 只做结构检查，元素内容是否合法由后续解码决定。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 20:50]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonArrayScanner {
+
+    /**
+     * 元素回调
+     */
+    @FunctionalInterface
+    public interface ElementListener {
+
+        /**
+         * 发现一个元素
+         *
+         * @param start 元素第一个字节的偏移量
+         * @param end   元素最后一个字节之后的偏移量
+         * @throws IOException 处理异常
+         */
+        void element(long start, long end) throws IOException;
+    }
+
+    /**
+     * 元素文本回调
+     */
+    @FunctionalInterface
+    public interface ElementTextListener {
+
+        /**
+         * 发现一个元素
+         *
+         * @param bytes  元素的 UTF-8 字节，数组在回调返回后会被复用
+         * @param length 元素字节数
+         * @throws IOException 处理异常
+         */
+        void element(byte[] bytes, int length) throws IOException;
+    }
+
+    private final ElementListener listener;
+
+    private int depth;
+
+    private boolean inString;
+
+    private boolean escape;
+
+    private long elementStart = -1;
+
+    private long elementEnd;
+
+    private JsonArrayScanner(ElementListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 扫描输入，输入不会被关闭
+     *
+     * @param in       输入
+     * @param listener 元素回调
+     * @return 元素个数
+     * @throws IOException 读取异常或输入不是完整的 JSON 数组
+     */
+    public static long scan(InputStream in, ElementListener listener) throws IOException {
+        CountingListener counting = new CountingListener(listener);
+        new JsonArrayScanner(counting).run(in, null);
+        return counting.count;
+    }
+
+    /**
+     * 扫描输入并交付每个元素的原始字节，输入不会被关闭
+     *
+     * @param in       输入
+     * @param listener 元素文本回调
+     * @return 元素个数
+     * @throws IOException 读取异常或输入不是完整的 JSON 数组
+     */
+    public static long scanText(InputStream in, ElementTextListener listener) throws IOException {
+        Capture capture = new Capture(listener);
+        CountingListener counting = new CountingListener(capture);
+        new JsonArrayScanner(counting).run(in, capture);
+        return counting.count;
+    }
+
+    private void run(InputStream in, Capture capture) throws IOException {
+        byte[] buffer = new byte[JsonFiles.BUFFER_SIZE];
+        long offset = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                accept(buffer[i], offset + i);
+                if (capture != null && elementStart >= 0) {
+                    capture.append(buffer[i]);
+                }
+            }
+            offset += read;
+        }
+        if (depth != 0 || inString) {
+            throw new IOException("Truncated JSON array at offset " + offset);
+        }
+    }
+
+    private void accept(byte b, long position) throws IOException {
+        if (inString) {
+            if (escape) {
+                escape = false;
+            } else if (b == '\\') {
+                escape = true;
+            } else if (b == '"') {
+                inString = false;
+            }
+            elementEnd = position + 1;
+            return;
+        }
+        if (b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+            return;
+        }
+        if (depth == 0) {
+            if (b != '[') {
+                throw new IOException("Expected a JSON array at offset " + position);
+            }
+            depth = 1;
+            return;
+        }
+        if (depth == 1) {
+            if (b == ',' || b == ']') {
+                if (elementStart >= 0) {
+                    listener.element(elementStart, elementEnd);
+                    elementStart = -1;
+                }
+                if (b == ']') {
+                    depth = 0;
+                }
+                return;
+            }
+            if (elementStart < 0) {
+                elementStart = position;
+            }
+        }
+        if (b == '"') {
+            inString = true;
+        } else if (b == '[' || b == '{') {
+            depth++;
+        } else if (b == ']' || b == '}') {
+            depth--;
+        }
+        elementEnd = position + 1;
+    }
+
+    /**
+     * 收集当前元素的字节，元素结束时交付
+     */
+    private static final class Capture implements ElementListener {
+
+        private final ElementTextListener listener;
+
+        private byte[] bytes = new byte[256];
+
+        private int size;
+
+        private Capture(ElementTextListener listener) {
+            this.listener = listener;
+        }
+
+        private void append(byte b) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size << 1);
+            }
+            bytes[size++] = b;
+        }
+
+        @Override
+        public void element(long start, long end) throws IOException {
+            // 已收集的字节可能包含元素之后的空白，按元素长度截取
+            listener.element(bytes, (int) (end - start));
+            size = 0;
+        }
+    }
+
+    private static final class CountingListener implements ElementListener {
+
+        private final ElementListener delegate;
+
+        private long count;
+
+        private CountingListener(ElementListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void element(long start, long end) throws IOException {
+            count++;
+            delegate.element(start, end);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Description: [二进制字段的内容来源，序列化为 Base64 字符串]
+ * <p>
+ * 用作 Bean 的字段类型代替 {@code byte[]}：内容来自字节数组、{@link ByteBuffer} 或每次序列化时重新打开的输入流，
+ * GsonUtil 写出到 Writer 时边读边编码，大对象不会以 Base64 字符串的形式出现在堆中；
+ * FastJsonUtil 同样读写 Base64 字符串，但输出在内存中构建，编码结果会完整出现在堆中。
+ * 实例不可变，ByteBuffer 来源读取的是创建时 position 到 limit 之间的内容，不会修改原缓冲区的位置。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class JsonBinary {
+
+    /**
+     * 输入流来源
+     */
+    @FunctionalInterface
+    public interface StreamSupplier {
+
+        /**
+         * 打开新的输入流，每次序列化调用一次，流由调用方关闭
+         *
+         * @return 输入流
+         * @throws IOException 打开异常
+         */
+        InputStream open() throws IOException;
+    }
+
+    private final StreamSupplier supplier;
+
+    private JsonBinary(StreamSupplier supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * @param bytes 字节数组，不会被复制
+     * @return 二进制内容
+     */
+    public static JsonBinary of(byte[] bytes) {
+        return new JsonBinary(() -> new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * @param buffer 缓冲区，读取 position 到 limit 之间的内容
+     * @return 二进制内容
+     */
+    public static JsonBinary of(ByteBuffer buffer) {
+        ByteBuffer source = buffer.duplicate();
+        return new JsonBinary(() -> new ByteBufferInputStream(source.duplicate()));
+    }
+
+    /**
+     * @param supplier 输入流来源，例如 {@code () -> Files.newInputStream(path)}
+     * @return 二进制内容
+     */
+    public static JsonBinary of(StreamSupplier supplier) {
+        return new JsonBinary(supplier);
+    }
+
+    /**
+     * 打开内容的输入流
+     *
+     * @return 输入流，由调用方关闭
+     * @throws IOException 打开异常
+     */
+    public InputStream openStream() throws IOException {
+        return supplier.open();
+    }
+
+    /**
+     * 读取全部内容
+     *
+     * @return 字节数组
+     * @throws IOException 读取异常
+     */
+    public byte[] toByteArray() throws IOException {
+        try (InputStream in = openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Description: [JSON 文件读写，按扩展名或指定格式透明压缩和解压]
+ * <p>
+ * 压缩在读写管道中流式进行，数据不会以未压缩的完整形式存在于内存；字符统一使用 UTF-8，
+ * 字符层和压缩层各使用 64KB 缓冲区。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 19:55]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonFiles {
+
+    /**
+     * 缓冲区大小
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 打开文件读取，压缩格式由扩展名决定
+     *
+     * @param path 文件路径
+     * @return UTF-8 读取器
+     * @throws IOException 打开异常
+     */
+    public static BufferedReader newReader(String path) throws IOException {
+        return newReader(path, Compression.of(path));
+    }
+
+    /**
+     * 打开文件读取
+     *
+     * @param path        文件路径
+     * @param compression 压缩格式
+     * @return UTF-8 读取器
+     * @throws IOException 打开异常
+     */
+    public static BufferedReader newReader(String path, Compression compression) throws IOException {
+        return new BufferedReader(new InputStreamReader(newInputStream(path, compression), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * 打开文件读取字节，压缩格式由扩展名决定
+     *
+     * @param path 文件路径
+     * @return 解压后的字节流，压缩时自带缓冲，未压缩时为原始文件流
+     * @throws IOException 打开异常
+     */
+    public static InputStream newInputStream(String path) throws IOException {
+        return newInputStream(path, Compression.of(path));
+    }
+
+    /**
+     * 打开文件读取字节
+     *
+     * @param path        文件路径
+     * @param compression 压缩格式
+     * @return 解压后的字节流，压缩时自带缓冲，未压缩时为原始文件流
+     * @throws IOException 打开异常
+     */
+    public static InputStream newInputStream(String path, Compression compression) throws IOException {
+        InputStream in = new FileInputStream(path);
+        try {
+            switch (compression) {
+                case GZIP:
+                    in = new GZIPInputStream(in, BUFFER_SIZE);
+                    break;
+                case DEFLATE:
+                    in = new ConcatenatedInflaterInputStream(in);
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    /**
+     * 打开文件写入，压缩格式由扩展名决定
+     *
+     * @param path   文件路径
+     * @param append 是否追加，压缩格式下追加的内容成为新的压缩数据流，读取时连续解压
+     * @return UTF-8 写入器，关闭时结束压缩流
+     * @throws IOException 打开异常
+     */
+    public static BufferedWriter newWriter(String path, boolean append) throws IOException {
+        return newWriter(path, append, Compression.of(path));
+    }
+
+    /**
+     * 打开文件写入
+     *
+     * @param path        文件路径
+     * @param append      是否追加，压缩格式下追加的内容成为新的压缩数据流，读取时连续解压
+     * @param compression 压缩格式
+     * @return UTF-8 写入器，关闭时结束压缩流
+     * @throws IOException 打开异常
+     */
+    public static BufferedWriter newWriter(String path, boolean append, Compression compression) throws IOException {
+        OutputStream out = new FileOutputStream(path, append);
+        try {
+            switch (compression) {
+                case GZIP:
+                    out = new GZIPOutputStream(out, BUFFER_SIZE);
+                    break;
+                case DEFLATE:
+                    Deflater deflater = new Deflater();
+                    out = new DeflaterOutputStream(out, deflater, BUFFER_SIZE) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                deflater.end();
+                            }
+                        }
+                    };
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            out.close();
+            throw e;
+        }
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * 连续解压首尾相接的多个 zlib 数据流，追加写入的 Deflate 文件由多个数据流组成
+     */
+    private static final class ConcatenatedInflaterInputStream extends InflaterInputStream {
+
+        private ConcatenatedInflaterInputStream(InputStream in) {
+            super(in, new Inflater(), BUFFER_SIZE);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            while (true) {
+                int n = super.read(b, off, len);
+                if (n != -1 || !nextStream()) {
+                    return n;
+                }
+            }
+        }
+
+        /**
+         * 当前数据流结束后，用剩余字节重置 Inflater 继续解压下一个数据流
+         *
+         * @return 是否还有下一个数据流
+         */
+        private boolean nextStream() throws IOException {
+            int remaining = inf.getRemaining();
+            if (remaining > 0) {
+                inf.reset();
+                inf.setInput(buf, this.len - remaining, remaining);
+                return true;
+            }
+            int next = in.read();
+            if (next == -1) {
+                return false;
+            }
+            inf.reset();
+            buf[0] = (byte) next;
+            this.len = 1;
+            inf.setInput(buf, 0, 1);
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                // 自行创建的 Inflater 不会随流关闭释放，需要显式 end
+                inf.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Description: [RFC 6901 JSON Pointer 的转义与解析]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 17:12]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class JsonPointer {
+
+    /**
+     * 转义单个引用片段
+     *
+     * @param token 字段名
+     * @return 转义后的片段
+     */
+    public static String escape(String token) {
+        if (token.indexOf('~') < 0 && token.indexOf('/') < 0) {
+            return token;
+        }
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    /**
+     * 解析 JSON Pointer 为引用片段列表
+     *
+     * @param pointer JSON Pointer，空串表示整个文档
+     * @return 反转义后的片段
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static List<String> parse(String pointer) {
+        if (pointer.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (pointer.charAt(0) != '/') {
+            throw new IllegalArgumentException("Invalid JSON pointer: " + pointer);
+        }
+        List<String> tokens = new ArrayList<>();
+        int start = 1;
+        while (true) {
+            int end = pointer.indexOf('/', start);
+            String token = end < 0 ? pointer.substring(start) : pointer.substring(start, end);
+            tokens.add(token.indexOf('~') < 0 ? token : token.replace("~1", "/").replace("~0", "~"));
+            if (end < 0) {
+                return tokens;
+            }
+            start = end + 1;
+        }
+    }
+}
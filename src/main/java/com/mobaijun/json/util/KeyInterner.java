@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+/**
+ * Description: [有界的键驻留表，把重复出现的 JSON 键规范化为同一个 String 实例]
+ * <p>
+ * 采用直接映射的槽位数组，冲突时新键覆盖旧键，因此内存占用固定，不会像 {@link String#intern()} 那样无限增长。
+ * 槽位中只保存不可变的 String，多线程并发读写最多导致一次未命中，不影响正确性。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class KeyInterner {
+
+    /**
+     * 默认槽位数
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * 超过该长度的键通常不会重复，直接返回不驻留
+     */
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final String[] slots;
+
+    private final int mask;
+
+    public KeyInterner() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity 槽位数，向上取整为 2 的幂
+     */
+    public KeyInterner(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * 返回与 key 相等的规范实例
+     *
+     * @param key 键
+     * @return 驻留表中的实例，首次出现时返回 key 本身
+     */
+    public String intern(String key) {
+        if (key == null || key.length() > MAX_KEY_LENGTH) {
+            return key;
+        }
+        int hash = key.hashCode();
+        int index = (hash ^ (hash >>> 16)) & mask;
+        String cached = slots[index];
+        if (cached != null && cached.equals(key)) {
+            return cached;
+        }
+        slots[index] = key;
+        return key;
+    }
+}
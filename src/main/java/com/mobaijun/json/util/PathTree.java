@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Description: [字段路径树，供 Gson 与 FastJson 的字段投影共用]
+ * <p>
+ * 路径使用 {@code .} 分隔，例如 {@code user.address.city}；叶子节点选中整个值，
+ * 父路径被整体选中时忽略其下更深的路径。路径树不可变，可在线程间共享。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class PathTree {
+
+    /**
+     * 整体选中的叶子节点，所有叶子共用
+     */
+    private static final PathTree ALL = new PathTree(Collections.emptyMap());
+
+    /**
+     * 字段路径集合对应的路径树缓存，键为 List 或 Set 的副本，按内容比较
+     */
+    private static final Map<Collection<String>, PathTree> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * 缓存的容量上限，超出后不再缓存新的路径集合
+     */
+    private static final int CACHE_LIMIT = 1024;
+
+    /**
+     * 子路径，为空表示选中整个值
+     */
+    private final Map<String, PathTree> children;
+
+    private PathTree(Map<String, PathTree> children) {
+        this.children = children;
+    }
+
+    /**
+     * 根据字段路径创建路径树，路径集合为 List 或 Set 时按内容缓存
+     *
+     * @param paths 字段路径，例如 {@code id}、{@code user.name}
+     * @return 路径树
+     * @throws IllegalArgumentException 路径为空或包含空的路径段
+     */
+    public static PathTree of(Collection<String> paths) {
+        if (paths == null || paths.isEmpty()) {
+            throw new IllegalArgumentException("投影字段不能为空");
+        }
+        if (!(paths instanceof List) && !(paths instanceof Set)) {
+            return build(paths);
+        }
+        PathTree tree = CACHE.get(paths);
+        if (tree != null) {
+            return tree;
+        }
+        tree = build(paths);
+        if (CACHE.size() < CACHE_LIMIT) {
+            // 复制键，调用方之后修改集合不会影响缓存
+            Collection<String> key = paths instanceof List ? new ArrayList<>(paths) : new HashSet<>(paths);
+            CACHE.putIfAbsent(key, tree);
+        }
+        return tree;
+    }
+
+    /**
+     * 创建只有一层的路径树，名称不按 {@code .} 拆分
+     *
+     * @param names 成员名
+     * @return 路径树
+     * @throws IllegalArgumentException 名称为空
+     */
+    public static PathTree ofNames(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            throw new IllegalArgumentException("投影字段不能为空");
+        }
+        Map<String, PathTree> children = new HashMap<>();
+        for (String name : names) {
+            children.put(name, ALL);
+        }
+        return new PathTree(children);
+    }
+
+    private static PathTree build(Collection<String> paths) {
+        PathTree root = new PathTree(new HashMap<>());
+        for (String path : paths) {
+            String[] names = path.split("\\.");
+            PathTree node = root;
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].isEmpty()) {
+                    throw new IllegalArgumentException("非法的投影路径: " + path);
+                }
+                PathTree child = node.children.get(names[i]);
+                if (child == ALL) {
+                    // 父路径已被整体选中
+                    break;
+                }
+                if (i == names.length - 1) {
+                    // 叶子节点选中整个值，覆盖此前登记的更深路径
+                    node.children.put(names[i], ALL);
+                } else {
+                    if (child == null) {
+                        child = new PathTree(new HashMap<>());
+                        node.children.put(names[i], child);
+                    }
+                    node = child;
+                }
+            }
+        }
+        return root;
+    }
+
+    /**
+     * @return 是否选中整个值
+     */
+    public boolean selectsAll() {
+        return children.isEmpty();
+    }
+
+    /**
+     * @param name 成员名
+     * @return 成员对应的子路径树，未选中时返回 null
+     */
+    public PathTree child(String name) {
+        return children.get(name);
+    }
+}
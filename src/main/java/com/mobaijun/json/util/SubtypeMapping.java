@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Description: [多态类型的判别字段与子类型映射]
+ * <p>
+ * 标签到子类型、子类型到标签两个方向都在注册时预先计算，不可变，可以在多个线程间共享。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 22:30]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class SubtypeMapping<T> {
+
+    private final Class<T> baseType;
+
+    private final String discriminator;
+
+    private final Map<String, Class<? extends T>> labelToType;
+
+    private final Map<Class<?>, String> typeToLabel;
+
+    /**
+     * @param baseType      基类型
+     * @param discriminator 判别字段名
+     * @param subtypes      标签到子类型的映射
+     * @throws IllegalArgumentException 映射为空、子类型不是基类型的子类或同一子类型对应多个标签
+     */
+    public SubtypeMapping(Class<T> baseType, String discriminator, Map<String, Class<? extends T>> subtypes) {
+        if (discriminator == null || discriminator.isEmpty() || subtypes == null || subtypes.isEmpty()) {
+            throw new IllegalArgumentException("判别字段和子类型不能为空: " + baseType.getName());
+        }
+        Map<String, Class<? extends T>> labels = new HashMap<>(subtypes);
+        Map<Class<?>, String> types = new HashMap<>();
+        for (Map.Entry<String, Class<? extends T>> entry : labels.entrySet()) {
+            if (!baseType.isAssignableFrom(entry.getValue())) {
+                throw new IllegalArgumentException(entry.getValue().getName() + " 不是 " + baseType.getName() + " 的子类型");
+            }
+            if (types.put(entry.getValue(), entry.getKey()) != null) {
+                throw new IllegalArgumentException("子类型对应多个标签: " + entry.getValue().getName());
+            }
+        }
+        this.baseType = baseType;
+        this.discriminator = discriminator;
+        this.labelToType = Collections.unmodifiableMap(labels);
+        this.typeToLabel = Collections.unmodifiableMap(types);
+    }
+
+    public Class<T> getBaseType() {
+        return baseType;
+    }
+
+    public String getDiscriminator() {
+        return discriminator;
+    }
+
+    /**
+     * @return 标签到子类型的映射
+     */
+    public Map<String, Class<? extends T>> getSubtypes() {
+        return labelToType;
+    }
+
+    /**
+     * @param label 标签
+     * @return 子类型，未注册时返回 null
+     */
+    public Class<? extends T> typeOf(String label) {
+        return labelToType.get(label);
+    }
+
+    /**
+     * @param type 子类型
+     * @return 标签，未注册时返回 null
+     */
+    public String labelOf(Class<?> type) {
+        return typeToLabel.get(type);
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import java.io.Reader;
+
+/**
+ * Description: [在字节数组的一段 UTF-8 数据上按需解码字符]
+ * <p>
+ * 供扫描时直接在捕获的元素字节上求值和绑定，不需要先复制为 String；读取方提前停止时剩余字节不会被解码。
+ * 非法的字节序列逐字节解码为 U+FFFD。不是线程安全的。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class Utf8ByteReader extends Reader {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final byte[] bytes;
+
+    private final int end;
+
+    private int position;
+
+    /**
+     * 补充平面字符的低代理项，由上一次读取留下
+     */
+    private char pendingLowSurrogate;
+
+    /**
+     * @param bytes  UTF-8 字节
+     * @param offset 起始位置
+     * @param length 字节数
+     */
+    public Utf8ByteReader(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + bytes.length);
+        }
+        this.bytes = bytes;
+        this.position = offset;
+        this.end = offset + length;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int count = 0;
+        if (pendingLowSurrogate != 0) {
+            buffer[offset + count++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+        while (count < length && position < end) {
+            int b = bytes[position];
+            if (b >= 0) {
+                buffer[offset + count++] = (char) b;
+                position++;
+                continue;
+            }
+            int codePoint = decode();
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                buffer[offset + count++] = (char) codePoint;
+            } else {
+                buffer[offset + count++] = Character.highSurrogate(codePoint);
+                if (count < length) {
+                    buffer[offset + count++] = Character.lowSurrogate(codePoint);
+                } else {
+                    pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    /**
+     * 解码以 position 处非 ASCII 字节开头的字符并前移，非法序列只消耗首字节
+     */
+    private int decode() {
+        int b = bytes[position] & 0xFF;
+        int length;
+        int min;
+        int codePoint;
+        if (b >= 0xC2 && b <= 0xDF) {
+            length = 2;
+            min = 0x80;
+            codePoint = b & 0x1F;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            length = 3;
+            min = 0x800;
+            codePoint = b & 0x0F;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            length = 4;
+            min = Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            codePoint = b & 0x07;
+        } else {
+            position++;
+            return REPLACEMENT;
+        }
+        if (position + length > end) {
+            position++;
+            return REPLACEMENT;
+        }
+        for (int i = 1; i < length; i++) {
+            int next = bytes[position + i] & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                position++;
+                return REPLACEMENT;
+            }
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        if (codePoint < min || codePoint > Character.MAX_CODE_POINT
+                || (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE)) {
+            position++;
+            return REPLACEMENT;
+        }
+        position += length;
+        return codePoint;
+    }
+
+    @Override
+    public void close() {
+        // 没有需要释放的资源
+    }
+}
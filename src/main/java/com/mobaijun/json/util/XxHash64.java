@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+/**
+ * Description: [流式 xxHash64]
+ * <p>
+ * 输出与 xxHash64 参考实现一致，数据可以分多次写入；字符按 UTF-16 小端两个字节写入，
+ * 长整型按小端八个字节写入。实例不是线程安全的，{@link #reset()} 后可以复用。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 19:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class XxHash64 {
+
+    private static final long PRIME1 = 0x9E3779B185EBCA87L;
+
+    private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+
+    private static final long PRIME3 = 0x165667B19E3779F9L;
+
+    private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+
+    private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+    private final long seed;
+
+    private final byte[] buffer = new byte[32];
+
+    private int buffered;
+
+    private long total;
+
+    private long v1;
+
+    private long v2;
+
+    private long v3;
+
+    private long v4;
+
+    public XxHash64() {
+        this(0L);
+    }
+
+    public XxHash64(long seed) {
+        this.seed = seed;
+        reset();
+    }
+
+    /**
+     * 重置为初始状态
+     *
+     * @return 当前实例
+     */
+    public XxHash64 reset() {
+        v1 = seed + PRIME1 + PRIME2;
+        v2 = seed + PRIME2;
+        v3 = seed;
+        v4 = seed - PRIME1;
+        buffered = 0;
+        total = 0;
+        return this;
+    }
+
+    public XxHash64 update(byte value) {
+        buffer[buffered++] = value;
+        total++;
+        if (buffered == 32) {
+            consumeBuffer();
+        }
+        return this;
+    }
+
+    public XxHash64 update(byte[] bytes, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            update(bytes[offset + i]);
+        }
+        return this;
+    }
+
+    public XxHash64 update(char value) {
+        update((byte) value);
+        return update((byte) (value >>> 8));
+    }
+
+    public XxHash64 update(CharSequence chars) {
+        for (int i = 0, length = chars.length(); i < length; i++) {
+            update(chars.charAt(i));
+        }
+        return this;
+    }
+
+    public XxHash64 update(long value) {
+        for (int i = 0; i < 8; i++) {
+            update((byte) (value >>> (i << 3)));
+        }
+        return this;
+    }
+
+    /**
+     * 计算当前已写入数据的哈希值，不改变状态
+     *
+     * @return 64 位哈希值
+     */
+    public long digest() {
+        long hash;
+        if (total >= 32) {
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = seed + PRIME5;
+        }
+        hash += total;
+        int offset = 0;
+        while (offset + 8 <= buffered) {
+            hash ^= round(0, readLong(offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+            offset += 8;
+        }
+        if (offset + 4 <= buffered) {
+            hash ^= (readInt(offset) & 0xFFFFFFFFL) * PRIME1;
+            hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+            offset += 4;
+        }
+        while (offset < buffered) {
+            hash ^= (buffer[offset++] & 0xFFL) * PRIME5;
+            hash = Long.rotateLeft(hash, 11) * PRIME1;
+        }
+        hash ^= hash >>> 33;
+        hash *= PRIME2;
+        hash ^= hash >>> 29;
+        hash *= PRIME3;
+        hash ^= hash >>> 32;
+        return hash;
+    }
+
+    private void consumeBuffer() {
+        v1 = round(v1, readLong(0));
+        v2 = round(v2, readLong(8));
+        v3 = round(v3, readLong(16));
+        v4 = round(v4, readLong(24));
+        buffered = 0;
+    }
+
+    private long readLong(int offset) {
+        return (readInt(offset) & 0xFFFFFFFFL) | ((long) readInt(offset + 4) << 32);
+    }
+
+    private int readInt(int offset) {
+        return (buffer[offset] & 0xFF)
+                | (buffer[offset + 1] & 0xFF) << 8
+                | (buffer[offset + 2] & 0xFF) << 16
+                | (buffer[offset + 3] & 0xFF) << 24;
+    }
+
+    private static long round(long acc, long input) {
+        acc += input * PRIME2;
+        acc = Long.rotateLeft(acc, 31);
+        return acc * PRIME1;
+    }
+
+    private static long mergeRound(long acc, long value) {
+        acc ^= round(0, value);
+        return acc * PRIME1 + PRIME4;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.warmup;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Description: [为预热构造样例对象，按字段类型填充固定的样例值]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:28]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class SyntheticInstances {
+
+    /**
+     * 嵌套对象的最大填充深度，避免自引用类型无限递归
+     */
+    private static final int MAX_DEPTH = 3;
+
+    /**
+     * 通过无参构造器创建样例对象并填充字段
+     *
+     * @param type 类型
+     * @param <T>  类型
+     * @return 样例对象，无法实例化时返回 null
+     */
+    public static <T> T create(Class<T> type) {
+        return create(type, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T create(Class<T> type, int depth) {
+        Object simple = sampleValue(type);
+        if (simple != null) {
+            return (T) simple;
+        }
+        if (depth > MAX_DEPTH || type.isInterface() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        T instance;
+        try {
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            instance = constructor.newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || Modifier.isTransient(modifiers)) {
+                    continue;
+                }
+                Object value = fieldValue(field.getType(), depth);
+                if (value == null) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    field.set(instance, value);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    // 无法访问的字段保留默认值
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static Object fieldValue(Class<?> type, int depth) {
+        if (List.class.isAssignableFrom(type) && type.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>();
+        }
+        if (Set.class.isAssignableFrom(type) && type.isAssignableFrom(HashSet.class)) {
+            return new HashSet<>();
+        }
+        if (Map.class.isAssignableFrom(type) && type.isAssignableFrom(HashMap.class)) {
+            return new HashMap<>();
+        }
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            return null;
+        }
+        return create(type, depth + 1);
+    }
+
+    private static Object sampleValue(Class<?> type) {
+        if (type == String.class || type == CharSequence.class) {
+            return "warm-up";
+        } else if (type == int.class || type == Integer.class) {
+            return 1;
+        } else if (type == long.class || type == Long.class) {
+            return 1L;
+        } else if (type == short.class || type == Short.class) {
+            return (short) 1;
+        } else if (type == byte.class || type == Byte.class) {
+            return (byte) 1;
+        } else if (type == double.class || type == Double.class) {
+            return 1.5D;
+        } else if (type == float.class || type == Float.class) {
+            return 1.5F;
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean.TRUE;
+        } else if (type == char.class || type == Character.class) {
+            return 'w';
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.ONE;
+        } else if (type == BigInteger.class) {
+            return BigInteger.ONE;
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.of(2024, 1, 1, 0, 0, 0);
+        } else if (type == LocalDate.class) {
+            return LocalDate.of(2024, 1, 1);
+        } else if (type == LocalTime.class) {
+            return LocalTime.of(0, 0, 0);
+        } else if (type == Date.class) {
+            return new Date(0L);
+        } else if (type.isEnum()) {
+            Object[] constants = type.getEnumConstants();
+            return constants.length == 0 ? null : constants[0];
+        }
+        return null;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Description: [预热报告，记录每个类构建适配器和往返序列化的耗时]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public class WarmUpReport {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * 记录单个类的预热结果
+     *
+     * @param entry 预热结果
+     */
+    public void add(Entry entry) {
+        entries.add(entry);
+    }
+
+    /**
+     * 获取所有类的预热结果
+     *
+     * @return 预热结果，按预热顺序排列
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * 获取预热失败的类
+     *
+     * @return 预热失败的结果
+     */
+    public List<Entry> getFailures() {
+        List<Entry> failures = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.getFailure() != null) {
+                failures.add(entry);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 获取总耗时（纳秒）
+     *
+     * @return 总耗时
+     */
+    public long getTotalNanos() {
+        long total = 0L;
+        for (Entry entry : entries) {
+            total += entry.getAdapterNanos() + entry.getRoundTripNanos();
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("WarmUpReport{classes=").append(entries.size())
+                .append(", failures=").append(getFailures().size())
+                .append(", totalMs=").append(TimeUnit.NANOSECONDS.toMillis(getTotalNanos())).append('}');
+        for (Entry entry : entries) {
+            builder.append(System.lineSeparator()).append("  ").append(entry);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 单个类的预热结果
+     */
+    public static class Entry {
+
+        private final Class<?> type;
+
+        private final long adapterNanos;
+
+        private final long roundTripNanos;
+
+        private final int roundTrips;
+
+        private final Throwable failure;
+
+        public Entry(Class<?> type, long adapterNanos, long roundTripNanos, int roundTrips, Throwable failure) {
+            this.type = type;
+            this.adapterNanos = adapterNanos;
+            this.roundTripNanos = roundTripNanos;
+            this.roundTrips = roundTrips;
+            this.failure = failure;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * 构建并缓存适配器（含首次序列化）的耗时
+         */
+        public long getAdapterNanos() {
+            return adapterNanos;
+        }
+
+        /**
+         * 往返序列化循环的耗时
+         */
+        public long getRoundTripNanos() {
+            return roundTripNanos;
+        }
+
+        /**
+         * 实际完成的往返次数
+         */
+        public int getRoundTrips() {
+            return roundTrips;
+        }
+
+        /**
+         * 预热失败的原因，成功时为 null
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        @Override
+        public String toString() {
+            return type.getName()
+                    + " adapterUs=" + TimeUnit.NANOSECONDS.toMicros(adapterNanos)
+                    + " roundTripUs=" + TimeUnit.NANOSECONDS.toMicros(roundTripNanos)
+                    + " roundTrips=" + roundTrips
+                    + (failure == null ? "" : " failure=" + failure);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.warmup;
+
+import com.mobaijun.json.util.ClassScanner;
+
+import java.util.Collection;
+
+/**
+ * Description: [预热流程，GsonWarmUp 与 FastJsonWarmUp 共用类的遍历与计时，只各自提供适配器构建和往返序列化步骤]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class WarmUpRunner {
+
+    private WarmUpRunner() {
+    }
+
+    /**
+     * 各 JSON 库的预热步骤
+     */
+    public interface Codec {
+
+        /**
+         * 构建并缓存类型对应的适配器
+         *
+         * @param type     需要预热的类
+         * @param instance 样例对象，可能为 null
+         * @param <T>      类型
+         * @return 样例对象序列化后的 JSON，作为往返序列化的起点；样例对象为 null 时可返回 null
+         */
+        <T> String prepare(Class<T> type, T instance);
+
+        /**
+         * 完成一次往返序列化
+         *
+         * @param json 上一次往返得到的 JSON
+         * @param type 需要预热的类
+         * @param <T>  类型
+         * @return 本次往返得到的 JSON
+         */
+        <T> String roundTrip(String json, Class<T> type);
+    }
+
+    /**
+     * 预热指定的类
+     *
+     * @param classes    需要预热的类
+     * @param roundTrips 每个类的往返序列化次数，为 0 时只构建适配器
+     * @param codec      预热步骤
+     * @return 预热报告
+     */
+    public static WarmUpReport run(Collection<Class<?>> classes, int roundTrips, Codec codec) {
+        WarmUpReport report = new WarmUpReport();
+        for (Class<?> type : classes) {
+            report.add(warmUp(type, roundTrips, codec));
+        }
+        return report;
+    }
+
+    /**
+     * 扫描包及其子包并预热其中的类
+     *
+     * @param packageName 包名
+     * @param roundTrips  每个类的往返序列化次数，为 0 时只构建适配器
+     * @param codec       预热步骤
+     * @return 预热报告
+     */
+    public static WarmUpReport run(String packageName, int roundTrips, Codec codec) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = WarmUpRunner.class.getClassLoader();
+        }
+        return run(ClassScanner.scan(packageName, classLoader), roundTrips, codec);
+    }
+
+    private static <T> WarmUpReport.Entry warmUp(Class<T> type, int roundTrips, Codec codec) {
+        long adapterNanos = -1L;
+        long start = System.nanoTime();
+        int completed = 0;
+        try {
+            T instance = SyntheticInstances.create(type);
+            start = System.nanoTime();
+            String json = codec.prepare(type, instance);
+            adapterNanos = System.nanoTime() - start;
+            if (instance == null || roundTrips <= 0) {
+                return new WarmUpReport.Entry(type, adapterNanos, 0L, 0, null);
+            }
+            start = System.nanoTime();
+            for (; completed < roundTrips; completed++) {
+                json = codec.roundTrip(json, type);
+            }
+            return new WarmUpReport.Entry(type, adapterNanos, System.nanoTime() - start, completed, null);
+        } catch (RuntimeException | LinkageError e) {
+            long elapsed = System.nanoTime() - start;
+            // 适配器已构建完成时，失败发生在往返阶段，耗时计入往返
+            return adapterNanos < 0
+                    ? new WarmUpReport.Entry(type, elapsed, 0L, completed, e)
+                    : new WarmUpReport.Entry(type, adapterNanos, elapsed, completed, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Description: [每次调用的分配预算]
+ * <p>
+ * 预算保存在 {@code src/test/resources/allocation-budgets.properties}，键为操作名，值为允许的最大字节数。
+ * 以 {@code -Dallocation.record=true} 运行时不检查预算，测量值加上余量（{@code allocation.headroom}，默认 0.2）
+ * 合并写入 {@code target/allocation-budgets.properties}，确认后复制回资源目录提交。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class AllocationBudgets {
+
+    private static final String RESOURCE = "/allocation-budgets.properties";
+
+    private static final Path RECORD_FILE = Paths.get("target", "allocation-budgets.properties");
+
+    static final boolean RECORD = Boolean.getBoolean("allocation.record");
+
+    private static final double HEADROOM = Double.parseDouble(System.getProperty("allocation.headroom", "0.2"));
+
+    private final Properties budgets = new Properties();
+
+    private final Map<String, Long> measured = new TreeMap<>();
+
+    AllocationBudgets() {
+        try (InputStream in = AllocationBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                budgets.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("无法读取分配预算: " + RESOURCE, e);
+        }
+    }
+
+    /**
+     * @param key 操作名
+     * @return 预算字节数，未设置时返回 -1
+     */
+    long budget(String key) {
+        String value = budgets.getProperty(key);
+        return value == null ? -1 : Long.parseLong(value.trim());
+    }
+
+    /**
+     * 记录测量值，记录模式下用于生成新的预算文件
+     *
+     * @param key   操作名
+     * @param bytes 每次调用分配的字节数
+     */
+    synchronized void record(String key, long bytes) {
+        measured.put(key, bytes);
+    }
+
+    /**
+     * 把测量值加上余量合并写入 target 下的预算文件
+     *
+     * @throws IOException 写入异常
+     */
+    synchronized void writeRecorded() throws IOException {
+        if (!RECORD || measured.isEmpty()) {
+            return;
+        }
+        Properties merged = new Properties();
+        if (Files.exists(RECORD_FILE)) {
+            try (Reader reader = Files.newBufferedReader(RECORD_FILE, StandardCharsets.ISO_8859_1)) {
+                merged.load(reader);
+            }
+        }
+        for (Map.Entry<String, Long> entry : measured.entrySet()) {
+            long ceiling = (long) Math.ceil(entry.getValue() * (1 + HEADROOM)) + 64;
+            merged.setProperty(entry.getKey(), Long.toString((ceiling + 7) & ~7L));
+        }
+        Files.createDirectories(RECORD_FILE.getParent());
+        try (Writer writer = Files.newBufferedWriter(RECORD_FILE, StandardCharsets.ISO_8859_1)) {
+            for (String key : new TreeSet<>(merged.stringPropertyNames())) {
+                writer.write(key + "=" + merged.getProperty(key) + "\n");
+            }
+        }
+    }
+}
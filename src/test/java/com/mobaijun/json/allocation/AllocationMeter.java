@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Description: [使用 ThreadMXBean 的线程分配计数器测量每次调用分配的字节数]
+ * <p>
+ * 先预热让 JIT 完成编译和逃逸分析，再测量若干轮，每轮连续调用多次，取最小的一轮作为结果，
+ * 并扣除读取计数器本身的分配。参数可以通过系统属性 {@code allocation.warmup}、{@code allocation.rounds}、
+ * {@code allocation.iterations} 调整。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static {
+        if (!THREADS.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("当前 JVM 不支持线程分配计数");
+        }
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * 保存调用结果，防止调用被消除
+     */
+    static volatile Object sink;
+
+    private final int warmup;
+
+    private final int rounds;
+
+    private final int iterations;
+
+    private final long overhead;
+
+    AllocationMeter() {
+        this(Integer.getInteger("allocation.warmup", 1000),
+                Integer.getInteger("allocation.rounds", 5),
+                Integer.getInteger("allocation.iterations", 200));
+    }
+
+    AllocationMeter(int warmup, int rounds, int iterations) {
+        this.warmup = warmup;
+        this.rounds = rounds;
+        this.iterations = iterations;
+        long empty;
+        try {
+            empty = measureRounds(() -> null);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        this.overhead = empty;
+    }
+
+    /**
+     * 当前线程累计分配的字节数
+     *
+     * @return 字节数
+     */
+    static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * 测量一次调用分配的字节数
+     *
+     * @param task 调用
+     * @return 每次调用分配的字节数
+     * @throws Exception 调用异常
+     */
+    long measure(Operation.Task task) throws Exception {
+        return Math.max(0, (measureRounds(task) - overhead) / iterations);
+    }
+
+    private long measureRounds(Operation.Task task) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            sink = task.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            long before = allocatedBytes();
+            for (int i = 0; i < iterations; i++) {
+                sink = task.run();
+            }
+            best = Math.min(best, allocatedBytes() - before);
+        }
+        return best;
+    }
+}
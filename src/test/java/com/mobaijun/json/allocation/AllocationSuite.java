@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import org.junit.jupiter.api.DynamicTest;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Description: [按预算检查分配量、检查用例是否覆盖全部公共方法]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class AllocationSuite {
+
+    private AllocationSuite() {
+    }
+
+    /**
+     * 为每个操作生成一个测试：超出预算失败，没有预算且不在豁免列表中时也失败并报告测量值，记录模式下只记录
+     *
+     * @param operations 操作
+     * @param budgets    预算
+     * @param exempt     豁免的方法名及原因
+     * @return 动态测试
+     */
+    static Stream<DynamicTest> budgetTests(List<Operation> operations, AllocationBudgets budgets,
+                                           Map<String, String> exempt) {
+        AllocationMeter meter = new AllocationMeter();
+        return operations.stream().map(operation -> DynamicTest.dynamicTest(operation.key, () -> {
+            long bytes = meter.measure(operation.task);
+            budgets.record(operation.key, bytes);
+            if (AllocationBudgets.RECORD) {
+                return;
+            }
+            long budget = budgets.budget(operation.key);
+            if (budget < 0) {
+                if (!exempt.containsKey(operation.method())) {
+                    fail(operation.key + " 没有预算，本次测量 " + bytes
+                            + " 字节/次，使用 -Dallocation.record=true 生成预算");
+                }
+                return;
+            }
+            if (bytes > budget) {
+                fail(operation.key + " 分配 " + bytes + " 字节/次，超出预算 " + budget + " 字节");
+            }
+        }));
+    }
+
+    /**
+     * 每个公共静态方法的每个重载都至少有一个测量用例，豁免的方法除外
+     *
+     * @param util       工具类
+     * @param operations 操作
+     * @param exempt     豁免的方法名及原因
+     */
+    static void assertCovered(Class<?> util, List<Operation> operations, Map<String, String> exempt) {
+        Map<String, Integer> overloads = new TreeMap<>();
+        for (Method method : util.getDeclaredMethods()) {
+            int modifiers = method.getModifiers();
+            if (Modifier.isPublic(modifiers) && Modifier.isStatic(modifiers) && !method.isSynthetic()
+                    && !exempt.containsKey(method.getName())) {
+                overloads.merge(method.getName(), 1, Integer::sum);
+            }
+        }
+        List<String> missing = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : overloads.entrySet()) {
+            long covered = operations.stream().filter(operation -> operation.method().equals(entry.getKey())).count();
+            if (covered < entry.getValue()) {
+                missing.add(entry.getKey() + "（" + entry.getValue() + " 个重载，" + covered + " 个用例）");
+            }
+        }
+        assertTrue(missing.isEmpty(), () -> util.getSimpleName() + " 缺少分配用例: " + missing);
+    }
+}
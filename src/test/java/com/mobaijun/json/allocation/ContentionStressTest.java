@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [多线程吞吐压力测试，检查静态 Gson/FastJson 实例和缓存上的竞争]
+ * <p>
+ * 以 {@code -Dallocation.stress=true} 启用。先单线程、再多线程循环执行全部内存内用例，
+ * 比较每轮分配量：竞争会表现为锁膨胀、重试带来的额外分配，超出阈值时失败。
+ * 吞吐的扩展比例受共享机器负载影响，结果不稳定，只通过 {@link TestReporter} 报告，不做断言。
+ * 线程数、时长和阈值分别由 {@code allocation.stress.threads}、{@code allocation.stress.millis}、
+ * {@code allocation.stress.maxAllocationGrowth} 调整。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+@EnabledIfSystemProperty(named = "allocation.stress", matches = "true")
+class ContentionStressTest {
+
+    private static final int THREADS = Integer.getInteger("allocation.stress.threads", Runtime.getRuntime().availableProcessors());
+
+    private static final long MILLIS = Long.getLong("allocation.stress.millis", 3000L);
+
+    private static final double MAX_ALLOCATION_GROWTH = Double.parseDouble(System.getProperty("allocation.stress.maxAllocationGrowth", "1.25"));
+
+    @TempDir
+    static Path dir;
+
+    @Test
+    void gsonUtil(TestReporter reporter) throws Exception {
+        stress("GsonUtil", new GsonOperations(dir).operations(), reporter);
+    }
+
+    @Test
+    void fastJsonUtil(TestReporter reporter) throws Exception {
+        stress("FastJsonUtil", new FastJsonOperations().operations(), reporter);
+    }
+
+    private static void stress(String name, List<Operation> all, TestReporter reporter) throws Exception {
+        List<Operation> operations = all.stream().filter(operation -> operation.inMemory).collect(Collectors.toList());
+        // 预热，结果丢弃
+        run(operations, 1);
+        Result single = run(operations, 1);
+        Result multi = run(operations, THREADS);
+        double scaling = multi.throughput() / (single.throughput() * THREADS);
+        reporter.publishEntry(name, String.format("1 线程 %.0f 轮/秒 %d 字节/轮，%d 线程 %.0f 轮/秒 %d 字节/轮，扩展比例 %.2f",
+                single.throughput(), single.bytesPerRound(), THREADS, multi.throughput(), multi.bytesPerRound(), scaling));
+        assertTrue(multi.bytesPerRound() <= single.bytesPerRound() * MAX_ALLOCATION_GROWTH,
+                () -> name + " 多线程每轮分配 " + multi.bytesPerRound() + " 字节，单线程 " + single.bytesPerRound() + " 字节");
+    }
+
+    private static Result run(List<Operation> operations, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] deadline = new long[1];
+        List<Future<long[]>> futures = new ArrayList<>(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long rounds = 0;
+                    long before = AllocationMeter.allocatedBytes();
+                    while (System.nanoTime() < deadline[0]) {
+                        // 各线程从不同的用例开始，避免所有线程同时执行同一个方法
+                        for (int i = 0; i < operations.size(); i++) {
+                            AllocationMeter.sink = operations.get((i + offset) % operations.size()).task.run();
+                        }
+                        rounds++;
+                    }
+                    return new long[]{rounds, AllocationMeter.allocatedBytes() - before};
+                }));
+            }
+            long begin = System.nanoTime();
+            deadline[0] = begin + MILLIS * 1_000_000L;
+            start.countDown();
+            long rounds = 0;
+            long bytes = 0;
+            for (Future<long[]> future : futures) {
+                long[] result = future.get();
+                rounds += result[0];
+                bytes += result[1];
+            }
+            return new Result(rounds, bytes, System.nanoTime() - begin);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static final class Result {
+
+        private final long rounds;
+
+        private final long bytes;
+
+        private final long nanos;
+
+        private Result(long rounds, long bytes, long nanos) {
+            this.rounds = rounds;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        private double throughput() {
+            return rounds * 1e9 / nanos;
+        }
+
+        private long bytesPerRound() {
+            return rounds == 0 ? 0 : bytes / rounds;
+        }
+    }
+}
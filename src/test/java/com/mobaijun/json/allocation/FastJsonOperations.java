@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import com.alibaba.fastjson.TypeReference;
+import com.mobaijun.json.allocation.Fixtures.Address;
+import com.mobaijun.json.allocation.Fixtures.Circle;
+import com.mobaijun.json.allocation.Fixtures.Sample;
+import com.mobaijun.json.allocation.Fixtures.Shape;
+import com.mobaijun.json.allocation.Fixtures.Square;
+import com.mobaijun.json.fastjson.FastJsonUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: [FastJsonUtil 公共方法的分配测量用例]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class FastJsonOperations {
+
+    /**
+     * 不测量的方法及原因
+     */
+    static final Map<String, String> EXEMPT = new LinkedHashMap<>();
+
+    static {
+        EXEMPT.put("registerSubtypes", "一次性配置，不在调用路径上");
+        EXEMPT.put("toJsonLinesListParallel", "在 ForkJoinPool 工作线程上分配，线程计数器无法归属");
+        EXEMPT.put("forEachJsonLineParallel", "在 ForkJoinPool 工作线程上分配，线程计数器无法归属");
+    }
+
+    private static final TypeReference<Sample> SAMPLE = new TypeReference<Sample>() {
+    };
+
+    private static final TypeReference<List<Sample>> SAMPLE_LIST = new TypeReference<List<Sample>>() {
+    };
+
+    private static final String PATCH = "[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"renamed\"},"
+            + "{\"op\":\"add\",\"path\":\"/tags/-\",\"value\":\"extra\"}]";
+
+    private static final String SHAPE = "{\"kind\":\"circle\",\"radius\":2.5}";
+
+    private static final String SHAPES = "[{\"kind\":\"circle\",\"radius\":2.5},{\"kind\":\"square\",\"side\":4}]";
+
+    private final Sample sample = Fixtures.sample(1);
+
+    private final Sample changed = Fixtures.sample(2);
+
+    private final List<Sample> samples = Fixtures.samples();
+
+    private final String json = FastJsonUtil.toJson(sample);
+
+    private final String changedJson = FastJsonUtil.toJson(changed);
+
+    private final String listJson = FastJsonUtil.toJson(samples);
+
+    private final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] listBytes = listJson.getBytes(StandardCharsets.UTF_8);
+
+    private final String intsJson = FastJsonUtil.toJson(Fixtures.ints());
+
+    private final String longsJson = FastJsonUtil.toJson(Fixtures.longs());
+
+    private final String doublesJson = FastJsonUtil.toJson(Fixtures.doubles());
+
+    private final String binaryJson;
+
+    private final byte[] drain = new byte[8192];
+
+    FastJsonOperations() {
+        byte[] blob = new byte[16 * 1024];
+        Arrays.fill(blob, (byte) 7);
+        binaryJson = "{\"name\":\"blob\",\"content\":\"" + Base64.getEncoder().encodeToString(blob) + "\"}";
+        Map<String, Class<? extends Shape>> subtypes = new HashMap<>();
+        subtypes.put("circle", Circle.class);
+        subtypes.put("square", Square.class);
+        FastJsonUtil.registerSubtypes(Shape.class, "kind", subtypes);
+    }
+
+    List<Operation> operations() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(Operation.of("FastJsonUtil.toJson.inputStream", () -> FastJsonUtil.toJson(new ByteArrayInputStream(jsonBytes), Sample.class)));
+        operations.add(Operation.of("FastJsonUtil.toJson.inputStreamTypeReference", () -> FastJsonUtil.toJson(new ByteArrayInputStream(listBytes), SAMPLE_LIST)));
+        operations.add(Operation.of("FastJsonUtil.toJson.list", () -> FastJsonUtil.toJson(samples)));
+        operations.add(Operation.of("FastJsonUtil.toJson.bean", () -> FastJsonUtil.toJson(sample)));
+        operations.add(Operation.of("FastJsonUtil.toBean.class", () -> FastJsonUtil.toBean(json, Sample.class)));
+        operations.add(Operation.of("FastJsonUtil.toBean.typeReference", () -> FastJsonUtil.toBean(json, SAMPLE)));
+        operations.add(Operation.of("FastJsonUtil.toBean.paths", () -> FastJsonUtil.toBean(json, Sample.class, Arrays.asList("id", "name"))));
+        operations.add(Operation.of("FastJsonUtil.toList", () -> FastJsonUtil.toList(listJson, Sample.class)));
+        operations.add(Operation.of("FastJsonUtil.toPolymorphicBean", () -> FastJsonUtil.toPolymorphicBean(SHAPE, Shape.class)));
+        operations.add(Operation.of("FastJsonUtil.toPolymorphicList", () -> FastJsonUtil.toPolymorphicList(SHAPES, Shape.class)));
+        operations.add(Operation.of("FastJsonUtil.toIntArray", () -> FastJsonUtil.toIntArray(intsJson)));
+        operations.add(Operation.of("FastJsonUtil.toIntArray.key", () -> FastJsonUtil.toIntArray(json, "values")));
+        operations.add(Operation.of("FastJsonUtil.toLongArray", () -> FastJsonUtil.toLongArray(longsJson)));
+        operations.add(Operation.of("FastJsonUtil.toLongArray.key", () -> FastJsonUtil.toLongArray(json, "values")));
+        operations.add(Operation.of("FastJsonUtil.toDoubleArray", () -> FastJsonUtil.toDoubleArray(doublesJson)));
+        operations.add(Operation.of("FastJsonUtil.toDoubleArray.key", () -> FastJsonUtil.toDoubleArray(json, "values")));
+        operations.add(Operation.of("FastJsonUtil.toMap", () -> FastJsonUtil.toMap(json)));
+        operations.add(Operation.of("FastJsonUtil.toCompactMap", () -> FastJsonUtil.toCompactMap(json)));
+        operations.add(Operation.of("FastJsonUtil.toCompactListMap", () -> FastJsonUtil.toCompactListMap(listJson)));
+        operations.add(Operation.of("FastJsonUtil.getStr", () -> FastJsonUtil.getStr(json, "name")));
+        operations.add(Operation.of("FastJsonUtil.getInt", () -> FastJsonUtil.getInt(json, "count")));
+        operations.add(Operation.of("FastJsonUtil.getLong", () -> FastJsonUtil.getLong(json, "id")));
+        operations.add(Operation.of("FastJsonUtil.getDouble", () -> FastJsonUtil.getDouble(json, "score")));
+        operations.add(Operation.of("FastJsonUtil.getInteger", () -> FastJsonUtil.getInteger(json, "id")));
+        operations.add(Operation.of("FastJsonUtil.getBigDecimal", () -> FastJsonUtil.getBigDecimal(json, "amount")));
+        operations.add(Operation.of("FastJsonUtil.getBoolean", () -> FastJsonUtil.getBoolean(json, "active")));
+        operations.add(Operation.of("FastJsonUtil.getByte", () -> FastJsonUtil.getByte(json, "count")));
+        operations.add(Operation.of("FastJsonUtil.getObject", () -> FastJsonUtil.getObject(json, "address", Address.class)));
+        operations.add(Operation.of("FastJsonUtil.getList", () -> FastJsonUtil.getList(json, "tags", String.class)));
+        operations.add(Operation.of("FastJsonUtil.getJsonObject", () -> FastJsonUtil.getJsonObject(json, "address")));
+        operations.add(Operation.of("FastJsonUtil.addProperty", () -> FastJsonUtil.addProperty(json, "extra", 42)));
+        operations.add(Operation.of("FastJsonUtil.removeProperty", () -> FastJsonUtil.removeProperty(json, "tags")));
+        operations.add(Operation.of("FastJsonUtil.updateProperty", () -> FastJsonUtil.updateProperty(json, "name", "renamed")));
+        operations.add(Operation.of("FastJsonUtil.diff", () -> FastJsonUtil.diff(json, changedJson, "id")));
+        operations.add(Operation.of("FastJsonUtil.diffBean", () -> FastJsonUtil.diffBean(sample, changed, "id")));
+        operations.add(Operation.of("FastJsonUtil.patch", () -> FastJsonUtil.patch(json, PATCH)));
+        operations.add(Operation.of("FastJsonUtil.openBinaryField", () -> {
+            try (InputStream in = FastJsonUtil.openBinaryField(new StringReader(binaryJson), "content")) {
+                long total = 0;
+                int read;
+                while ((read = in.read(drain)) != -1) {
+                    total += read;
+                }
+                return total;
+            }
+        }));
+        operations.add(Operation.of("FastJsonUtil.formatJson", () -> FastJsonUtil.formatJson(json)));
+        operations.add(Operation.of("FastJsonUtil.isJson", () -> FastJsonUtil.isJson(json)));
+        return operations;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import com.mobaijun.json.fastjson.FastJsonUtil;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+/**
+ * Description: [FastJsonUtil 每次调用的分配量不超过预算]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class FastJsonUtilAllocationTest {
+
+    private static FastJsonOperations operations;
+
+    private static final AllocationBudgets BUDGETS = new AllocationBudgets();
+
+    @BeforeAll
+    static void setUp() {
+        operations = new FastJsonOperations();
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        BUDGETS.writeRecorded();
+    }
+
+    @Test
+    void coversEveryPublicMethod() {
+        AllocationSuite.assertCovered(FastJsonUtil.class, operations.operations(), FastJsonOperations.EXEMPT);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> allocationWithinBudget() {
+        return AllocationSuite.budgetTests(operations.operations(), BUDGETS, FastJsonOperations.EXEMPT);
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: [分配测试使用的数据模型和样本]
+ * <p>
+ * 样本覆盖 NumberTypeAdapter 处理的各类数字、java.time 类型、集合、嵌套对象和基本类型数组，
+ * 同一批对象分别由 Gson 和 FastJson 序列化为各自的字段命名风格。
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+public final class Fixtures {
+
+    /**
+     * 列表样本的元素个数
+     */
+    static final int LIST_SIZE = 20;
+
+    private Fixtures() {
+    }
+
+    static Sample sample(int i) {
+        Sample sample = new Sample();
+        sample.setId(1_000_000_000L + i);
+        sample.setName("sample-" + i);
+        sample.setCount(i % 100);
+        sample.setScore(i * 1.25);
+        sample.setAmount(new BigDecimal("1234.56").add(BigDecimal.valueOf(i)));
+        sample.setActive(i % 2 == 0);
+        sample.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 30, 15).plusMinutes(i));
+        sample.setDay(LocalDate.of(2024, 1, 1).plusDays(i));
+        sample.setTime(LocalTime.of(8, 0).plusSeconds(i));
+        sample.setTags(Arrays.asList("alpha", "beta", "tag-" + i));
+        Map<String, Integer> counters = new LinkedHashMap<>();
+        counters.put("views", i * 10);
+        counters.put("clicks", i);
+        sample.setCounters(counters);
+        sample.setValues(new int[]{i, i + 1, i + 2, i + 3, i + 4, i + 5, i + 6, i + 7});
+        Address address = new Address();
+        address.setCity("Hangzhou");
+        address.setStreet("West Lake Road " + i);
+        address.setZip(310000 + i);
+        sample.setAddress(address);
+        return sample;
+    }
+
+    static List<Sample> samples() {
+        List<Sample> samples = new ArrayList<>(LIST_SIZE);
+        for (int i = 0; i < LIST_SIZE; i++) {
+            samples.add(sample(i));
+        }
+        return samples;
+    }
+
+    static int[] ints() {
+        int[] array = new int[64];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i * 31;
+        }
+        return array;
+    }
+
+    static long[] longs() {
+        long[] array = new long[64];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = 1_000_000_000_000L + i;
+        }
+        return array;
+    }
+
+    static double[] doubles() {
+        double[] array = new double[64];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i / 8.0;
+        }
+        return array;
+    }
+
+    /**
+     * 丢弃全部输出的 Writer，只测量序列化本身的分配
+     */
+    static final class DiscardWriter extends Writer {
+
+        @Override
+        public void write(char[] buffer, int off, int len) {
+        }
+
+        @Override
+        public void write(int c) {
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    public static class Sample {
+
+        private long id;
+
+        private String name;
+
+        private int count;
+
+        private double score;
+
+        private BigDecimal amount;
+
+        private boolean active;
+
+        private LocalDateTime createdAt;
+
+        private LocalDate day;
+
+        private LocalTime time;
+
+        private List<String> tags;
+
+        private Map<String, Integer> counters;
+
+        private int[] values;
+
+        private Address address;
+
+        public long getId() {
+            return id;
+        }
+
+        public void setId(long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public LocalDate getDay() {
+            return day;
+        }
+
+        public void setDay(LocalDate day) {
+            this.day = day;
+        }
+
+        public LocalTime getTime() {
+            return time;
+        }
+
+        public void setTime(LocalTime time) {
+            this.time = time;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Map<String, Integer> getCounters() {
+            return counters;
+        }
+
+        public void setCounters(Map<String, Integer> counters) {
+            this.counters = counters;
+        }
+
+        public int[] getValues() {
+            return values;
+        }
+
+        public void setValues(int[] values) {
+            this.values = values;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(Address address) {
+            this.address = address;
+        }
+    }
+
+    public static class Address {
+
+        private String city;
+
+        private String street;
+
+        private int zip;
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(String street) {
+            this.street = street;
+        }
+
+        public int getZip() {
+            return zip;
+        }
+
+        public void setZip(int zip) {
+            this.zip = zip;
+        }
+    }
+
+    /**
+     * 字段投影
+     */
+    public static class Summary {
+
+        private long id;
+
+        private String name;
+
+        public long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * 多态基类型
+     */
+    public static class Shape {
+
+        private String kind;
+
+        public String getKind() {
+            return kind;
+        }
+
+        public void setKind(String kind) {
+            this.kind = kind;
+        }
+    }
+
+    public static class Circle extends Shape {
+
+        private double radius;
+
+        public double getRadius() {
+            return radius;
+        }
+
+        public void setRadius(double radius) {
+            this.radius = radius;
+        }
+    }
+
+    public static class Square extends Shape {
+
+        private double side;
+
+        public double getSide() {
+            return side;
+        }
+
+        public void setSide(double side) {
+            this.side = side;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+import com.google.gson.reflect.TypeToken;
+import com.mobaijun.json.allocation.Fixtures.DiscardWriter;
+import com.mobaijun.json.allocation.Fixtures.Sample;
+import com.mobaijun.json.allocation.Fixtures.Summary;
+import com.mobaijun.json.gson.GsonUtil;
+import com.mobaijun.json.gson.filter.RecordFilter;
+import com.mobaijun.json.gson.projection.FieldProjection;
+import com.mobaijun.json.util.Compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Description: [GsonUtil 公共方法的分配测量用例]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class GsonOperations {
+
+    /**
+     * 不测量的方法及原因
+     */
+    static final Map<String, String> EXEMPT = new LinkedHashMap<>();
+
+    static {
+        EXEMPT.put("registerSubtypes", "一次性配置，不在调用路径上");
+        EXEMPT.put("toJsonLinesListParallel", "在 ForkJoinPool 工作线程上分配，线程计数器无法归属");
+        EXEMPT.put("forEachJsonLineParallel", "在 ForkJoinPool 工作线程上分配，线程计数器无法归属");
+    }
+
+    private static final Type SAMPLE_LIST = new TypeToken<List<Sample>>() {
+    }.getType();
+
+    private static final String PATCH = "[{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"renamed\"},"
+            + "{\"op\":\"add\",\"path\":\"/tags/-\",\"value\":\"extra\"}]";
+
+    private static final String MERGE = "{\"name\":\"merged\",\"address\":{\"zip\":null}}";
+
+    private final Sample sample = Fixtures.sample(1);
+
+    private final Sample changed = Fixtures.sample(2);
+
+    private final List<Sample> samples = Fixtures.samples();
+
+    private final String json = GsonUtil.toJson(sample);
+
+    private final String changedJson = GsonUtil.toJson(changed);
+
+    private final String listJson = GsonUtil.toJson(samples);
+
+    private final String tagsJson = GsonUtil.toJson(sample.getTags());
+
+    private final String intsJson = GsonUtil.toJson(Fixtures.ints());
+
+    private final String longsJson = GsonUtil.toJson(Fixtures.longs());
+
+    private final String doublesJson = GsonUtil.toJson(Fixtures.doubles());
+
+    private final String binaryJson;
+
+    private final FieldProjection projection = FieldProjection.of(Arrays.asList("id", "name", "address.city"));
+
+    private final RecordFilter filter = RecordFilter.eq("active", true);
+
+    private final Path dir;
+
+    private final String arrayFile;
+
+    private final String arrayGzFile;
+
+    private final String beanFile;
+
+    private final String beanGzFile;
+
+    private final String linesFile;
+
+    private final String linesText;
+
+    private final byte[] drain = new byte[8192];
+
+    GsonOperations(Path dir) throws IOException {
+        this.dir = dir;
+        byte[] blob = new byte[16 * 1024];
+        Arrays.fill(blob, (byte) 7);
+        binaryJson = "{\"name\":\"blob\",\"content\":\"" + Base64.getEncoder().encodeToString(blob) + "\"}";
+        arrayFile = file("samples.json");
+        arrayGzFile = file("samples.json.gz");
+        beanFile = file("sample.json");
+        beanGzFile = file("sample.json.gz");
+        linesFile = file("samples.jsonl");
+        GsonUtil.toFile(arrayFile, samples);
+        GsonUtil.toFile(arrayGzFile, samples, Compression.GZIP);
+        GsonUtil.toFile(beanFile, sample);
+        GsonUtil.toFile(beanGzFile, sample, Compression.GZIP);
+        GsonUtil.toJsonLinesFile(linesFile, samples);
+        linesText = new String(Files.readAllBytes(dir.resolve("samples.jsonl")), StandardCharsets.UTF_8);
+    }
+
+    private String file(String name) {
+        return dir.resolve(name).toString();
+    }
+
+    List<Operation> operations() {
+        List<Operation> operations = new ArrayList<>();
+        operations.add(Operation.of("GsonUtil.getGsonInstance", GsonUtil::getGsonInstance));
+        operations.add(Operation.of("GsonUtil.toJson.bean", () -> GsonUtil.toJson(sample)));
+        operations.add(Operation.of("GsonUtil.toJson.writer", () -> {
+            GsonUtil.toJson(sample, new DiscardWriter());
+            return null;
+        }));
+        operations.add(Operation.of("GsonUtil.toJson.intArray", () -> GsonUtil.toJson(Fixtures.ints())));
+        operations.add(Operation.of("GsonUtil.toJson.longArray", () -> GsonUtil.toJson(Fixtures.longs())));
+        operations.add(Operation.of("GsonUtil.toJson.doubleArray", () -> GsonUtil.toJson(Fixtures.doubles())));
+        operations.add(Operation.of("GsonUtil.openBinaryField", () -> {
+            try (InputStream in = GsonUtil.openBinaryField(new StringReader(binaryJson), "content")) {
+                long total = 0;
+                int read;
+                while ((read = in.read(drain)) != -1) {
+                    total += read;
+                }
+                return total;
+            }
+        }));
+        operations.add(Operation.of("GsonUtil.toIntArray", () -> GsonUtil.toIntArray(intsJson)));
+        operations.add(Operation.of("GsonUtil.toIntArray.key", () -> GsonUtil.toIntArray(json, "values")));
+        operations.add(Operation.of("GsonUtil.toLongArray", () -> GsonUtil.toLongArray(longsJson)));
+        operations.add(Operation.of("GsonUtil.toLongArray.key", () -> GsonUtil.toLongArray(json, "values")));
+        operations.add(Operation.of("GsonUtil.toDoubleArray", () -> GsonUtil.toDoubleArray(doublesJson)));
+        operations.add(Operation.of("GsonUtil.toDoubleArray.key", () -> GsonUtil.toDoubleArray(json, "values")));
+        operations.add(Operation.of("GsonUtil.toBean.class", () -> GsonUtil.toBean(json, Sample.class)));
+        operations.add(Operation.of("GsonUtil.toBean.type", () -> GsonUtil.toBean(listJson, SAMPLE_LIST)));
+        operations.add(Operation.of("GsonUtil.toBean.paths", () -> GsonUtil.toBean(json, Sample.class, Arrays.asList("id", "name"))));
+        operations.add(Operation.of("GsonUtil.toBean.projectionClass", () -> GsonUtil.toBean(json, Sample.class, Summary.class)));
+        operations.add(Operation.of("GsonUtil.toBean.projection", () -> GsonUtil.toBean(json, Sample.class, projection)));
+        operations.add(Operation.of("GsonUtil.project", () -> GsonUtil.project(json, projection)));
+        operations.add(Operation.of("GsonUtil.toList", () -> GsonUtil.toList(listJson)));
+        operations.add(Operation.of("GsonUtil.toSet", () -> GsonUtil.toSet(tagsJson)));
+        operations.add(Operation.of("GsonUtil.toListMap", () -> GsonUtil.toListMap(listJson)));
+        operations.add(Operation.of("GsonUtil.toMap", () -> GsonUtil.toMap(json)));
+        operations.add(Operation.of("GsonUtil.toCompactMap", () -> GsonUtil.toCompactMap(json)));
+        operations.add(Operation.of("GsonUtil.toCompactListMap", () -> GsonUtil.toCompactListMap(listJson)));
+        operations.add(Operation.file("GsonUtil.toFile.list", () -> {
+            GsonUtil.toFile(file("out-list.json"), samples);
+            return null;
+        }));
+        operations.add(Operation.file("GsonUtil.toFile.listCompressed", () -> {
+            GsonUtil.toFile(file("out-list.json.gz"), samples, Compression.GZIP);
+            return null;
+        }));
+        operations.add(Operation.file("GsonUtil.toFile.bean", () -> {
+            GsonUtil.toFile(file("out-bean.json"), sample);
+            return null;
+        }));
+        operations.add(Operation.file("GsonUtil.toFile.beanCompressed", () -> {
+            GsonUtil.toFile(file("out-bean.json.gz"), sample, Compression.GZIP);
+            return null;
+        }));
+        operations.add(Operation.file("GsonUtil.toFileList", () -> GsonUtil.toFileList(arrayFile, Sample.class)));
+        operations.add(Operation.file("GsonUtil.toFileList.compressed", () -> GsonUtil.toFileList(arrayGzFile, Sample.class, Compression.GZIP)));
+        operations.add(Operation.file("GsonUtil.toFileBean", () -> GsonUtil.toFileBean(beanFile, Sample.class)));
+        operations.add(Operation.file("GsonUtil.toFileBean.compressed", () -> GsonUtil.toFileBean(beanGzFile, Sample.class, Compression.GZIP)));
+        operations.add(Operation.file("GsonUtil.toFileElement", () -> GsonUtil.toFileElement(arrayFile, 7, Sample.class)));
+        operations.add(Operation.file("GsonUtil.toFileRange", () -> GsonUtil.toFileRange(arrayFile, 5, 10, Sample.class)));
+        operations.add(Operation.file("GsonUtil.scanFile", () -> GsonUtil.scanFile(arrayFile, Sample.class, filter)));
+        operations.add(Operation.file("GsonUtil.scanJsonLines.path", () -> GsonUtil.scanJsonLines(linesFile, Sample.class, filter)));
+        operations.add(Operation.of("GsonUtil.scanJsonLines.reader", () -> GsonUtil.scanJsonLines(new StringReader(linesText), Sample.class, filter)));
+        operations.add(Operation.file("GsonUtil.toJsonLinesFile", () -> {
+            GsonUtil.toJsonLinesFile(file("out-samples.jsonl"), samples);
+            return null;
+        }));
+        operations.add(Operation.file("GsonUtil.toJsonLinesList", () -> GsonUtil.toJsonLinesList(linesFile, Sample.class)));
+        operations.add(Operation.file("GsonUtil.forEachJsonLine", () -> {
+            long[] count = new long[1];
+            GsonUtil.forEachJsonLine(linesFile, Sample.class, element -> count[0]++);
+            return count;
+        }));
+        operations.add(Operation.of("GsonUtil.getStringValue", () -> GsonUtil.getStringValue(json, "name")));
+        operations.add(Operation.of("GsonUtil.getJsonObjectForKey", () -> GsonUtil.getJsonObjectForKey(json, "address")));
+        operations.add(Operation.of("GsonUtil.add", () -> GsonUtil.add(json, "extra", 42)));
+        operations.add(Operation.of("GsonUtil.remove", () -> GsonUtil.remove(json, "tags")));
+        operations.add(Operation.of("GsonUtil.update", () -> GsonUtil.update(json, "name", "renamed")));
+        operations.add(Operation.of("GsonUtil.diff", () -> GsonUtil.diff(json, changedJson, "id")));
+        operations.add(Operation.of("GsonUtil.diffBean", () -> GsonUtil.diffBean(sample, changed, "id")));
+        operations.add(Operation.of("GsonUtil.patch", () -> GsonUtil.patch(json, PATCH)));
+        operations.add(Operation.of("GsonUtil.merge", () -> GsonUtil.merge(json, MERGE)));
+        operations.add(Operation.of("GsonUtil.format", () -> GsonUtil.format(json)));
+        operations.add(Operation.of("GsonUtil.canonicalize", () -> GsonUtil.canonicalize(json)));
+        operations.add(Operation.of("GsonUtil.hash", () -> GsonUtil.hash(json)));
+        operations.add(Operation.of("GsonUtil.isJson", () -> GsonUtil.isJson(json)));
+        operations.add(Operation.of("GsonUtil.parseStringToJson", () -> GsonUtil.parseStringToJson(json)));
+        return operations;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.allocation;
+
+/**
+ * Description: [被测量的一次调用，以预算文件中的键标识]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 23:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+final class Operation {
+
+    /**
+     * 调用体，返回值交给测量器保存，避免被 JIT 当作无用代码消除
+     */
+    @FunctionalInterface
+    interface Task {
+
+        Object run() throws Exception;
+    }
+
+    /**
+     * 预算键，格式为 {@code 类名.方法名[.变体]}
+     */
+    final String key;
+
+    final Task task;
+
+    /**
+     * 是否只在内存中执行，压力测试只使用这类调用
+     */
+    final boolean inMemory;
+
+    private Operation(String key, Task task, boolean inMemory) {
+        this.key = key;
+        this.task = task;
+        this.inMemory = inMemory;
+    }
+
+    static Operation of(String key, Task task) {
+        return new Operation(key, task, true);
+    }
+
+    static Operation file(String key, Task task) {
+        return new Operation(key, task, false);
+    }
+
+    /**
+     * @return 键中的方法名
+     */
+    String method() {
+        String[] parts = key.split("\\.");
+        return parts[1];
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
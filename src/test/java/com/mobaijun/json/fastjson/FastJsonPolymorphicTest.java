@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.fastjson;
+
+import com.mobaijun.json.fastjson.exception.FastJsonException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [FastJsonUtil 多态读取：判别字段位置、数组与错误]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 16:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class FastJsonPolymorphicTest {
+
+    @BeforeAll
+    static void register() {
+        Map<String, Class<? extends Animal>> subtypes = new HashMap<>();
+        subtypes.put("cat", Cat.class);
+        subtypes.put("dog", Dog.class);
+        FastJsonUtil.registerSubtypes(Animal.class, "kind", subtypes);
+    }
+
+    @Test
+    void readsWithDiscriminatorAnywhere() {
+        Cat first = (Cat) FastJsonUtil.toPolymorphicBean("{\"kind\":\"cat\",\"name\":\"a\",\"lives\":9}", Animal.class);
+        assertEquals("a", first.getName());
+        assertEquals(9, first.getLives());
+        Dog last = (Dog) FastJsonUtil.toPolymorphicBean("{\"name\":\"b\",\"toys\":[{\"kind\":\"cat\"}],\"kind\":\"dog\"}", Animal.class);
+        assertEquals("b", last.getName());
+        assertEquals(1, last.getToys().size());
+        assertNull(FastJsonUtil.toPolymorphicBean("null", Animal.class));
+    }
+
+    @Test
+    void readsListsInOnePass() {
+        List<Animal> animals = FastJsonUtil.toPolymorphicList("[{\"kind\":\"dog\",\"name\":\"x\"},{\"lives\":3,\"kind\":\"cat\"},null]", Animal.class);
+        assertEquals(3, animals.size());
+        assertInstanceOf(Dog.class, animals.get(0));
+        assertEquals(3, ((Cat) animals.get(1)).getLives());
+        assertNull(animals.get(2));
+    }
+
+    @Test
+    void rejectsMissingUnknownAndUnregistered() {
+        assertThrows(FastJsonException.class, () -> FastJsonUtil.toPolymorphicBean("{\"name\":\"x\"}", Animal.class));
+        assertThrows(FastJsonException.class, () -> FastJsonUtil.toPolymorphicBean("{\"kind\":\"cow\"}", Animal.class));
+        assertThrows(FastJsonException.class, () -> FastJsonUtil.toPolymorphicBean("{\"kind\":{\"x\":1}}", Animal.class));
+        assertThrows(FastJsonException.class, () -> FastJsonUtil.toPolymorphicBean("{}", Object.class));
+        assertThrows(RuntimeException.class, () -> FastJsonUtil.toPolymorphicBean("{\"kind\":\"cat\"} 1", Animal.class));
+    }
+
+    public abstract static class Animal {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Cat extends Animal {
+
+        private int lives;
+
+        public int getLives() {
+            return lives;
+        }
+
+        public void setLives(int lives) {
+            this.lives = lives;
+        }
+    }
+
+    public static class Dog extends Animal {
+
+        private List<Map<String, Object>> toys;
+
+        public List<Map<String, Object>> getToys() {
+            return toys;
+        }
+
+        public void setToys(List<Map<String, Object>> toys) {
+            this.toys = toys;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [GsonUtil 集合转换的回归测试]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 10:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class GsonUtilTest {
+
+    @Test
+    void toListBindsElementsWithoutTypeVariable() {
+        List<Object> list = GsonUtil.toList("[\"a\",1,{\"b\":true}]");
+        assertEquals(3, list.size());
+        assertEquals("a", list.get(0));
+        assertTrue(list.get(1) instanceof Number);
+        assertEquals(1, ((Number) list.get(1)).intValue());
+        assertTrue(list.get(2) instanceof Map);
+        assertEquals(true, ((Map<?, ?>) list.get(2)).get("b"));
+    }
+
+    @Test
+    void toSetBindsElementsWithoutTypeVariable() {
+        Set<String> set = GsonUtil.toSet("[\"a\",\"b\",\"a\"]");
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), set);
+    }
+
+    @Test
+    void toListMapBindsObjectsWithoutTypeVariable() {
+        List<Map<String, Object>> list = GsonUtil.toListMap("[{\"a\":\"x\"},{\"b\":[1]}]");
+        assertEquals(2, list.size());
+        assertEquals("x", list.get(0).get("a"));
+        assertTrue(list.get(1).get("b") instanceof List);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.mobaijun.json.util.SubtypeMapping;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [多态适配器：判别字段位置、嵌套成员、继承链与同名字段]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 16:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class PolymorphicTypeAdapterFactoryTest {
+
+    private static final Gson GSON = gson(new GsonBuilder());
+
+    @Test
+    void readsWithDiscriminatorFirst() {
+        Circle circle = (Circle) GSON.fromJson("{\"type\":\"circle\",\"radius\":1.10,\"tags\":{\"a\":[1,2]},\"label\":null}", Shape.class);
+        assertEquals(new BigDecimal("1.10"), circle.radius);
+        assertEquals(Arrays.asList(1, 2), circle.tags.get("a"));
+        assertNull(circle.label);
+    }
+
+    @Test
+    void readsWithDiscriminatorAfterNestedMembers() {
+        Circle circle = (Circle) GSON.fromJson(
+                "{\"tags\":{\"b\":[3]},\"label\":\"x \\\"q\\\" \\u00e9\",\"radius\":2,\"type\":\"circle\",\"unknown\":{\"k\":[true,null]}}", Shape.class);
+        assertEquals(new BigDecimal("2"), circle.radius);
+        assertEquals(Arrays.asList(3), circle.tags.get("b"));
+        assertEquals("x \"q\" é", circle.label);
+    }
+
+    @Test
+    void readsListsAndLeavesTheReaderAfterEachElement() {
+        List<Shape> shapes = GSON.fromJson("[{\"w\":3,\"type\":\"rect\",\"h\":4},{\"type\":\"circle\",\"radius\":1},{\"type\":\"rect\"}]",
+                new TypeToken<List<Shape>>() {
+                }.getType());
+        assertEquals(3, shapes.size());
+        assertEquals(12, ((Rect) shapes.get(0)).area());
+        assertInstanceOf(Circle.class, shapes.get(1));
+        assertEquals(0, ((Rect) shapes.get(2)).area());
+        Holder holder = GSON.fromJson("{\"first\":{\"type\":\"rect\",\"w\":1,\"h\":1},\"after\":7}", Holder.class);
+        assertEquals(7, holder.after);
+    }
+
+    @Test
+    void rejectsMissingUnknownAndNonScalarLabels() {
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("{\"radius\":1}", Shape.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("{\"type\":\"hexagon\"}", Shape.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("{\"type\":{\"x\":1}}", Shape.class));
+        assertThrows(JsonParseException.class, () -> GSON.fromJson("[1]", Shape.class));
+        assertNull(GSON.fromJson("null", Shape.class));
+    }
+
+    @Test
+    void writesDiscriminatorFirstAndDelegates() {
+        Rect rect = new Rect();
+        rect.w = 2;
+        rect.h = 5;
+        assertEquals("{\"type\":\"rect\",\"w\":2,\"h\":5}", GSON.toJson(rect, Shape.class));
+        Circle circle = new Circle();
+        circle.radius = new BigDecimal("1.10");
+        circle.tags = new LinkedHashMap<>();
+        circle.tags.put("a", Arrays.asList(1));
+        assertEquals("{\"type\":\"circle\",\"radius\":1.10,\"tags\":{\"a\":[1]}}", GSON.toJson(circle, Shape.class));
+        Gson serializeNulls = gson(new GsonBuilder().serializeNulls());
+        assertEquals(JsonParser.parseString("{\"type\":\"circle\",\"radius\":null,\"tags\":null,\"label\":null}"),
+                JsonParser.parseString(serializeNulls.toJson(new Circle(), Shape.class)));
+    }
+
+    @Test
+    void skipsTheSubtypesOwnDiscriminatorField() {
+        Labelled labelled = new Labelled();
+        labelled.type = "stale";
+        labelled.extra = new int[]{1, 2};
+        assertEquals("{\"type\":\"labelled\",\"extra\":[1,2]}", GSON.toJson(labelled, Shape.class));
+        Labelled read = (Labelled) GSON.fromJson("{\"extra\":[3],\"type\":\"labelled\"}", Shape.class);
+        assertEquals("labelled", read.type);
+        assertEquals(3, read.extra[0]);
+    }
+
+    @Test
+    void unregisteredSubclassesUseTheNearestRegisteredAncestor() {
+        Square square = new Square();
+        square.w = 3;
+        square.h = 3;
+        square.color = "red";
+        assertEquals("{\"type\":\"rect\",\"w\":3,\"h\":3}", GSON.toJson(square, Shape.class));
+        assertEquals("[{\"type\":\"rect\",\"w\":3,\"h\":3}]", GSON.toJson(Arrays.asList(square), new TypeToken<List<Shape>>() {
+        }.getType()));
+        assertThrows(JsonParseException.class, () -> GSON.toJson(new Shape() {
+        }, Shape.class));
+    }
+
+    private static Gson gson(GsonBuilder builder) {
+        PolymorphicTypeAdapterFactory factory = new PolymorphicTypeAdapterFactory();
+        Map<String, Class<? extends Shape>> subtypes = new HashMap<>();
+        subtypes.put("circle", Circle.class);
+        subtypes.put("rect", Rect.class);
+        subtypes.put("labelled", Labelled.class);
+        factory.register(new SubtypeMapping<>(Shape.class, "type", subtypes));
+        return builder.registerTypeAdapterFactory(factory).create();
+    }
+
+    abstract static class Shape {
+    }
+
+    static class Circle extends Shape {
+
+        BigDecimal radius;
+
+        Map<String, List<Integer>> tags;
+
+        String label;
+    }
+
+    static class Rect extends Shape {
+
+        int w;
+
+        int h;
+
+        int area() {
+            return w * h;
+        }
+    }
+
+    static class Square extends Rect {
+
+        String color;
+    }
+
+    static class Labelled extends Shape {
+
+        String type;
+
+        int[] extra;
+    }
+
+    static class Holder {
+
+        Shape first;
+
+        int after;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.adapter;
+
+import com.google.gson.JsonSyntaxException;
+import com.mobaijun.json.gson.GsonUtil;
+import com.mobaijun.json.gson.exception.GsonException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [基本类型数组适配器的解析、序列化与 null 元素处理]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 12:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class PrimitiveArrayTypeAdapterTest {
+
+    @Test
+    void readsPlainAndQuotedNumbersPastTheInitialBuffer() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 40; i++) {
+            json.append(i == 0 ? "" : ",").append(i % 2 == 0 ? String.valueOf(i) : "\"" + i + "\"");
+        }
+        int[] values = GsonUtil.toIntArray(json.append(']').toString());
+        assertEquals(40, values.length);
+        assertEquals(39, values[39]);
+        assertArrayEquals(new long[]{9007199254740993L, -1L}, GsonUtil.toLongArray("[9007199254740993,\" -1 \"]"));
+        assertArrayEquals(new double[]{1.5, 2D}, GsonUtil.toDoubleArray("[1.5,\"2\"]"));
+    }
+
+    @Test
+    void readsKeyedArraysAndMissingKeys() {
+        String json = "{\"skip\":{\"values\":[9]},\"metrics\":{\"values\":[1,2,3]}}";
+        assertArrayEquals(new int[]{1, 2, 3}, GsonUtil.toIntArray(json, "metrics.values"));
+        assertNull(GsonUtil.toIntArray(json, "metrics.missing"));
+    }
+
+    @Test
+    void rejectsNullAndEmptyElements() {
+        assertThrows(GsonException.class, () -> GsonUtil.toIntArray("[1,null]"));
+        assertThrows(GsonException.class, () -> GsonUtil.toLongArray("[\"\"]"));
+        assertThrows(GsonException.class, () -> GsonUtil.toDoubleArray("[\"x\"]"));
+        assertThrows(JsonSyntaxException.class, () -> GsonUtil.toBean("{\"ids\":[1,null]}", Holder.class));
+        assertThrows(JsonSyntaxException.class, () -> GsonUtil.toBean("{\"weights\":[\" \"]}", Holder.class));
+    }
+
+    @Test
+    void bindsBeanFieldsAndNullArrays() {
+        Holder holder = GsonUtil.toBean("{\"ids\":[1,2],\"stamps\":null,\"weights\":[0.5]}", Holder.class);
+        assertArrayEquals(new int[]{1, 2}, holder.ids);
+        assertNull(holder.stamps);
+        assertArrayEquals(new double[]{0.5}, holder.weights);
+        assertEquals("{\"ids\":[1,2],\"weights\":[0.5]}", GsonUtil.toJson(holder));
+    }
+
+    @Test
+    void writesArrays() {
+        assertEquals("[1,-2]", GsonUtil.toJson(new int[]{1, -2}));
+        assertEquals("[9007199254740993]", GsonUtil.toJson(new long[]{9007199254740993L}));
+        assertEquals("[0.25]", GsonUtil.toJson(new double[]{0.25}));
+    }
+
+    static class Holder {
+        int[] ids;
+        long[] stamps;
+        double[] weights;
+    }
+}
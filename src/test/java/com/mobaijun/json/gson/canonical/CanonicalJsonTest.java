@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.canonical;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.mobaijun.json.gson.exception.GsonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [规范化与哈希：一致的严格解析、数字规范化和非有限数字]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 13:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class CanonicalJsonTest {
+
+    @Test
+    void sortsKeysAndNormalizesNumbers() {
+        assertEquals("{\"a\":[1,0,1.5,1e+21,1e-8],\"b\":\"<x>\"}",
+                CanonicalJson.canonicalize("{ \"b\" : \"<x>\", \"a\" : [1.0, -0, 15e-1, 1E21, 0.00000001] }"));
+        assertEquals("123456789012345678901", CanonicalJson.normalizeNumber("123456789012345678901"));
+        assertEquals("-2.5e-9", CanonicalJson.normalizeNumber("-25e-10"));
+    }
+
+    @Test
+    void hashMatchesCanonicalForm() {
+        String left = "{\"a\":1,\"b\":[true,null,\"s\"]}";
+        String right = "{\"b\":[true,null,\"s\"],\"a\":1.00}";
+        assertEquals(CanonicalJson.canonicalize(left), CanonicalJson.canonicalize(right));
+        assertEquals(CanonicalJson.hash(left), CanonicalJson.hash(right));
+        assertEquals(CanonicalJson.hash(left), CanonicalJson.hash(JsonParser.parseString(right)));
+        assertEquals(CanonicalJson.hash(left), CanonicalJson.hash(new StringReader(right)));
+        assertNotEquals(CanonicalJson.hash("{\"a\":1}"), CanonicalJson.hash("{\"a\":\"1\"}"));
+        assertNotEquals(CanonicalJson.hash("[[]]"), CanonicalJson.hash("[]"));
+    }
+
+    @Test
+    void duplicateKeysKeepLastValue() {
+        assertEquals(CanonicalJson.hash("{\"a\":2}"), CanonicalJson.hash("{\"a\":1,\"a\":2}"));
+    }
+
+    @Test
+    void canonicalizeAndHashShareStrictness() {
+        String[] lenient = {"{a:1}", "{'a':1}", "[NaN]", "[Infinity]", "[1] // c", "[1] 2"};
+        for (String json : lenient) {
+            assertThrows(GsonException.class, () -> CanonicalJson.canonicalize(json), json);
+            assertThrows(GsonException.class, () -> CanonicalJson.hash(json), json);
+        }
+    }
+
+    @Test
+    void rejectsNonFiniteNumbersInTrees() {
+        JsonArray array = new JsonArray();
+        array.add(new JsonPrimitive(Double.NaN));
+        JsonObject object = new JsonObject();
+        object.addProperty("x", Double.NEGATIVE_INFINITY);
+        assertThrows(GsonException.class, () -> CanonicalJson.canonicalize(array));
+        assertThrows(GsonException.class, () -> CanonicalJson.hash(array));
+        assertThrows(GsonException.class, () -> CanonicalJson.canonicalize(object));
+        assertThrows(GsonException.class, () -> CanonicalJson.hash(object));
+        NumberFormatException e = assertThrows(NumberFormatException.class, () -> CanonicalJson.normalizeNumber("NaN"));
+        assertEquals("Not a finite JSON number: NaN", e.getMessage());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.filter;
+
+import com.mobaijun.json.gson.GsonUtil;
+import com.mobaijun.json.gson.exception.GsonException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [记录过滤条件：字符串与字节输入上的求值，以及文件扫描]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class RecordFilterTest {
+
+    private static final String RECORD = "{\"id\":10.0,\"name\":\"张三😀\",\"tags\":[1],\"user\":{\"status\":\"on\",\"age\":30},\"flag\":null}";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void stringAndByteInputsAgree() throws IOException {
+        List<RecordFilter> filters = Arrays.asList(
+                RecordFilter.eq("id", 10),
+                RecordFilter.eq("id", "10"),
+                RecordFilter.eq("name", "张三😀"),
+                RecordFilter.eq("user.status", "on").and(RecordFilter.range("user.age", 18, 40)),
+                RecordFilter.range("user.age", 31, null),
+                RecordFilter.eq("flag", null),
+                RecordFilter.eq("tags", 1),
+                RecordFilter.eq("user.status.deep", "on"),
+                RecordFilter.eq("missing", null));
+        boolean[] expected = {true, false, true, true, false, true, false, false, false};
+        // 记录放在更大的数组中间，验证 offset 与 length
+        byte[] record = RECORD.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[record.length + 6];
+        System.arraycopy(record, 0, padded, 3, record.length);
+        for (int i = 0; i < filters.size(); i++) {
+            assertEquals(expected[i], filters.get(i).matches(RECORD), "filter " + i);
+            assertEquals(expected[i], filters.get(i).matches(padded, 3, record.length), "filter " + i);
+        }
+    }
+
+    @Test
+    void nonObjectRecordsNeverMatch() throws IOException {
+        byte[] array = "[1,2]".getBytes(StandardCharsets.UTF_8);
+        assertFalse(RecordFilter.eq("id", 1).matches(array, 0, array.length));
+        assertFalse(RecordFilter.eq("id", 1).matches("\"x\""));
+    }
+
+    @Test
+    void rejectsInvalidFilters() {
+        assertThrows(IllegalArgumentException.class, () -> RecordFilter.range("a", null, null));
+        assertThrows(IllegalArgumentException.class, () -> RecordFilter.range("a", 1, "z"));
+        assertThrows(IllegalArgumentException.class, () -> RecordFilter.eq("a..b", 1));
+        assertThrows(IllegalArgumentException.class, () -> RecordFilter.eq("a", new Object()));
+    }
+
+    @Test
+    void scanFileBindsOnlyMatchingElements() throws IOException {
+        Path file = dir.resolve("records.json");
+        Files.write(file, ("[{\"id\":1,\"city\":\"北京\"},\n {\"id\":2,\"city\":\"上海\"},\n"
+                + " {\"id\":3,\"city\":\"北京\",\"extra\":{\"x\":\"]\"}}]").getBytes(StandardCharsets.UTF_8));
+        List<Map> rows = GsonUtil.scanFile(file.toString(), Map.class, RecordFilter.eq("city", "北京"));
+        assertEquals(2, rows.size());
+        assertEquals(1.0, rows.get(0).get("id"));
+        assertEquals(3.0, rows.get(1).get("id"));
+        assertEquals(1, GsonUtil.scanFile(file.toString(), Map.class, RecordFilter.range("id", 2, 2)).size());
+    }
+
+    @Test
+    void scanFileReportsMalformedMatches() throws IOException {
+        Path file = dir.resolve("bad.json");
+        Files.write(file, "[{\"id\":1,\"x\":}]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(GsonException.class, () -> GsonUtil.scanFile(file.toString(), Map.class, RecordFilter.eq("id", 1)));
+    }
+
+    @Test
+    void scanJsonLinesSkipsBlankLines() {
+        List<Map> rows = GsonUtil.scanJsonLines(new StringReader("{\"id\":1}\n\n{\"id\":2}\n"), Map.class, RecordFilter.eq("id", 2));
+        assertEquals(1, rows.size());
+        assertTrue(rows.get(0).containsKey("id"));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.patch;
+
+import com.google.gson.JsonParser;
+import com.mobaijun.json.gson.GsonUtil;
+import com.mobaijun.json.gson.exception.GsonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [RFC 7396 合并：附录 A 的用例、多层删除与数字原文保留]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 13:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonMergePatchTest {
+
+    @Test
+    void rfc7396AppendixA() {
+        assertMerge("{\"a\":\"b\"}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"b\":\"c\"}", "{\"a\":\"b\",\"b\":\"c\"}");
+        assertMerge("{\"a\":\"b\"}", "{\"a\":null}", "{}");
+        assertMerge("{\"a\":\"b\",\"b\":\"c\"}", "{\"a\":null}", "{\"b\":\"c\"}");
+        assertMerge("{\"a\":[\"b\"]}", "{\"a\":\"c\"}", "{\"a\":\"c\"}");
+        assertMerge("{\"a\":\"c\"}", "{\"a\":[\"b\"]}", "{\"a\":[\"b\"]}");
+        assertMerge("{\"a\":{\"b\":\"c\"}}", "{\"a\":{\"b\":\"d\",\"c\":null}}", "{\"a\":{\"b\":\"d\"}}");
+        assertMerge("{\"a\":[{\"b\":\"c\"}]}", "{\"a\":[1]}", "{\"a\":[1]}");
+        assertMerge("[\"a\",\"b\"]", "[\"c\",\"d\"]", "[\"c\",\"d\"]");
+        assertMerge("{\"a\":\"b\"}", "[\"c\"]", "[\"c\"]");
+        assertMerge("{\"a\":\"foo\"}", "null", "null");
+        assertMerge("{\"a\":\"foo\"}", "\"bar\"", "\"bar\"");
+        assertMerge("{\"e\":null}", "{\"a\":1}", "{\"e\":null,\"a\":1}");
+        assertMerge("[1,2]", "{\"a\":\"b\",\"c\":null}", "{\"a\":\"b\"}");
+        assertMerge("{}", "{\"a\":{\"bb\":{\"ccc\":null}}}", "{\"a\":{\"bb\":{}}}");
+    }
+
+    @Test
+    void nullDeletesAcrossLayers() {
+        String base = "{\"db\":{\"host\":\"a\",\"port\":1},\"debug\":true,\"keep\":[1]}";
+        // 第二层删除第一层新增的字段，第三层再次加入
+        assertEquals(JsonParser.parseString("{\"db\":{\"host\":\"b\",\"user\":\"u\"},\"keep\":[1]}"),
+                JsonParser.parseString(GsonUtil.merge(base,
+                        "{\"db\":{\"host\":\"b\",\"pool\":5},\"debug\":null}",
+                        "{\"db\":{\"port\":null,\"pool\":null,\"user\":\"x\"}}",
+                        "{\"db\":{\"user\":\"u\"}}")));
+        // 删除整个对象后再按字段写入，结果与原对象无关
+        assertEquals(JsonParser.parseString("{\"db\":{\"port\":2},\"debug\":true,\"keep\":[1]}"),
+                JsonParser.parseString(GsonUtil.merge(base, "{\"db\":null}", "{\"db\":{\"port\":2,\"gone\":null}}")));
+        // 删除不存在的字段不产生输出
+        assertEquals(JsonParser.parseString(base), JsonParser.parseString(GsonUtil.merge(base, "{\"missing\":null}")));
+    }
+
+    @Test
+    void preservesNumberTextAndMemberOrder() {
+        assertEquals("{\"a\":1.10,\"b\":9007199254740993,\"c\":2}",
+                GsonUtil.merge("{\"a\":1.10,\"b\":9007199254740993}", "{\"c\":2}"));
+        assertEquals("{\"a\":1.50}", GsonUtil.merge("{\"a\":1}", "{\"a\":1.50}"));
+    }
+
+    @Test
+    void mergesReadersIntoWriter() {
+        List<Reader> overlays = Arrays.asList(new StringReader("{\"a\":{\"x\":1}}"), new StringReader("{\"a\":{\"y\":2}}"));
+        StringWriter out = new StringWriter();
+        JsonMergePatch.merge(new StringReader("{\"a\":{\"z\":0}}"), overlays, out);
+        assertEquals("{\"a\":{\"z\":0,\"x\":1,\"y\":2}}", out.toString());
+        assertEquals("{\"a\":1}", JsonMergePatch.merge("{\"a\":1}"));
+    }
+
+    @Test
+    void rejectsMalformedLayers() {
+        assertThrows(GsonException.class, () -> GsonUtil.merge("{\"a\":1} 2", "{}"));
+        assertThrows(GsonException.class, () -> GsonUtil.merge("{\"a\":1}", "{\"a\":"));
+        assertThrows(IllegalArgumentException.class, JsonMergePatch::merge);
+    }
+
+    private static void assertMerge(String target, String patch, String expected) {
+        assertEquals(JsonParser.parseString(expected), JsonParser.parseString(GsonUtil.merge(target, patch)),
+                () -> target + " + " + patch);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.patch;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mobaijun.json.gson.GsonUtil;
+import com.mobaijun.json.gson.exception.GsonException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [JsonDiff 生成的补丁经 JsonPatch 应用后还原目标文档]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 12:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonPatchTest {
+
+    @Test
+    void diffThenApplyReproducesTarget() {
+        assertRoundTrip("{\"a\":1,\"b\":{\"c\":[1,2,3],\"d\":\"x\"},\"e/f\":true,\"g~h\":null}",
+                "{\"a\":2,\"b\":{\"c\":[1,3],\"n\":{}},\"e/f\":false,\"g~h\":[null],\"new\":\"v\"}", null);
+        assertRoundTrip("[1,2,3]", "[3,2,1,0]", null);
+        assertRoundTrip("{\"a\":[]}", "{\"a\":[{\"b\":1}]}", null);
+        assertRoundTrip("{\"a\":1}", "[\"root\"]", null);
+        assertEquals(1, assertRoundTrip("{\"n\":9007199254740993}", "{\"n\":9007199254740992}", null).size());
+    }
+
+    @Test
+    void keyedArraysMoveInsertAndRemoveById() {
+        String source = "{\"items\":[{\"id\":1,\"v\":\"a\"},{\"id\":2,\"v\":\"b\"},{\"id\":3,\"v\":\"c\"}]}";
+        String target = "{\"items\":[{\"id\":3,\"v\":\"c\"},{\"id\":4,\"v\":\"d\"},{\"id\":1,\"v\":\"A\"}]}";
+        JsonArray patch = assertRoundTrip(source, target, "id");
+        assertTrue(ops(patch).contains("move"));
+        assertTrue(ops(patch).contains("remove"));
+        // 匹配的元素只生成内部差异，不整体替换
+        assertTrue(patch.toString().contains("\"/items/2/v\""));
+    }
+
+    @Test
+    void numericIdsMatchAcrossRepresentations() {
+        JsonArray patch = assertRoundTrip("[{\"id\":1,\"v\":\"a\"}]", "[{\"id\":1.0,\"v\":\"b\"}]", "id");
+        assertEquals(1, patch.size());
+        assertEquals("replace", ops(patch).get(0));
+    }
+
+    @Test
+    void numberAndStringIdsAreDistinct() {
+        JsonArray patch = assertRoundTrip("[{\"id\":1,\"v\":\"a\"}]", "[{\"id\":\"1\",\"v\":\"a\"}]", "id");
+        assertEquals("remove", ops(patch).get(0));
+        assertEquals("add", ops(patch).get(1));
+    }
+
+    @Test
+    void largeNumericIdsAreNotRoundedTogether() {
+        JsonArray patch = JsonDiff.diff(JsonParser.parseString("[{\"id\":9007199254740993}]"),
+                JsonParser.parseString("[{\"id\":9007199254740992}]"), "id");
+        assertEquals("remove", ops(patch).get(0));
+    }
+
+    @Test
+    void applyLeavesTheOriginalUntouchedOnFailure() {
+        JsonElement document = JsonParser.parseString("{\"a\":1}");
+        JsonArray patch = JsonParser.parseString("[{\"op\":\"add\",\"path\":\"/b\",\"value\":2},"
+                + "{\"op\":\"test\",\"path\":\"/a\",\"value\":5}]").getAsJsonArray();
+        assertThrows(GsonException.class, () -> JsonPatch.apply(document, patch));
+        assertEquals(JsonParser.parseString("{\"a\":1}"), document);
+
+        // applyInPlace 不是原子操作，失败前的操作已经写入
+        assertThrows(GsonException.class, () -> JsonPatch.applyInPlace(document, patch));
+        assertEquals(JsonParser.parseString("{\"a\":1,\"b\":2}"), document);
+    }
+
+    @Test
+    void rejectsInvalidOperations() {
+        String document = "{\"a\":[1,2],\"o\":{\"p\":1}}";
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "[{\"op\":\"remove\",\"path\":\"/a/+1\"}]"));
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "[{\"op\":\"remove\",\"path\":\"/a/01\"}]"));
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "[{\"op\":\"remove\",\"path\":\"/a/2\"}]"));
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "[{\"op\":\"move\",\"from\":\"/o\",\"path\":\"/o/q\"}]"));
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "[{\"op\":\"jump\",\"path\":\"/a\"}]"));
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "{\"op\":\"remove\"}"));
+        assertThrows(GsonException.class, () -> GsonUtil.patch(document, "[{\"op\":\"remove\",\"path\":\"a\"}]"));
+    }
+
+    @Test
+    void appliesEveryOperationKind() {
+        String patched = GsonUtil.patch("{\"a\":[1,2],\"o\":{\"p\":1}}", "["
+                + "{\"op\":\"add\",\"path\":\"/a/1\",\"value\":9},"
+                + "{\"op\":\"copy\",\"from\":\"/o\",\"path\":\"/c\"},"
+                + "{\"op\":\"move\",\"from\":\"/o/p\",\"path\":\"/q\"},"
+                + "{\"op\":\"replace\",\"path\":\"/a/0\",\"value\":0},"
+                + "{\"op\":\"remove\",\"path\":\"/a/2\"},"
+                + "{\"op\":\"test\",\"path\":\"/c/p\",\"value\":1.0}]");
+        assertEquals(JsonParser.parseString("{\"a\":[0,9],\"o\":{},\"c\":{\"p\":1},\"q\":1}"), JsonParser.parseString(patched));
+    }
+
+    private static JsonArray assertRoundTrip(String source, String target, String idKey) {
+        JsonElement sourceTree = JsonParser.parseString(source);
+        JsonElement targetTree = JsonParser.parseString(target);
+        JsonArray patch = JsonDiff.diff(sourceTree, targetTree, idKey);
+        assertEquals(targetTree, JsonPatch.apply(sourceTree, patch), patch::toString);
+        assertEquals(JsonParser.parseString(source), sourceTree);
+        return patch;
+    }
+
+    private static List<String> ops(JsonArray patch) {
+        List<String> ops = new ArrayList<>();
+        for (JsonElement operation : patch) {
+            ops.add(((JsonObject) operation).get("op").getAsString());
+        }
+        return ops;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.persistent;
+
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [持久化 JSON 树：路径读写、结构共享与宽对象的哈希索引]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 17:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class PersistentJsonTest {
+
+    @Test
+    void withCopiesOnlyThePathAndKeepsOldVersions() {
+        PersistentJson v1 = PersistentJson.parse("{\"db\":{\"host\":\"a\",\"port\":1},\"routes\":[{\"target\":\"x\"}],\"other\":{\"k\":true}}");
+        PersistentJson v2 = v1.with("db.host", new JsonPrimitive("b"));
+        assertEquals("a", v1.getString("db.host"));
+        assertEquals("b", v2.getString("db.host"));
+        assertSame(v1.get("other"), v2.get("other"));
+        assertSame(v1.get("routes"), v2.get("routes"));
+        assertSame(v1.get("db.port"), v2.get("db.port"));
+        assertSame(v2, v2.with("db.host", v2.get("db.host")));
+
+        PersistentJson v3 = v2.with("routes.1.target", new JsonPrimitive("y")).with("new.deep.key", new JsonPrimitive(3));
+        assertEquals("y", v3.getString("routes.1.target"));
+        assertEquals("3", v3.getString("new.deep.key"));
+        assertEquals(1, v2.get("routes").size());
+        assertThrows(IndexOutOfBoundsException.class, () -> v3.with("routes.5", PersistentJson.NULL));
+    }
+
+    @Test
+    void withoutRemovesMembersAndElements() {
+        PersistentJson json = PersistentJson.parse("{\"a\":{\"b\":1,\"c\":2},\"list\":[1,2,3]}");
+        assertEquals(JsonParser.parseString("{\"a\":{\"c\":2},\"list\":[1,3]}"),
+                json.without("a.b").without("list.1").toJsonElement());
+        assertSame(json, json.without("missing.path"));
+        assertSame(json, json.without("list.9"));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> json.without(""));
+        assertEquals("Cannot remove the root node", e.getMessage());
+    }
+
+    @Test
+    void wideObjectsFindEveryMemberAcrossVersions() {
+        PersistentJson json = PersistentJson.EMPTY_OBJECT;
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            String name = i % 3 == 0 ? "k" + i : "Aa" + i;
+            names.add(name);
+            json = json.with(name, new JsonPrimitive(i));
+        }
+        // 只替换值的版本与删除成员后的版本都能按名称查找
+        PersistentJson replaced = json.with(names.get(150), new JsonPrimitive(-1));
+        PersistentJson removed = json.without(names.get(0)).without(names.get(299));
+        for (int i = 0; i < names.size(); i++) {
+            assertEquals(String.valueOf(i), json.getString(names.get(i)));
+            assertEquals(i == 150 ? "-1" : String.valueOf(i), replaced.getString(names.get(i)));
+            assertEquals(i == 0 || i == 299 ? null : String.valueOf(i), removed.getString(names.get(i)));
+        }
+        assertNull(json.get("absent"));
+        assertEquals(names, json.keys());
+        assertEquals(298, removed.size());
+    }
+
+    @Test
+    void collidingNamesAreResolved() {
+        // "Aa" 与 "BB" 的 hashCode 相同
+        PersistentJson json = PersistentJson.EMPTY_OBJECT;
+        String[] names = {"AaAa", "AaBB", "BBAa", "BBBB", "AaAaAa", "AaAaBB", "AaBBAa", "BBAaAa", "BBBBBB"};
+        for (int i = 0; i < names.length; i++) {
+            json = json.with(names[i], new JsonPrimitive(i));
+        }
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(String.valueOf(i), json.getString(names[i]));
+        }
+        assertNull(json.get("AaAaAaAa"));
+    }
+
+    @Test
+    void equalityFollowsContent() {
+        String text = "{\"a\":[1,{\"b\":null}],\"c\":\"d\"}";
+        assertEquals(PersistentJson.parse(text), PersistentJson.parse(text));
+        assertEquals(PersistentJson.parse(text).hashCode(), PersistentJson.parse(text).hashCode());
+        assertEquals(JsonParser.parseString(text), PersistentJson.parse(text).toJsonElement());
+        assertEquals(text, PersistentJson.parse(text).toString());
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.processor;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mobaijun.json.fastjson.FastJsonUtil;
+import com.mobaijun.json.gson.GsonUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [编译示例实体，检查注解处理器生成的 Gson 适配器和 FastJson 读写器]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 10:20]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class GsonAdapterProcessorTest {
+
+    private static final String SOURCE = "package sample;\n"
+            + "import com.mobaijun.json.gson.annotation.GenerateAdapter;\n"
+            + "import com.google.gson.annotations.SerializedName;\n"
+            + "import java.util.*;\n"
+            + "@GenerateAdapter\n"
+            + "public class Account {\n"
+            + "    int age;\n"
+            + "    long id;\n"
+            + "    double score;\n"
+            + "    boolean active;\n"
+            + "    String userName;\n"
+            + "    @SerializedName(value = \"mail\", alternate = {\"email\"})\n"
+            + "    String mail;\n"
+            + "    transient String secret;\n"
+            + "    List<String> tags;\n"
+            + "    Map<String, Integer> counts;\n"
+            + "    int[] nums;\n"
+            + "    Integer boxed;\n"
+            + "}\n";
+
+    private static final String JSON = "{\"age\":3,\"id\":9007199254740993,\"score\":1.5,\"active\":true,"
+            + "\"user_name\":\"ann\",\"email\":\"a@b.c\",\"secret\":\"s\",\"tags\":[\"x\",\"y\"],"
+            + "\"counts\":{\"k\":1},\"nums\":[1,2],\"boxed\":null,\"unknown\":{\"deep\":[1]}}";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void generatesGsonAdapterMatchingReflection() throws Exception {
+        Class<?> type = compile();
+        Gson reflective = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).create();
+        assertTrue(GsonUtil.getGsonInstance().getAdapter(type).getClass().getName().endsWith("_GsonTypeAdapter"));
+
+        Object generated = GsonUtil.toBean(JSON, type);
+        Object expected = reflective.fromJson(JSON, type);
+        assertEquals(reflective.toJson(expected), reflective.toJson(generated));
+        assertEquals(reflective.toJson(expected), GsonUtil.toJson(generated));
+        assertEquals("a@b.c", field(generated, "mail"));
+        assertNull(field(generated, "secret"));
+    }
+
+    @Test
+    void generatesFastJsonReaderAndWriter() throws Exception {
+        Class<?> type = compile();
+        assertTrue(Files.exists(dir.resolve("classes/sample/Account_FastJsonObjectReader.class")));
+        assertTrue(Files.exists(dir.resolve("classes/sample/Account_FastJsonObjectWriter.class")));
+
+        String json = "{\"age\":3,\"id\":9007199254740993,\"userName\":\"ann\",\"tags\":[\"x\"],"
+                + "\"counts\":{\"k\":1},\"nums\":[1,2],\"unknown\":{\"deep\":[1]}}";
+        Object bean = FastJsonUtil.toBean(json, type);
+        assertEquals(3, field(bean, "age"));
+        assertEquals(9007199254740993L, field(bean, "id"));
+        assertEquals("ann", field(bean, "userName"));
+        assertEquals(Collections.singletonList("x"), field(bean, "tags"));
+        assertTrue(Arrays.equals(new int[]{1, 2}, (int[]) field(bean, "nums")));
+        assertEquals(bean.getClass(), FastJsonUtil.toBean(FastJsonUtil.toJson(bean), type).getClass());
+        assertEquals(FastJsonUtil.toJson(bean), FastJsonUtil.toJson(FastJsonUtil.toBean(FastJsonUtil.toJson(bean), type)));
+    }
+
+    private Class<?> compile() throws IOException, ClassNotFoundException {
+        Path source = dir.resolve("src/sample/Account.java");
+        Path classes = dir.resolve("classes");
+        Files.createDirectories(source.getParent());
+        Files.createDirectories(classes);
+        Files.write(source, SOURCE.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StringWriter output = new StringWriter();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = files.getJavaFileObjects(source.toFile());
+            List<String> options = Arrays.asList("-d", classes.toString(), "-s", classes.toString(),
+                    "-classpath", System.getProperty("java.class.path"));
+            JavaCompiler.CompilationTask task = compiler.getTask(output, files, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new GsonAdapterProcessor()));
+            assertTrue(task.call(), output::toString);
+        }
+        assertTrue(Files.exists(classes.resolve("sample/Account_GsonTypeAdapter.java")), "未生成 Gson 适配器");
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, getClass().getClassLoader());
+        return Class.forName("sample.Account", true, loader);
+    }
+
+    private static Object field(Object bean, String name) throws ReflectiveOperationException {
+        Field field = bean.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(bean);
+    }
+}
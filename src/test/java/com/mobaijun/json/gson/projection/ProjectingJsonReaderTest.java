@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.gson.projection;
+
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.mobaijun.json.gson.GsonUtil;
+import com.mobaijun.json.gson.exception.GsonException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [按投影过滤的 JsonReader 只向适配器暴露选中的成员]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class ProjectingJsonReaderTest {
+
+    private static final String JSON = "{\"id\":7,\"name\":\"ann\",\"secret\":{\"deep\":[1,{\"x\":2}]},"
+            + "\"user\":{\"city\":\"x\",\"zip\":\"y\",\"tags\":[\"a\"]},"
+            + "\"orders\":[{\"sku\":\"s1\",\"qty\":1},{\"sku\":\"s2\",\"qty\":2},3],"
+            + "\"counts\":{\"k\":1,\"j\":2}}";
+
+    @Test
+    void bindsOnlySelectedPaths() {
+        Account account = GsonUtil.toBean(JSON, Account.class, Arrays.asList("id", "user.city", "orders.sku"));
+        assertEquals(7, account.id);
+        assertNull(account.name);
+        assertEquals("x", account.user.city);
+        assertNull(account.user.zip);
+        assertNull(account.user.tags);
+        assertEquals(3, account.orders.size());
+        assertEquals("s1", account.orders.get(0).sku);
+        assertEquals(0, account.orders.get(0).qty);
+        assertEquals("s2", account.orders.get(1).sku);
+        // 路径要求对象但元素是基本值，以 null 呈现
+        assertNull(account.orders.get(2));
+        assertNull(account.counts);
+    }
+
+    @Test
+    void bindsWholeSelectedValuesIncludingMaps() {
+        Account account = GsonUtil.toBean(JSON, Account.class, Arrays.asList("counts", "user"));
+        assertEquals(2, account.counts.size());
+        assertEquals(Integer.valueOf(2), account.counts.get("j"));
+        assertEquals(Collections.singletonList("a"), account.user.tags);
+        assertEquals("y", account.user.zip);
+    }
+
+    @Test
+    void skipsPrimitiveWhereObjectIsRequired() {
+        Account account = GsonUtil.toBean("{\"id\":1,\"user\":\"flat\"}", Account.class, Arrays.asList("id", "user.city"));
+        assertEquals(1, account.id);
+        assertNull(account.user);
+    }
+
+    @Test
+    void matchesTreeProjection() throws IOException {
+        FieldProjection projection = FieldProjection.of(Arrays.asList("name", "user.tags", "orders.qty"));
+        assertEquals(GsonUtil.project(JSON, projection), JsonParser.parseReader(projection.filter(new StringReader(JSON))));
+    }
+
+    @Test
+    void endObjectSkipsRemainingUnselectedMembers() throws IOException {
+        JsonReader reader = FieldProjection.of(Collections.singletonList("id")).filter(new StringReader(JSON));
+        reader.beginObject();
+        assertEquals("id", reader.nextName());
+        assertEquals(7, reader.nextInt());
+        reader.endObject();
+        assertEquals(JsonToken.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void skipValueOnNameSkipsOnlyTheName() throws IOException {
+        JsonReader reader = FieldProjection.of(Collections.singletonList("name")).filter(new StringReader(JSON));
+        reader.beginObject();
+        assertEquals(JsonToken.NAME, reader.peek());
+        reader.skipValue();
+        assertEquals(JsonToken.STRING, reader.peek());
+        assertEquals("ann", reader.nextString());
+        assertFalse(reader.hasNext());
+        reader.endObject();
+    }
+
+    @Test
+    void rejectsTrailingContent() {
+        assertThrows(GsonException.class,
+                () -> GsonUtil.toBean("{\"id\":1} {\"id\":2}", Account.class, Collections.singletonList("id")));
+        assertThrows(GsonException.class,
+                () -> GsonUtil.project("{\"id\":1} 2", FieldProjection.of(Collections.singletonList("id"))));
+    }
+
+    static class Account {
+        int id;
+        String name;
+        User user;
+        List<Order> orders;
+        Map<String, Integer> counts;
+    }
+
+    static class User {
+        String city;
+        String zip;
+        List<String> tags;
+    }
+
+    static class Order {
+        String sku;
+        int qty;
+    }
+}
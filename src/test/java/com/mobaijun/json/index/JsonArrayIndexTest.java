@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.index;
+
+import com.mobaijun.json.gson.GsonUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [JSON 数组索引：范围读取、过期重建与缓存]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:00]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonArrayIndexTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsSingleElementsAndRanges() throws IOException {
+        List<String> elements = Arrays.asList("1", "\"a]b,\\\"c\"", "{\"x\":[1,{\"y\":\"}\"}]}", "null", "[]", "\"零😀\"");
+        Path file = write("small.json", " [ " + String.join(" ,\n", elements) + " ] ");
+        JsonArrayIndex index = JsonArrayIndex.open(file.toString());
+        assertEquals(elements.size(), index.size());
+        for (int i = 0; i < elements.size(); i++) {
+            assertEquals(elements.get(i), index.read(i));
+        }
+        assertEquals(elements.subList(1, 4), index.read(1, 4));
+        assertTrue(index.read(3, 3).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> index.read(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.read(2, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.read(4, 3));
+    }
+
+    @Test
+    void rangesSpanCheckpointsAndReadRegions() throws IOException {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            // 部分元素大于读取缓冲区，连续读取的区域会被拆分
+            elements.add(i % 1000 == 999 ? "\"" + String.join("", Collections.nCopies(70_000, "z")) + "\"" : "{\"id\":" + i + "}");
+        }
+        Path file = write("large.json", "[" + String.join(",", elements) + "]");
+        JsonArrayIndex index = JsonArrayIndex.open(file.toString());
+        assertEquals(elements, index.read(0, elements.size()));
+        assertEquals(elements.subList(127, 385), index.read(127, 385));
+        assertEquals(elements.get(2048), index.read(2048));
+        assertEquals(elements.get(2999), index.read(2999));
+    }
+
+    @Test
+    void openReusesTheCachedIndexUntilTheFileChanges() throws IOException {
+        Path file = write("cached.json", "[1,2,3]");
+        JsonArrayIndex first = JsonArrayIndex.open(file.toString());
+        assertSame(first, JsonArrayIndex.open(file.toString()));
+        assertSame(first, JsonArrayIndex.open(dir.resolve(".").resolve("cached.json").toString()));
+
+        write("cached.json", "[1,2,3,4]");
+        JsonArrayIndex grown = JsonArrayIndex.open(file.toString());
+        assertNotSame(first, grown);
+        assertTrue(first.isStale());
+        assertFalse(grown.isStale());
+        assertEquals(4, grown.size());
+        assertEquals("4", grown.read(3));
+    }
+
+    @Test
+    void sameSizeRewriteIsDetectedByModificationTime() throws IOException {
+        Path file = write("mtime.json", "[1,2,3]");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000_000L));
+        assertEquals("2", JsonArrayIndex.open(file.toString()).read(1));
+
+        write("mtime.json", "[7, 8]");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000_000L));
+        JsonArrayIndex index = JsonArrayIndex.open(file.toString());
+        assertEquals(2, index.size());
+        assertEquals("8", index.read(1));
+    }
+
+    @Test
+    void staleOrCorruptedSidecarIsRebuilt() throws IOException {
+        Path file = write("sidecar.json", "[\"a\",\"b\"]");
+        JsonArrayIndex.build(file.toString());
+        assertTrue(Files.exists(dir.resolve("sidecar.json" + JsonArrayIndex.SUFFIX)));
+        assertEquals(2, JsonArrayIndex.load(file.toString()).size());
+
+        write("sidecar.json" + JsonArrayIndex.SUFFIX, "garbage");
+        assertThrows(IOException.class, () -> JsonArrayIndex.load(file.toString()));
+        write("sidecar.json", "[\"a\",\"b\",\"c\"]");
+        assertEquals("\"c\"", JsonArrayIndex.open(file.toString()).read(2));
+        assertEquals(3, JsonArrayIndex.load(file.toString()).size());
+    }
+
+    @Test
+    void missingDataFileFails() {
+        String missing = dir.resolve("missing.json").toString();
+        assertThrows(IOException.class, () -> JsonArrayIndex.open(missing));
+        assertThrows(IOException.class, () -> JsonArrayIndex.load(missing));
+    }
+
+    @Test
+    void gsonUtilDecodesIndexedElements() throws IOException {
+        Path file = write("beans.json", "[{\"id\":1},{\"id\":2},{\"id\":3}]");
+        assertEquals(2.0, GsonUtil.toFileElement(file.toString(), 1, Map.class).get("id"));
+        List<Map> range = GsonUtil.toFileRange(file.toString(), 1, 3, Map.class);
+        assertEquals(2, range.size());
+        assertEquals(3.0, range.get(1).get("id"));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.parallel;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [并行读取 JSON Lines：块边界、换行变体与错误定位]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 14:30]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class ParallelJsonLinesReaderTest {
+
+    /**
+     * 包含多字节字符、CRLF、空行、超过块大小的长记录，且末行没有换行符
+     */
+    private static final String CONTENT = "{\"id\":1,\"name\":\"零\"}\n"
+            + "\n"
+            + "{\"id\":2,\"name\":\"é\"}\r\n"
+            + "   \n"
+            + "{\"id\":3,\"name\":\"" + repeat('x', 100) + "\"}\n"
+            + "{\"id\":4,\"name\":\"😀\"}\n"
+            + "{\"id\":5,\"name\":\"end\"}";
+
+    private static final List<String> EXPECTED = Arrays.asList(
+            "{\"id\":1,\"name\":\"零\"}",
+            "{\"id\":2,\"name\":\"é\"}",
+            "{\"id\":3,\"name\":\"" + repeat('x', 100) + "\"}",
+            "{\"id\":4,\"name\":\"😀\"}",
+            "{\"id\":5,\"name\":\"end\"}");
+
+    private static ForkJoinPool pool;
+
+    @TempDir
+    Path dir;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void everyChunkSizeYieldsTheSameRecordsInOrder() throws IOException {
+        String path = write("records.jsonl", CONTENT);
+        int size = CONTENT.getBytes(StandardCharsets.UTF_8).length;
+        for (int chunkSize = 1; chunkSize <= size + 1; chunkSize++) {
+            assertEquals(EXPECTED, reader(chunkSize).read(path), "chunkSize=" + chunkSize);
+        }
+    }
+
+    @Test
+    void unorderedDeliveryCoversEveryRecordOnce() throws IOException {
+        String path = write("records.jsonl", CONTENT);
+        for (int chunkSize : new int[]{1, 7, 40, 1 << 20}) {
+            ConcurrentLinkedQueue<String> seen = new ConcurrentLinkedQueue<>();
+            reader(chunkSize).forEach(path, seen::add);
+            List<String> sorted = new ArrayList<>(seen);
+            Collections.sort(sorted);
+            List<String> expected = new ArrayList<>(EXPECTED);
+            Collections.sort(expected);
+            assertEquals(expected, sorted, "chunkSize=" + chunkSize);
+        }
+    }
+
+    @Test
+    void manyChunksKeepFileOrder() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("{\"id\":").append(i).append("}\n");
+        }
+        String path = write("many.jsonl", builder.toString());
+        List<Integer> ids = new ParallelJsonLinesReader<>(line -> Integer.valueOf(line.substring(6, line.length() - 1)), pool, 64)
+                .read(path);
+        assertEquals(5000, ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(i, ids.get(i).intValue());
+        }
+    }
+
+    @Test
+    void emptyAndBlankFilesYieldNothing() throws IOException {
+        assertTrue(reader(4).read(write("empty.jsonl", "")).isEmpty());
+        assertTrue(reader(4).read(write("blank.jsonl", "\n\r\n  \n")).isEmpty());
+    }
+
+    @Test
+    void decodeFailureReportsByteOffset() throws IOException {
+        String path = write("bad.jsonl", "{\"id\":1}\nbad\n{\"id\":3}\n");
+        ParallelJsonLinesReader<String> reader = new ParallelJsonLinesReader<>(line -> {
+            if (!line.startsWith("{")) {
+                throw new IllegalArgumentException(line);
+            }
+            return line;
+        }, pool, 4);
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> reader.read(path));
+        // ForkJoinTask 可能在调用线程上重建异常，消息中仍包含原始消息
+        assertTrue(e.getMessage().contains("byte offset 9"), e.getMessage());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelJsonLinesReader<>(Function.identity(), pool, 0));
+        assertThrows(UncheckedIOException.class, () -> reader(4).read(dir.resolve("missing.jsonl").toString()));
+    }
+
+    private static ParallelJsonLinesReader<String> reader(int chunkSize) {
+        return new ParallelJsonLinesReader<>(Function.identity(), pool, chunkSize);
+    }
+
+    private String write(String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toString();
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
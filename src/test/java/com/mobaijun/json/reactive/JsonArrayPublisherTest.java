@@ -0,0 +1,257 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.reactive;
+
+import com.mobaijun.json.gson.GsonPublishers;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [JsonArrayPublisher 的背压、取消与关闭]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonArrayPublisherTest {
+
+    @Test
+    void decodesOnlyWhatWasRequested() {
+        CountingSource source = new CountingSource(5);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        new JsonArrayPublisher<>(() -> source, null).subscribe(subscriber);
+
+        assertEquals(0, source.decoded.get());
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(0, 1), subscriber.values);
+        assertEquals(2, source.decoded.get());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(3);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), subscriber.values);
+        // 需求恰好用完时不探测数组结束，完成信号等到下一次 request
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.completed);
+        assertTrue(source.closed.get());
+    }
+
+    @Test
+    void cancelStopsDecodingAndClosesTheSource() {
+        CountingSource source = new CountingSource(100);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        subscriber.cancelAfter = 3;
+        new JsonArrayPublisher<>(() -> source, null).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(Arrays.asList(0, 1, 2), subscriber.values);
+        assertEquals(3, source.decoded.get());
+        assertTrue(source.closed.get());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void cancelBeforeFirstRequestClosesTheResource() {
+        AtomicBoolean opened = new AtomicBoolean();
+        AtomicBoolean resourceClosed = new AtomicBoolean();
+        Closeable resource = () -> resourceClosed.set(true);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        new JsonArrayPublisher<Integer>(() -> {
+            opened.set(true);
+            return new CountingSource(1);
+        }, resource, null).subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertFalse(opened.get());
+        assertTrue(resourceClosed.get());
+    }
+
+    @Test
+    void nonPositiveRequestSignalsError() {
+        CountingSource source = new CountingSource(3);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        new JsonArrayPublisher<>(() -> source, null).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.values.isEmpty());
+    }
+
+    @Test
+    void allowsASingleSubscriber() {
+        JsonArrayPublisher<Integer> publisher = new JsonArrayPublisher<>(() -> new CountingSource(1), null);
+        publisher.subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        publisher.subscribe(second);
+
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    void requestFromOnNextDoesNotRecurse() {
+        int count = 100_000;
+        CountingSource source = new CountingSource(count);
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        subscriber.requestOnNext = true;
+        new JsonArrayPublisher<>(() -> source, null).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertEquals(count, subscriber.values.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void gsonPublisherDecodesOnTheExecutor() throws InterruptedException {
+        byte[] json = "[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]".getBytes(StandardCharsets.UTF_8);
+        TrackingStream stream = new TrackingStream(json);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Publisher<Item> publisher = GsonPublishers.toPublisher(stream, Item.class, executor);
+            RecordingSubscriber<Item> subscriber = new RecordingSubscriber<>();
+            publisher.subscribe(subscriber);
+            subscriber.subscription.request(Long.MAX_VALUE);
+
+            assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+            assertEquals(3, subscriber.values.size());
+            assertEquals("c", subscriber.values.get(2).name);
+            assertTrue(subscriber.completed);
+            assertTrue(stream.closed);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void gsonPublisherClosesTheStreamWhenCancelledEarly() {
+        TrackingStream stream = new TrackingStream("[1,2]".getBytes(StandardCharsets.UTF_8));
+        RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<>();
+        GsonPublishers.toPublisher(stream, Integer.class).subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertTrue(stream.closed);
+    }
+
+    static class Item {
+        String name;
+    }
+
+    private static final class TrackingStream extends ByteArrayInputStream {
+
+        private volatile boolean closed;
+
+        private TrackingStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    private static final class CountingSource implements ElementSource<Integer> {
+
+        private final int size;
+
+        private final AtomicInteger decoded = new AtomicInteger();
+
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private CountingSource(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return decoded.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+            return decoded.getAndIncrement();
+        }
+
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    private static final class RecordingSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> values = new ArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private Subscription subscription;
+
+        private volatile boolean completed;
+
+        private volatile Throwable error;
+
+        private int cancelAfter = -1;
+
+        private boolean requestOnNext;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T value) {
+            values.add(value);
+            if (values.size() == cancelAfter) {
+                subscription.cancel();
+            }
+            if (requestOnNext) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import com.mobaijun.json.gson.GsonUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Description: [压缩文件的追加写入与连续解压]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 14:10]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class JsonFilesTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void compressionFollowsExtension() {
+        assertEquals(Compression.GZIP, Compression.of("a.json.GZ"));
+        assertEquals(Compression.DEFLATE, Compression.of("a.jsonl.deflate"));
+        assertEquals(Compression.DEFLATE, Compression.of("a.zz"));
+        assertEquals(Compression.NONE, Compression.of("a.json"));
+    }
+
+    @Test
+    void appendedDeflateStreamsAreReadBackToBack() throws IOException {
+        assertAppendedStreamsReadBack(dir.resolve("data.deflate").toString());
+    }
+
+    @Test
+    void appendedGzipMembersAreReadBackToBack() throws IOException {
+        assertAppendedStreamsReadBack(dir.resolve("data.gz").toString());
+    }
+
+    @Test
+    void emptyAppendedStreamIsSkipped() throws IOException {
+        String path = dir.resolve("empty.deflate").toString();
+        write(path, "a\n");
+        write(path, "");
+        write(path, "b\n");
+        try (BufferedReader reader = JsonFiles.newReader(path)) {
+            assertEquals("a", reader.readLine());
+            assertEquals("b", reader.readLine());
+            assertNull(reader.readLine());
+        }
+    }
+
+    @Test
+    void singleByteReadsCrossStreamBoundaries() throws IOException {
+        String path = dir.resolve("bytes.deflate").toString();
+        write(path, "xy");
+        write(path, "z");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = JsonFiles.newInputStream(path)) {
+            int b;
+            while ((b = in.read()) != -1) {
+                bytes.write(b);
+            }
+        }
+        assertArrayEquals("xyz".getBytes(StandardCharsets.US_ASCII), bytes.toByteArray());
+    }
+
+    @Test
+    void jsonLinesAppendedToCompressedFiles() {
+        for (String name : Arrays.asList("rows.jsonl.gz", "rows.jsonl.deflate")) {
+            String path = dir.resolve(name).toString();
+            GsonUtil.toJsonLinesFile(path, Arrays.asList(Collections.singletonMap("id", 1), Collections.singletonMap("id", 2)));
+            GsonUtil.toJsonLinesFile(path, Collections.singletonList(Collections.singletonMap("id", 3)));
+            List<Map> rows = GsonUtil.toJsonLinesList(path, Map.class);
+            assertEquals(3, rows.size(), name);
+            assertEquals(3.0, rows.get(2).get("id"), name);
+        }
+    }
+
+    /**
+     * 写入多个大小不一的数据流，其中一些大于缓冲区，使数据流边界落在缓冲区的不同位置
+     */
+    private static void assertAppendedStreamsReadBack(String path) throws IOException {
+        Random random = new Random(7);
+        List<String> expected = new ArrayList<>();
+        for (int chunk = 0; chunk < 6; chunk++) {
+            StringBuilder builder = new StringBuilder();
+            int lines = chunk % 2 == 0 ? 3 : 20_000;
+            for (int i = 0; i < lines; i++) {
+                String line = chunk + ":" + i + ":" + Long.toHexString(random.nextLong());
+                expected.add(line);
+                builder.append(line).append('\n');
+            }
+            write(path, builder.toString());
+        }
+        List<String> actual = new ArrayList<>();
+        try (BufferedReader reader = JsonFiles.newReader(path)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                actual.add(line);
+            }
+        }
+        assertEquals(expected, actual);
+    }
+
+    private static void write(String path, String text) throws IOException {
+        try (BufferedWriter writer = JsonFiles.newWriter(path, true)) {
+            writer.write(text);
+        }
+    }
+}
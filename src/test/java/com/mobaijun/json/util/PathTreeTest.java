@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Description: [字段路径树的构建与缓存]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 11:05]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class PathTreeTest {
+
+    @Test
+    void parentSelectionWinsOverDeeperPaths() {
+        PathTree tree = PathTree.of(Arrays.asList("user.city", "user", "user.zip", "id"));
+        assertTrue(tree.child("user").selectsAll());
+        assertTrue(tree.child("id").selectsAll());
+        assertNull(tree.child("city"));
+    }
+
+    @Test
+    void nestedPathsShareTheirParent() {
+        PathTree tree = PathTree.of(Arrays.asList("a.b.c", "a.d"));
+        PathTree a = tree.child("a");
+        assertFalse(a.selectsAll());
+        assertTrue(a.child("d").selectsAll());
+        assertTrue(a.child("b").child("c").selectsAll());
+    }
+
+    @Test
+    void cachesByContentAndCopiesTheKey() {
+        List<String> paths = new ArrayList<>(Arrays.asList("cache.one", "cache.two"));
+        PathTree tree = PathTree.of(paths);
+        assertSame(tree, PathTree.of(Arrays.asList("cache.one", "cache.two")));
+        paths.add("cache.three");
+        assertNull(PathTree.of(Arrays.asList("cache.one", "cache.two")).child("cache").child("three"));
+    }
+
+    @Test
+    void namesAreNotSplit() {
+        PathTree tree = PathTree.ofNames(Collections.singletonList("a.b"));
+        assertNotNull(tree.child("a.b"));
+        assertNull(tree.child("a"));
+    }
+
+    @Test
+    void rejectsEmptyPaths() {
+        assertThrows(IllegalArgumentException.class, () -> PathTree.of(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> PathTree.of(Collections.singletonList("a..b")));
+    }
+}
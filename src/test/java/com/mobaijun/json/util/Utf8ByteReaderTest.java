@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2022 [mobaijun]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.mobaijun.json.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Description: [字节数组上的 UTF-8 解码]
+ * Author: [mobaijun]
+ * Date: [2026/10/19 15:40]
+ * IntelliJ IDEA Version: [IntelliJ IDEA 2023.1.4]
+ */
+class Utf8ByteReaderTest {
+
+    @Test
+    void decodesLikeStringForEveryReadSize() throws IOException {
+        String text = "aé中😀z\u0000߿￿􏿿";
+        byte[] bytes = ("--" + text + "--").getBytes(StandardCharsets.UTF_8);
+        int length = bytes.length - 4;
+        for (int size = 1; size <= 8; size++) {
+            assertEquals(text, readAll(new Utf8ByteReader(bytes, 2, length), size), "size=" + size);
+        }
+    }
+
+    @Test
+    void malformedBytesBecomeReplacementCharacters() throws IOException {
+        byte[] bytes = {'a', (byte) 0xC0, (byte) 0x80, 'b', (byte) 0xE4, (byte) 0xB8, 'c', (byte) 0xED, (byte) 0xA0, (byte) 0x80, (byte) 0xF0};
+        assertEquals("a��b��c����", readAll(new Utf8ByteReader(bytes, 0, bytes.length), 4));
+    }
+
+    @Test
+    void rejectsOutOfRangeSlices() {
+        assertThrows(IndexOutOfBoundsException.class, () -> new Utf8ByteReader(new byte[4], 2, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> new Utf8ByteReader(new byte[4], -1, 1));
+    }
+
+    private static String readAll(Reader reader, int size) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        char[] buffer = new char[size];
+        int n;
+        while ((n = reader.read(buffer, 0, size)) != -1) {
+            builder.append(buffer, 0, n);
+        }
+        return builder.toString();
+    }
+}